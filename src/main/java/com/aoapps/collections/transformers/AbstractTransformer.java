@@ -1,6 +1,6 @@
 /*
  * ao-collections-transformers - Bi-directional collection transformations for Java.
- * Copyright (C) 2020, 2021, 2022, 2025  AO Industries, Inc.
+ * Copyright (C) 2020, 2021, 2022, 2025, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -26,6 +26,15 @@ package com.aoapps.collections.transformers;
 /**
  * Performs type conversions between two classes.
  *
+ * <p>Every conversion, including those of {@link #unbounded()} and {@link #invert()}, that exceeds the configured
+ * threshold is reported as a {@code com.aoapps.collections.transformers.TransformerSlowConversion} Flight Recorder
+ * event, which is disabled by default.  Subclasses implement {@link #doToWrapped(java.lang.Object)} and
+ * {@link #doFromWrapped(java.lang.Object)}, which are timed by {@link #toWrapped(java.lang.Object)} and
+ * {@link #fromWrapped(java.lang.Object)}.</p>
+ *
+ * <p>Conversions through {@link #unbounded()} serve queries, such as {@link java.util.Collection#contains(java.lang.Object)},
+ * and are performed by {@link #toWrappedForQuery(java.lang.Object)} and {@link #fromWrappedForQuery(java.lang.Object)}.</p>
+ *
  * @param  <E>  The wrapper type
  * @param  <W>  The wrapped type
  *
@@ -49,36 +58,109 @@ public abstract class AbstractTransformer<E, W> implements Transformer<E, W> {
   ) {
     this.eClass = eClass;
     this.wClass = wClass;
-    this.inverted = new FunctionalTransformer<>(
-        wClass,
-        eClass,
-        this::fromWrapped,
-        this::toWrapped,
-        this
-    );
+    this.inverted = new Inverse<>(this);
   }
 
   /**
-   * Creates a new type converter.
-   *
-   * @param eClass The wrapper type
-   * @param wClass The wrapped type
+   * Creates the inverse of a transformer.
    */
-  AbstractTransformer(
-      Class<E> eClass,
-      Class<W> wClass,
-      AbstractTransformer<W, E> inverted
-  ) {
-    this.eClass = eClass;
-    this.wClass = wClass;
+  private AbstractTransformer(AbstractTransformer<W, E> inverted) {
+    this.eClass = inverted.wClass;
+    this.wClass = inverted.eClass;
     this.inverted = inverted;
   }
 
+  /**
+   * The inverse of a transformer, converting by its implementation so each conversion is timed once.  Slow
+   * conversions are reported as the original transformer, in the opposite direction.
+   */
+  static final class Inverse<W, E> extends AbstractTransformer<W, E> {
+    private Inverse(AbstractTransformer<E, W> original) {
+      super(original);
+    }
+
+    @Override
+    protected E doToWrapped(W w) {
+      return inverted.doFromWrapped(w);
+    }
+
+    @Override
+    protected W doFromWrapped(E e) {
+      return inverted.doToWrapped(e);
+    }
+
+    @Override
+    protected E toWrappedForQuery(W w) {
+      return inverted.fromWrappedForQuery(w);
+    }
+
+    @Override
+    protected W fromWrappedForQuery(E e) {
+      return inverted.toWrappedForQuery(e);
+    }
+  }
+
+  /**
+   * Converts to the wrapped type by {@link #doToWrapped(java.lang.Object)}, reporting when slow.
+   */
   @Override
-  public abstract W toWrapped(E e);
+  public final W toWrapped(E e) {
+    TransformerSlowConversionEvent event = new TransformerSlowConversionEvent();
+    event.begin();
+    W w = doToWrapped(e);
+    event.commit(this, TransformerSlowConversionEvent.TO_WRAPPED);
+    return w;
+  }
 
+  /**
+   * Converts to the wrapper type by {@link #doFromWrapped(java.lang.Object)}, reporting when slow.
+   */
   @Override
-  public abstract E fromWrapped(W w);
+  public final E fromWrapped(W w) {
+    TransformerSlowConversionEvent event = new TransformerSlowConversionEvent();
+    event.begin();
+    E e = doFromWrapped(w);
+    event.commit(this, TransformerSlowConversionEvent.FROM_WRAPPED);
+    return e;
+  }
+
+  /**
+   * Performs the conversion to the wrapped type.
+   *
+   * @see  #toWrapped(java.lang.Object)
+   */
+  protected abstract W doToWrapped(E e);
+
+  /**
+   * Performs the conversion to the wrapper type.
+   *
+   * @see  #fromWrapped(java.lang.Object)
+   */
+  protected abstract E doFromWrapped(W w);
+
+  /**
+   * Converts to the wrapped type for a query through {@link #unbounded()}.  Transformers that assign wrapped values on
+   * demand, such as {@link DictionaryTransformer}, override this to return a wrapped value found nowhere, in place of
+   * assigning one only to be looked up.
+   *
+   * @param  e  never {@code null}
+   *
+   * @return  {@link #toWrapped(java.lang.Object)} by default
+   */
+  protected W toWrappedForQuery(E e) {
+    return toWrapped(e);
+  }
+
+  /**
+   * Converts to the wrapper type for a query through {@link #unbounded()}.
+   *
+   * @param  w  never {@code null}
+   *
+   * @return  {@link #fromWrapped(java.lang.Object)} by default
+   */
+  protected E fromWrappedForQuery(W w) {
+    return fromWrapped(w);
+  }
 
   private final Transformer<Object, Object> unbouned = new Transformer<>() {
     /**
@@ -88,7 +170,7 @@ public abstract class AbstractTransformer<E, W> implements Transformer<E, W> {
      */
     @Override
     public Object toWrapped(Object e) {
-      return eClass.isInstance(e) ? AbstractTransformer.this.toWrapped(eClass.cast(e)) : e;
+      return eClass.isInstance(e) ? toWrappedForQuery(eClass.cast(e)) : e;
     }
 
     /**
@@ -98,7 +180,7 @@ public abstract class AbstractTransformer<E, W> implements Transformer<E, W> {
      */
     @Override
     public Object fromWrapped(Object w) {
-      return wClass.isInstance(w) ? AbstractTransformer.this.fromWrapped(wClass.cast(w)) : w;
+      return wClass.isInstance(w) ? fromWrappedForQuery(wClass.cast(w)) : w;
     }
 
     @Override
@@ -0,0 +1,95 @@
+/*
+ * ao-collections-transformers - Bi-directional collection transformations for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections-transformers.
+ *
+ * ao-collections-transformers is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections-transformers is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections-transformers.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections.transformers;
+
+/**
+ * Tracks the reads and writes of an adaptive view to decide when materializing its transformed contents pays off.
+ *
+ * <p>A copy is worth building once the conversions performed since the last change have reached the cost of the
+ * copy itself, which bounds the total conversions to twice the optimum regardless of access pattern.  The copy
+ * is additionally only built while reads outnumber writes by the given ratio, with both counts decaying over time
+ * so the decision follows the current access frequency.</p>
+ *
+ * <p>Updates are not synchronized.  Lost updates from concurrent readers only delay a decision.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+final class AccessTracker {
+
+  /**
+   * The default number of reads per write required before materializing.
+   */
+  static final double DEFAULT_READ_WRITE_RATIO = 4;
+
+  /**
+   * Read and write counts are halved after this many accesses.
+   */
+  private static final int DECAY_INTERVAL = 1 << 10;
+
+  private final double readWriteRatio;
+
+  private int reads;
+  private int writes;
+  private int accesses;
+  private long conversionsSinceChange;
+
+  AccessTracker(double readWriteRatio) {
+    if (!(readWriteRatio >= 0)) {
+      throw new IllegalArgumentException("readWriteRatio < 0: " + readWriteRatio);
+    }
+    this.readWriteRatio = readWriteRatio;
+  }
+
+  private void tick() {
+    if (++accesses >= DECAY_INTERVAL) {
+      reads >>>= 1;
+      writes >>>= 1;
+      accesses = 0;
+    }
+  }
+
+  /**
+   * Records a read performed lazily.
+   *
+   * @param  conversions  The number of conversions performed by the read
+   * @param  materializationCost  The number of conversions required to materialize the view
+   *
+   * @return  {@code true} when the view should be materialized
+   */
+  boolean read(long conversions, long materializationCost) {
+    reads++;
+    tick();
+    conversionsSinceChange += conversions;
+    return conversionsSinceChange >= materializationCost && reads >= readWriteRatio * writes;
+  }
+
+  /**
+   * Records a write through the view or a change detected in the wrapped collection.
+   */
+  void write() {
+    writes++;
+    tick();
+    conversionsSinceChange = 0;
+  }
+}
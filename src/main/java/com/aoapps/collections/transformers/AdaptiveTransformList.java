@@ -0,0 +1,365 @@
+/*
+ * ao-collections-transformers - Bi-directional collection transformations for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections-transformers.
+ *
+ * ao-collections-transformers is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections-transformers is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections-transformers.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections.transformers;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * Wraps a {@link List}, with optional type conversion, switching between lazy conversion and a materialized
+ * copy of the transformed elements depending on how it is used.
+ *
+ * <p>The list starts lazy, converting on every access like {@link TransformList}.  Once reads have performed as many
+ * conversions as a full copy would cost, and reads sufficiently outnumber writes, the transformed elements are
+ * materialized and subsequent reads are served from the copy without conversion.  Any change through this list drops
+ * back to lazy mode.  Removals that remove nothing, such as {@link #remove(java.lang.Object)} of an absent element, are
+ * not counted as writes.</p>
+ *
+ * <p>Changes made directly to the wrapped list are detected on access: each element read from the wrapped list is
+ * compared, by identity then {@link Object#equals(java.lang.Object)}, with the element it was materialized from.  Any
+ * mismatch drops back to lazy mode.  Since elements are considered value types, an equal wrapped element always
+ * converts to an equal wrapper element.</p>
+ *
+ * <p>Materialization is reported as a {@code com.aoapps.collections.transformers.ViewMaterialization} Flight Recorder
+ * event.  Concurrent readers are safe to the extent the wrapped list is: the materialized copy is safely
+ * published, and races on the access statistics only delay a decision.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+@SuppressWarnings("EqualsAndHashcode")
+public class AdaptiveTransformList<E, W> extends TransformList<E, W> {
+
+  /**
+   * Wraps a list.
+   * <ol>
+   * <li>If the given list implements {@link RandomAccess}, then the returned list will also implement {@link RandomAccess}.</li>
+   * </ol>
+   *
+   * @param  readWriteRatio  The number of reads per write required before materializing
+   */
+  public static <E, W> AdaptiveTransformList<E, W> of(List<W> list, Transformer<E, W> transformer, double readWriteRatio) {
+    if (list instanceof RandomAccess) {
+      return new RandomAccessAdaptiveTransformList<>(list, transformer, readWriteRatio);
+    }
+    return (list == null) ? null : new AdaptiveTransformList<>(list, transformer, readWriteRatio);
+  }
+
+  /**
+   * Wraps a list, materializing once reads outnumber writes four to one.
+   *
+   * @see  AdaptiveTransformList#of(java.util.List, com.aoapps.collections.transformers.Transformer, double)
+   */
+  public static <E, W> AdaptiveTransformList<E, W> of(List<W> list, Transformer<E, W> transformer) {
+    return of(list, transformer, AccessTracker.DEFAULT_READ_WRITE_RATIO);
+  }
+
+  /**
+   * The materialized wrapped elements along with their conversions.
+   */
+  private static final class Snapshot {
+    private final Object[] ws;
+    private final Object[] es;
+
+    private Snapshot(Object[] ws, Object[] es) {
+      this.ws = ws;
+      this.es = es;
+    }
+  }
+
+  private final AccessTracker tracker;
+  private volatile Snapshot snapshot;
+
+  protected AdaptiveTransformList(List<W> wrapped, Transformer<E, W> transformer, double readWriteRatio) {
+    super(wrapped, transformer);
+    this.tracker = new AccessTracker(readWriteRatio);
+  }
+
+  /**
+   * Checks if currently serving reads from a materialized copy.
+   */
+  public boolean isMaterialized() {
+    return snapshot != null;
+  }
+
+  /**
+   * Records a write, dropping back to lazy mode.
+   */
+  private void modified() {
+    snapshot = null;
+    tracker.write();
+  }
+
+  private void materialize() {
+    ViewMaterializationEvent event = new ViewMaterializationEvent();
+    event.begin();
+    Object[] ws = getWrapped().toArray();
+    Object[] es = new Object[ws.length];
+    for (int i = 0; i < ws.length; i++) {
+      @SuppressWarnings("unchecked")
+      W w = (W) ws[i];
+      es[i] = transformer.fromWrapped(w);
+    }
+    snapshot = new Snapshot(ws, es);
+    event.commit(this, transformer, ws.length);
+  }
+
+  /**
+   * Gets the conversion of the element at the given index, from the materialized copy when possible.
+   *
+   * @param  w  The element currently at the given index of the wrapped list
+   */
+  private E valueOf(int index, W w) {
+    Snapshot s = snapshot;
+    if (s != null) {
+      Object[] ws = s.ws;
+      if (index < ws.length) {
+        Object cached = ws[index];
+        if (cached == w || (w != null && w.equals(cached))) {
+          @SuppressWarnings("unchecked")
+          E e = (E) s.es[index];
+          return e;
+        }
+      }
+      // Changed directly in the wrapped list
+      modified();
+    }
+    E e = transformer.fromWrapped(w);
+    if (tracker.read(1, getWrapped().size())) {
+      materialize();
+    }
+    return e;
+  }
+
+  @Override
+  public E get(int index) {
+    return valueOf(index, getWrapped().get(index));
+  }
+
+  @Override
+  public void forEach(Consumer<? super E> action) {
+    Objects.requireNonNull(action);
+    ListIterator<W> iter = getWrapped().listIterator();
+    while (iter.hasNext()) {
+      int index = iter.nextIndex();
+      action.accept(valueOf(index, iter.next()));
+    }
+  }
+
+  @Override
+  public TransformListIterator<E, W> iterator() {
+    return listIterator();
+  }
+
+  @Override
+  public TransformListIterator<E, W> listIterator() {
+    return listIterator(0);
+  }
+
+  @Override
+  public TransformListIterator<E, W> listIterator(int index) {
+    TransformStats.iteration(transformer);
+    return new AdaptiveListIterator(getWrapped().listIterator(index));
+  }
+
+  /**
+   * Iterates through the materialized copy when possible, dropping back to lazy mode on any modification.
+   */
+  private final class AdaptiveListIterator extends TransformListIterator<E, W> {
+
+    private AdaptiveListIterator(ListIterator<W> wrapped) {
+      super(wrapped, AdaptiveTransformList.this.transformer);
+    }
+
+    @Override
+    public E next() throws NoSuchElementException {
+      int index = getWrapped().nextIndex();
+      return valueOf(index, getWrapped().next());
+    }
+
+    @Override
+    public E previous() throws NoSuchElementException {
+      int index = getWrapped().previousIndex();
+      return valueOf(index, getWrapped().previous());
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super E> action) {
+      Objects.requireNonNull(action);
+      while (hasNext()) {
+        action.accept(next());
+      }
+    }
+
+    @Override
+    public void remove() {
+      modified();
+      super.remove();
+    }
+
+    @Override
+    public void set(E e) {
+      modified();
+      super.set(e);
+    }
+
+    @Override
+    public void add(E e) {
+      modified();
+      super.add(e);
+    }
+  }
+
+  @Override
+  public boolean add(E e) {
+    modified();
+    return super.add(e);
+  }
+
+  @Override
+  public boolean remove(Object o) {
+    boolean removed = super.remove(o);
+    if (removed) {
+      modified();
+    }
+    return removed;
+  }
+
+  @Override
+  public boolean addAll(Collection<? extends E> c) {
+    modified();
+    return super.addAll(c);
+  }
+
+  @Override
+  public boolean addAll(int index, Collection<? extends E> c) {
+    modified();
+    return super.addAll(index, c);
+  }
+
+  @Override
+  public boolean removeAll(Collection<?> c) {
+    // Elements may be removed before failing
+    int size = getWrapped().size();
+    try {
+      return super.removeAll(c);
+    } finally {
+      if (getWrapped().size() != size) {
+        modified();
+      }
+    }
+  }
+
+  @Override
+  public boolean removeIf(Predicate<? super E> filter) {
+    int size = getWrapped().size();
+    try {
+      return super.removeIf(filter);
+    } finally {
+      if (getWrapped().size() != size) {
+        modified();
+      }
+    }
+  }
+
+  @Override
+  public boolean retainAll(Collection<?> c) {
+    int size = getWrapped().size();
+    try {
+      return super.retainAll(c);
+    } finally {
+      if (getWrapped().size() != size) {
+        modified();
+      }
+    }
+  }
+
+  @Override
+  public void clear() {
+    modified();
+    super.clear();
+  }
+
+  @Override
+  public void replaceAll(UnaryOperator<E> operator) {
+    modified();
+    super.replaceAll(operator);
+  }
+
+  @Override
+  public void parallelReplaceAll(UnaryOperator<E> operator, ForkJoinPool pool, int threshold) {
+    modified();
+    super.parallelReplaceAll(operator, pool, threshold);
+  }
+
+  @Override
+  public boolean parallelRemoveIf(Predicate<? super E> filter, ForkJoinPool pool, int threshold) {
+    int size = getWrapped().size();
+    try {
+      return super.parallelRemoveIf(filter, pool, threshold);
+    } finally {
+      if (getWrapped().size() != size) {
+        modified();
+      }
+    }
+  }
+
+  @Override
+  public void sort(Comparator<? super E> c) {
+    modified();
+    super.sort(c);
+  }
+
+  @Override
+  public E set(int index, E element) {
+    modified();
+    return super.set(index, element);
+  }
+
+  @Override
+  public void add(int index, E element) {
+    modified();
+    super.add(index, element);
+  }
+
+  @Override
+  public E remove(int index) {
+    modified();
+    return super.remove(index);
+  }
+
+  private static class RandomAccessAdaptiveTransformList<E, W> extends AdaptiveTransformList<E, W> implements RandomAccess {
+    private RandomAccessAdaptiveTransformList(List<W> wrapped, Transformer<E, W> transformer, double readWriteRatio) {
+      super(wrapped, transformer, readWriteRatio);
+    }
+  }
+}
@@ -0,0 +1,340 @@
+/*
+ * ao-collections-transformers - Bi-directional collection transformations for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections-transformers.
+ *
+ * ao-collections-transformers is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections-transformers is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections-transformers.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections.transformers;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Wraps a {@link Map}, with optional type conversion, switching between lazy conversion and a materialized
+ * copy of the transformed entries depending on how it is used.
+ *
+ * <p>The map starts lazy, converting on every access like {@link TransformMap}.  Once reads have performed as many
+ * conversions as a full copy would cost, and reads sufficiently outnumber writes, the transformed entries are
+ * materialized and subsequent {@link #get(java.lang.Object)}, {@link #getOrDefault(java.lang.Object, java.lang.Object)},
+ * and {@link #forEach(java.util.function.BiConsumer)} are served from the copy without converting values.  Keys are
+ * still converted for lookups.  Any change through this map drops back to lazy mode.  Conditional writes that leave
+ * the map unchanged, such as {@link #putIfAbsent(java.lang.Object, java.lang.Object)} of a present key, are not
+ * counted as writes.</p>
+ *
+ * <p>Changes made directly to the wrapped map, or through its {@link #keySet()}, {@link #values()}, or
+ * {@link #entrySet()} views, are detected on access: each value read from the wrapped map is compared, by identity then
+ * {@link Object#equals(java.lang.Object)}, with the value it was materialized from.  Any mismatch drops back to lazy
+ * mode.</p>
+ *
+ * <p>Materialization is reported as a {@code com.aoapps.collections.transformers.ViewMaterialization} Flight Recorder
+ * event.  Concurrent readers are safe to the extent the wrapped map is: the materialized copy is safely
+ * published, and races on the access statistics only delay a decision.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+public class AdaptiveTransformMap<K, V, KW, VW> extends TransformMap<K, V, KW, VW> {
+
+  /**
+   * Wraps a map.
+   *
+   * @param  readWriteRatio  The number of reads per write required before materializing
+   */
+  public static <K, V, KW, VW> AdaptiveTransformMap<K, V, KW, VW> of(
+      Map<KW, VW> map,
+      Transformer<K, KW> keyTransformer,
+      Transformer<V, VW> valueTransformer,
+      double readWriteRatio
+  ) {
+    return (map == null) ? null : new AdaptiveTransformMap<>(map, keyTransformer, valueTransformer, readWriteRatio);
+  }
+
+  /**
+   * Wraps a map, materializing once reads outnumber writes four to one.
+   *
+   * @see  AdaptiveTransformMap#of(java.util.Map, com.aoapps.collections.transformers.Transformer, com.aoapps.collections.transformers.Transformer, double)
+   */
+  public static <K, V, KW, VW> AdaptiveTransformMap<K, V, KW, VW> of(
+      Map<KW, VW> map,
+      Transformer<K, KW> keyTransformer,
+      Transformer<V, VW> valueTransformer
+  ) {
+    return of(map, keyTransformer, valueTransformer, AccessTracker.DEFAULT_READ_WRITE_RATIO);
+  }
+
+  /**
+   * A materialized entry.
+   */
+  private static final class Converted<K, V, VW> {
+    private final K key;
+    private final VW vw;
+    private final V value;
+
+    private Converted(K key, VW vw, V value) {
+      this.key = key;
+      this.vw = vw;
+      this.value = value;
+    }
+
+    private boolean isFrom(VW vw) {
+      return this.vw == vw || (vw != null && vw.equals(this.vw));
+    }
+  }
+
+  private final AccessTracker tracker;
+
+  /**
+   * The materialized copy, keyed by wrapped key, never modified once published.
+   */
+  private volatile Map<KW, Converted<K, V, VW>> snapshot;
+
+  protected AdaptiveTransformMap(
+      Map<KW, VW> wrapped,
+      Transformer<K, KW> keyTransformer,
+      Transformer<V, VW> valueTransformer,
+      double readWriteRatio
+  ) {
+    super(wrapped, keyTransformer, valueTransformer);
+    this.tracker = new AccessTracker(readWriteRatio);
+  }
+
+  /**
+   * Checks if currently serving reads from a materialized copy.
+   */
+  public boolean isMaterialized() {
+    return snapshot != null;
+  }
+
+  /**
+   * Records a write, dropping back to lazy mode.
+   */
+  private void modified() {
+    snapshot = null;
+    tracker.write();
+  }
+
+  private void materialize() {
+    ViewMaterializationEvent event = new ViewMaterializationEvent();
+    event.begin();
+    Map<KW, VW> wrapped = getWrapped();
+    Map<KW, Converted<K, V, VW>> copy = new HashMap<>(wrapped.size() * 4 / 3 + 1);
+    for (Entry<KW, VW> entry : wrapped.entrySet()) {
+      KW kw = entry.getKey();
+      VW vw = entry.getValue();
+      copy.put(kw, new Converted<>(keyTransformer.fromWrapped(kw), vw, valueTransformer.fromWrapped(vw)));
+    }
+    snapshot = copy;
+    event.commit(this, valueTransformer, copy.size());
+  }
+
+  /**
+   * Records a lazy read, materializing when it pays off.
+   */
+  private void lazyRead(long conversions) {
+    // Both keys and values are converted to materialize
+    if (tracker.read(conversions, 2L * getWrapped().size())) {
+      materialize();
+    }
+  }
+
+  @Override
+  public V get(Object key) {
+    @SuppressWarnings("unchecked")
+    KW kw = (KW) keyTransformer.unbounded().toWrapped(key);
+    VW vw = getWrapped().get(kw);
+    Map<KW, Converted<K, V, VW>> s = snapshot;
+    if (s != null) {
+      Converted<K, V, VW> converted = s.get(kw);
+      if (converted != null) {
+        if (converted.isFrom(vw)) {
+          return converted.value;
+        }
+      } else if (vw == null && !getWrapped().containsKey(kw)) {
+        // Absent from both
+        return null;
+      }
+      // Changed directly in the wrapped map
+      modified();
+    }
+    V value = valueTransformer.fromWrapped(vw);
+    lazyRead(1);
+    return value;
+  }
+
+  @Override
+  public V getOrDefault(Object key, V defaultValue) {
+    V value = get(key);
+    return (value != null || containsKey(key)) ? value : defaultValue;
+  }
+
+  @Override
+  public void forEach(BiConsumer<? super K, ? super V> action) {
+    Objects.requireNonNull(action);
+    Map<KW, Converted<K, V, VW>> s = snapshot;
+    if (s != null) {
+      TransformStats.iteration(keyTransformer, valueTransformer);
+      boolean[] changed = {false};
+      getWrapped().forEach((kw, vw) -> {
+        Converted<K, V, VW> converted = changed[0] ? null : s.get(kw);
+        if (converted != null && converted.isFrom(vw)) {
+          action.accept(converted.key, converted.value);
+        } else {
+          changed[0] = true;
+          action.accept(keyTransformer.fromWrapped(kw), valueTransformer.fromWrapped(vw));
+        }
+      });
+      if (changed[0] || s.size() != getWrapped().size()) {
+        modified();
+      }
+    } else {
+      super.forEach(action);
+      lazyRead(2L * getWrapped().size());
+    }
+  }
+
+  @Override
+  public V put(K key, V value) {
+    modified();
+    return super.put(key, value);
+  }
+
+  @Override
+  public V remove(Object key) {
+    int size = getWrapped().size();
+    V old = super.remove(key);
+    if (getWrapped().size() != size) {
+      modified();
+    }
+    return old;
+  }
+
+  @Override
+  public void putAll(Map<? extends K, ? extends V> m) {
+    modified();
+    super.putAll(m);
+  }
+
+  @Override
+  public void clear() {
+    modified();
+    super.clear();
+  }
+
+  @Override
+  public void replaceAll(BiFunction<? super K, ? super V, ? extends V> function) {
+    modified();
+    super.replaceAll(function);
+  }
+
+  @Override
+  public void parallelReplaceAll(BiFunction<? super K, ? super V, ? extends V> function, ForkJoinPool pool, int threshold) {
+    modified();
+    super.parallelReplaceAll(function, pool, threshold);
+  }
+
+  @Override
+  public V putIfAbsent(K key, V value) {
+    V existing = super.putIfAbsent(key, value);
+    // Only absent or null values are replaced
+    if (existing == null) {
+      modified();
+    }
+    return existing;
+  }
+
+  @Override
+  public boolean remove(Object key, Object value) {
+    boolean removed = super.remove(key, value);
+    if (removed) {
+      modified();
+    }
+    return removed;
+  }
+
+  @Override
+  public boolean replace(K key, V oldValue, V newValue) {
+    boolean replaced = super.replace(key, oldValue, newValue);
+    if (replaced) {
+      modified();
+    }
+    return replaced;
+  }
+
+  @Override
+  public V replace(K key, V value) {
+    V old = super.replace(key, value);
+    // Replaced when present, and still present after
+    if (old != null || containsKey(key)) {
+      modified();
+    }
+    return old;
+  }
+
+  @Override
+  public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+    Objects.requireNonNull(mappingFunction);
+    boolean[] changed = {false};
+    try {
+      return super.computeIfAbsent(key, k -> {
+        V value = mappingFunction.apply(k);
+        // Only a non-null value is added
+        changed[0] = value != null;
+        return value;
+      });
+    } finally {
+      if (changed[0]) {
+        modified();
+      }
+    }
+  }
+
+  @Override
+  public V computeIfPresent(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+    Objects.requireNonNull(remappingFunction);
+    boolean[] changed = {false};
+    try {
+      return super.computeIfPresent(key, (k, v) -> {
+        // Either replaced or removed once called
+        changed[0] = true;
+        return remappingFunction.apply(k, v);
+      });
+    } finally {
+      if (changed[0]) {
+        modified();
+      }
+    }
+  }
+
+  @Override
+  public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+    modified();
+    return super.compute(key, remappingFunction);
+  }
+
+  @Override
+  public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+    modified();
+    return super.merge(key, value, remappingFunction);
+  }
+}
@@ -0,0 +1,324 @@
+/*
+ * ao-collections-transformers - Bi-directional collection transformations for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections-transformers.
+ *
+ * ao-collections-transformers is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections-transformers is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections-transformers.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections.transformers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+
+/**
+ * Wraps a {@link Collection}, buffering added elements and adding them to the wrapped collection in batches.
+ * When the wrapped collection is synchronized or otherwise lock-protected, this trades one lock round-trip per
+ * element for one per batch.
+ *
+ * <p>Added elements are converted on the calling thread, then appended to one of several buffers, or stripes,
+ * selected by the calling thread.  A stripe is added to the wrapped collection with a single
+ * {@link Collection#addAll(java.util.Collection)} when it reaches the size threshold, or when its oldest element
+ * has been buffered longer than the maximum delay.  The delay of every stripe is checked on each add, by any thread,
+ * and all stripes are flushed on each query.  There is no background thread, however: when nothing further is added
+ * or queried, buffered elements remain buffered past the maximum delay until {@link #flush()} is called.</p>
+ *
+ * <p>All other operations, including queries and iteration, first flush all stripes, so they see every element
+ * whose add has completed.  Elements from a single thread are added to the wrapped collection in order, but elements
+ * from different threads may be reordered by up to a batch.</p>
+ *
+ * <p>{@link #add(java.lang.Object)} always returns {@code true}, since the element is not yet added to the wrapped
+ * collection.  This is intended for collections that always accept elements, such as lists and queues.</p>
+ *
+ * <p>Thread-safe when the wrapped collection is thread-safe.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+public class BufferedTransformCollection<E, W> extends TransformCollection<E, W> {
+
+  /**
+   * The default number of elements buffered per stripe before being added.
+   */
+  public static final int DEFAULT_SIZE_THRESHOLD = 64;
+
+  /**
+   * The default maximum delay of a buffered element.
+   */
+  public static final Duration DEFAULT_MAX_DELAY = Duration.ofMillis(100);
+
+  /**
+   * Wraps a collection.
+   *
+   * @param  stripes  The number of buffers, rounded up to a power of two, at least one
+   * @param  sizeThreshold  The number of elements buffered per stripe before being added, at least one
+   * @param  maxDelay  The maximum delay of a buffered element, checked for every stripe as elements are added
+   *
+   * @throws  IllegalArgumentException  when {@code stripes < 1}, {@code sizeThreshold < 1}, or {@code maxDelay} is negative
+   */
+  public static <E, W> BufferedTransformCollection<E, W> of(
+      Collection<W> collection,
+      Transformer<E, W> transformer,
+      int stripes,
+      int sizeThreshold,
+      Duration maxDelay
+  ) throws IllegalArgumentException {
+    return (collection == null) ? null : new BufferedTransformCollection<>(collection, transformer, stripes, sizeThreshold, maxDelay);
+  }
+
+  /**
+   * Wraps a collection, with one stripe per available processor, a size threshold of {@link #DEFAULT_SIZE_THRESHOLD},
+   * and a maximum delay of {@link #DEFAULT_MAX_DELAY}.
+   *
+   * @see  #of(java.util.Collection, com.aoapps.collections.transformers.Transformer, int, int, java.time.Duration)
+   */
+  public static <E, W> BufferedTransformCollection<E, W> of(Collection<W> collection, Transformer<E, W> transformer) {
+    return of(collection, transformer, Runtime.getRuntime().availableProcessors(), DEFAULT_SIZE_THRESHOLD, DEFAULT_MAX_DELAY);
+  }
+
+  /**
+   * A buffer of converted elements, guarded by its own lock.
+   */
+  private static final class Stripe<W> {
+    private final ArrayList<W> buffer = new ArrayList<>();
+
+    /**
+     * When the oldest buffered element was added.  Volatile, along with {@link #pending}, so other threads may find
+     * expired stripes without taking the lock.
+     */
+    private volatile long firstNanos;
+
+    /**
+     * Whether the buffer is non-empty.
+     */
+    private volatile boolean pending;
+  }
+
+  private final Stripe<W>[] stripes;
+  private final int sizeThreshold;
+  private final long maxDelayNanos;
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  protected BufferedTransformCollection(
+      Collection<W> wrapped,
+      Transformer<E, W> transformer,
+      int stripes,
+      int sizeThreshold,
+      Duration maxDelay
+  ) throws IllegalArgumentException {
+    super(wrapped, transformer);
+    if (stripes < 1) {
+      throw new IllegalArgumentException("stripes < 1: " + stripes);
+    }
+    if (sizeThreshold < 1) {
+      throw new IllegalArgumentException("sizeThreshold < 1: " + sizeThreshold);
+    }
+    if (maxDelay.isNegative()) {
+      throw new IllegalArgumentException("maxDelay < 0: " + maxDelay);
+    }
+    int size = Integer.highestOneBit(stripes);
+    if (size < stripes) {
+      size <<= 1;
+    }
+    this.stripes = new Stripe[size];
+    for (int i = 0; i < size; i++) {
+      this.stripes[i] = new Stripe<>();
+    }
+    this.sizeThreshold = sizeThreshold;
+    this.maxDelayNanos = maxDelay.toNanos();
+  }
+
+  /**
+   * Adds a stripe to the wrapped collection.  The caller must hold the lock of the stripe.
+   */
+  private void flush(Stripe<W> stripe) {
+    if (!stripe.buffer.isEmpty()) {
+      TransformStats.bulkOperation(transformer);
+      BulkViewOperationEvent event = new BulkViewOperationEvent();
+      event.begin();
+      getWrapped().addAll(stripe.buffer);
+      event.commit(this, "flush", stripe.buffer);
+      stripe.buffer.clear();
+      stripe.pending = false;
+    }
+  }
+
+  /**
+   * Adds all buffered elements to the wrapped collection.
+   */
+  public void flush() {
+    for (Stripe<W> stripe : stripes) {
+      synchronized (stripe) {
+        flush(stripe);
+      }
+    }
+  }
+
+  /**
+   * Buffers the converted element, adding the buffer to the wrapped collection when the size threshold or maximum
+   * delay is reached.  Also adds any other stripe whose maximum delay has been reached.
+   *
+   * @return  {@code true}, always
+   */
+  @Override
+  @SuppressWarnings("deprecation")
+  public boolean add(E e) {
+    W w = transformer.toWrapped(e);
+    Stripe<W> stripe = stripes[(int) Thread.currentThread().getId() & (stripes.length - 1)];
+    long now = System.nanoTime();
+    synchronized (stripe) {
+      ArrayList<W> buffer = stripe.buffer;
+      if (buffer.isEmpty()) {
+        stripe.firstNanos = now;
+        stripe.pending = true;
+      }
+      buffer.add(w);
+      if (buffer.size() >= sizeThreshold || now - stripe.firstNanos >= maxDelayNanos) {
+        flush(stripe);
+      }
+    }
+    for (Stripe<W> other : stripes) {
+      if (other != stripe && isExpired(other, now)) {
+        synchronized (other) {
+          if (isExpired(other, now)) {
+            flush(other);
+          }
+        }
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Checks if a stripe has buffered elements longer than the maximum delay.  Reads only volatile fields, so may be
+   * called without the lock of the stripe.
+   */
+  private boolean isExpired(Stripe<W> stripe, long now) {
+    return stripe.pending && now - stripe.firstNanos >= maxDelayNanos;
+  }
+
+  @Override
+  public TransformIterator<E, W> iterator() {
+    flush();
+    return super.iterator();
+  }
+
+  @Override
+  public void forEach(Consumer<? super E> action) {
+    flush();
+    super.forEach(action);
+  }
+
+  @Override
+  public int size() {
+    flush();
+    return super.size();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    flush();
+    return super.isEmpty();
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    flush();
+    return super.contains(o);
+  }
+
+  @Override
+  public Object[] toArray() {
+    flush();
+    return super.toArray();
+  }
+
+  @Override
+  public <T> T[] toArray(T[] a) {
+    flush();
+    return super.toArray(a);
+  }
+
+  @Override
+  public <T> T[] toArray(IntFunction<T[]> generator) {
+    flush();
+    return super.toArray(generator);
+  }
+
+  @Override
+  public boolean remove(Object o) {
+    flush();
+    return super.remove(o);
+  }
+
+  @Override
+  public boolean containsAll(Collection<?> c) {
+    flush();
+    return super.containsAll(c);
+  }
+
+  @Override
+  public boolean addAll(Collection<? extends E> c) {
+    flush();
+    return super.addAll(c);
+  }
+
+  @Override
+  public boolean removeAll(Collection<?> c) {
+    flush();
+    return super.removeAll(c);
+  }
+
+  @Override
+  public boolean removeIf(Predicate<? super E> filter) {
+    flush();
+    return super.removeIf(filter);
+  }
+
+  @Override
+  public boolean retainAll(Collection<?> c) {
+    flush();
+    return super.retainAll(c);
+  }
+
+  @Override
+  public void clear() {
+    for (Stripe<W> stripe : stripes) {
+      synchronized (stripe) {
+        stripe.buffer.clear();
+        stripe.pending = false;
+      }
+    }
+    super.clear();
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    flush();
+    return super.equals(o);
+  }
+
+  @Override
+  public int hashCode() {
+    flush();
+    return super.hashCode();
+  }
+}
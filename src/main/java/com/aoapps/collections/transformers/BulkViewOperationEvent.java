@@ -0,0 +1,105 @@
+/*
+ * ao-collections-transformers - Bi-directional collection transformations for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections-transformers.
+ *
+ * ao-collections-transformers is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections-transformers is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections-transformers.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections.transformers;
+
+import java.util.Collection;
+import java.util.Map;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight Recorder event for a bulk operation performed through a view, such as
+ * {@link Collection#addAll(java.util.Collection)} or {@link Map#putAll(java.util.Map)}.
+ *
+ * <p>Disabled by default.  Enable with a setting such as
+ * {@code com.aoapps.collections.transformers.BulkViewOperation#enabled=true}.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+@Name(BulkViewOperationEvent.NAME)
+@Label("Bulk View Operation")
+@Category({"AO Apps", "Collections Transformers"})
+@Description("A bulk operation performed through a transforming view.")
+@Enabled(false)
+@Threshold("10 ms")
+final class BulkViewOperationEvent extends Event {
+
+  static final String NAME = "com.aoapps.collections.transformers.BulkViewOperation";
+
+  @Label("View Class")
+  Class<?> viewClass;
+
+  @Label("Transformer Class")
+  @Description("The element transformer of a collection or the value transformer of a map.")
+  Class<?> transformerClass;
+
+  @Label("Key Transformer Class")
+  @Description("The key transformer of a map, null for collections.")
+  Class<?> keyTransformerClass;
+
+  @Label("Operation")
+  String operation;
+
+  @Label("Size")
+  @Description("The size of the argument, or of the view when the operation has no argument.  -1 when unknown.")
+  int size;
+
+  /**
+   * Ends the event and commits it when enabled and over threshold.
+   *
+   * @param  sized  The iterable whose size is recorded, only evaluated when committing
+   */
+  void commit(TransformIterable<?, ?> view, String operation, Iterable<?> sized) {
+    end();
+    if (shouldCommit()) {
+      this.viewClass = view.getClass();
+      this.transformerClass = view.transformer.getClass();
+      this.operation = operation;
+      this.size = (sized instanceof Collection) ? ((Collection<?>) sized).size() : -1;
+      commit();
+    }
+  }
+
+  /**
+   * Ends the event and commits it when enabled and over threshold.
+   *
+   * @param  sized  The map whose size is recorded, only evaluated when committing
+   */
+  void commit(TransformMap<?, ?, ?, ?> view, String operation, Map<?, ?> sized) {
+    end();
+    if (shouldCommit()) {
+      this.viewClass = view.getClass();
+      this.transformerClass = view.valueTransformer.getClass();
+      this.keyTransformerClass = view.keyTransformer.getClass();
+      this.operation = operation;
+      this.size = sized.size();
+      commit();
+    }
+  }
+}
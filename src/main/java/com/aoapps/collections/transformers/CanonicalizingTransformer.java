@@ -0,0 +1,86 @@
+/*
+ * ao-collections-transformers - Bi-directional collection transformations for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections-transformers.
+ *
+ * ao-collections-transformers is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections-transformers is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections-transformers.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections.transformers;
+
+/**
+ * Deduplicates the results of another transformer's conversions from the wrapped type, so that equal results are
+ * the same instance.  Results are interned weakly, and discarded once no longer otherwise reachable.  Conversions to
+ * the wrapped type are not deduplicated.
+ *
+ * <p>Results must be immutable, with consistent {@link Object#equals(java.lang.Object)} and
+ * {@link Object#hashCode()}.  Thread-safe when the wrapped transformer is.</p>
+ *
+ * @param  <E>  The wrapper type
+ * @param  <W>  The wrapped type
+ *
+ * @author  AO Industries, Inc.
+ */
+public class CanonicalizingTransformer<E, W> extends AbstractTransformer<E, W> {
+
+  /**
+   * Deduplicates the results of a transformer, of the same types.
+   */
+  public static <E, W> CanonicalizingTransformer<E, W> of(AbstractTransformer<E, W> transformer) {
+    return new CanonicalizingTransformer<>(transformer.eClass, transformer.wClass, transformer);
+  }
+
+  private final Transformer<E, W> transformer;
+  private final WeakInterner<E> interner = new WeakInterner<>();
+
+  /**
+   * Creates a new deduplicating converter.
+   *
+   * @param eClass The wrapper type
+   * @param wClass The wrapped type
+   * @param transformer Performs the conversions
+   */
+  public CanonicalizingTransformer(Class<E> eClass, Class<W> wClass, Transformer<E, W> transformer) {
+    super(eClass, wClass);
+    this.transformer = transformer;
+  }
+
+  @Override
+  protected W doToWrapped(E e) {
+    return transformer.toWrapped(e);
+  }
+
+  @Override
+  protected E doFromWrapped(W w) {
+    return interner.intern(transformer.fromWrapped(w));
+  }
+
+  /**
+   * Gets the canonical instance equal to the given value, which becomes canonical when none.
+   */
+  public E canonicalize(E e) {
+    return interner.intern(e);
+  }
+
+  /**
+   * Gets the number of canonical instances, including those discarded but not yet removed.
+   */
+  public int size() {
+    return interner.size();
+  }
+}
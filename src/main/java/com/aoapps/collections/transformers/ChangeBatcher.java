@@ -0,0 +1,97 @@
+/*
+ * ao-collections-transformers - Bi-directional collection transformations for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections-transformers.
+ *
+ * ao-collections-transformers is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections-transformers is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections-transformers.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections.transformers;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Collects the changes of bulk operations into batches for {@link ChangeListener listeners}.  Changes recorded
+ * outside of a bulk operation are delivered immediately, as batches of one.  No changes are recorded while there are
+ * no listeners.
+ *
+ * @author  AO Industries, Inc.
+ */
+final class ChangeBatcher<C> {
+
+  private final List<ChangeListener<C>> listeners = new CopyOnWriteArrayList<>();
+  private int depth;
+  private List<C> pending;
+
+  void addListener(ChangeListener<C> listener) {
+    listeners.add(listener);
+  }
+
+  /**
+   * Adds a listener, called before all others.
+   */
+  void addFirstListener(ChangeListener<C> listener) {
+    listeners.add(0, listener);
+  }
+
+  void removeListener(ChangeListener<C> listener) {
+    listeners.remove(listener);
+  }
+
+  /**
+   * Checks whether changes are being recorded.
+   */
+  boolean isObserved() {
+    return !listeners.isEmpty();
+  }
+
+  /**
+   * Begins a bulk operation, which may be nested.
+   */
+  void begin() {
+    depth++;
+  }
+
+  /**
+   * Ends a bulk operation, delivering its changes once the outermost ends.  Must be called in a {@code finally}
+   * block, so changes made before a failure are still delivered.
+   */
+  void end() {
+    if (--depth == 0 && pending != null) {
+      List<C> batch = Collections.unmodifiableList(pending);
+      pending = null;
+      for (ChangeListener<C> listener : listeners) {
+        listener.changed(batch);
+      }
+    }
+  }
+
+  void record(C change) {
+    if (pending == null) {
+      pending = new ArrayList<>();
+    }
+    pending.add(change);
+    if (depth == 0) {
+      begin();
+      end();
+    }
+  }
+}
@@ -0,0 +1,50 @@
+/*
+ * ao-collections-transformers - Bi-directional collection transformations for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections-transformers.
+ *
+ * ao-collections-transformers is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections-transformers is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections-transformers.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections.transformers;
+
+import java.util.List;
+
+/**
+ * Receives the changes to an observable view, in batches.  A single update is a batch of one change, while a bulk
+ * operation, such as {@link java.util.Collection#addAll(java.util.Collection)} or
+ * {@link java.util.Map#putAll(java.util.Map)}, is one batch of all of its changes.
+ *
+ * @param  <C>  The change type
+ *
+ * @author  AO Industries, Inc.
+ *
+ * @see  ObservableTransformCollection
+ * @see  ObservableTransformList
+ * @see  ObservableTransformMap
+ */
+@FunctionalInterface
+public interface ChangeListener<C> {
+
+  /**
+   * Called after changes have been made, in the order made.
+   *
+   * @param  changes  unmodifiable and never empty
+   */
+  void changed(List<C> changes);
+}
@@ -0,0 +1,49 @@
+/*
+ * ao-collections-transformers - Bi-directional collection transformations for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections-transformers.
+ *
+ * ao-collections-transformers is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections-transformers is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections-transformers.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections.transformers;
+
+/**
+ * The type of a change to an observable view.
+ *
+ * @author  AO Industries, Inc.
+ *
+ * @see  CollectionChange
+ * @see  MapChange
+ */
+public enum ChangeType {
+  /**
+   * An element or entry was added.
+   */
+  ADDED,
+
+  /**
+   * An element or entry was removed.
+   */
+  REMOVED,
+
+  /**
+   * An element or the value of an entry was replaced.
+   */
+  REPLACED
+}
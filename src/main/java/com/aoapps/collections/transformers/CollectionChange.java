@@ -0,0 +1,89 @@
+/*
+ * ao-collections-transformers - Bi-directional collection transformations for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections-transformers.
+ *
+ * ao-collections-transformers is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections-transformers is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections-transformers.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections.transformers;
+
+/**
+ * A change to an {@link ObservableTransformCollection} or {@link ObservableTransformList}.  Elements are converted from
+ * the wrapped collection when first requested.
+ *
+ * @param  <E>  The element type
+ *
+ * @author  AO Industries, Inc.
+ */
+public final class CollectionChange<E> {
+
+  private final ChangeType type;
+  private final int index;
+  private final Object element;
+  private final Object oldElement;
+  private final Transformer<E, ?> transformer;
+
+  <W> CollectionChange(ChangeType type, int index, W element, W oldElement, Transformer<E, W> transformer) {
+    this.type = type;
+    this.index = index;
+    this.element = element;
+    this.oldElement = oldElement;
+    this.transformer = transformer;
+  }
+
+  public ChangeType getType() {
+    return type;
+  }
+
+  /**
+   * Gets the index of the change in a list, as of when made, so the changes of a batch apply in order.
+   *
+   * @return  The index or {@code -1} when not a list
+   */
+  public int getIndex() {
+    return index;
+  }
+
+  @SuppressWarnings("unchecked")
+  private E convert(Object w) {
+    return ((Transformer<E, Object>) transformer).fromWrapped(w);
+  }
+
+  /**
+   * Gets the element added, removed, or replacing another.
+   */
+  public E getElement() {
+    return convert(element);
+  }
+
+  /**
+   * Gets the element replaced.
+   *
+   * @return  The element or {@code null} when not {@link ChangeType#REPLACED}
+   */
+  public E getOldElement() {
+    return (type == ChangeType.REPLACED) ? convert(oldElement) : null;
+  }
+
+  @Override
+  public String toString() {
+    return type + ((index == -1) ? "" : ("@" + index)) + ": "
+        + ((type == ChangeType.REPLACED) ? (getOldElement() + " -> ") : "") + getElement();
+  }
+}
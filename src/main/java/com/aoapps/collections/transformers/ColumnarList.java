@@ -0,0 +1,651 @@
+/*
+ * ao-collections-transformers - Bi-directional collection transformations for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections-transformers.
+ *
+ * ao-collections-transformers is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections-transformers is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections-transformers.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections.transformers;
+
+import java.lang.reflect.Array;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+
+/**
+ * A list of rows stored by column, with each column in its own primitive or object array.  Scanning a column, such
+ * as by {@link #forEachLong(int, java.util.function.LongConsumer)}, reads one contiguous array.
+ *
+ * <p>The elements are {@linkplain RowRef references to rows}, by index, created on access.  A reference reads and
+ * writes the current values of its row, and remains valid until rows are added or removed before it.  Sorting
+ * repositions rows but not references, so a reference then reads whichever row was sorted to its index.
+ * {@link #set(int, com.aoapps.collections.transformers.ColumnarList.RowRef)} and
+ * {@link #add(int, com.aoapps.collections.transformers.ColumnarList.RowRef)} copy the values of the given row, which
+ * must have the same columns.  Rows compare equal by their values.</p>
+ *
+ * <p>Not thread-safe.</p>
+ *
+ * @author  AO Industries, Inc.
+ *
+ * @see  ColumnarTransformList
+ */
+public final class ColumnarList extends AbstractList<ColumnarList.RowRef> implements RandomAccess {
+
+  /**
+   * The storage of a column.
+   */
+  public enum ColumnType {
+    INT {
+      @Override
+      Object newArray(int length) {
+        return new int[length];
+      }
+    },
+    LONG {
+      @Override
+      Object newArray(int length) {
+        return new long[length];
+      }
+    },
+    DOUBLE {
+      @Override
+      Object newArray(int length) {
+        return new double[length];
+      }
+    },
+    OBJECT {
+      @Override
+      Object newArray(int length) {
+        return new Object[length];
+      }
+    };
+
+    abstract Object newArray(int length);
+  }
+
+  /**
+   * A reference to one row, by index.
+   */
+  public static final class RowRef {
+
+    private final ColumnarList list;
+    private final int row;
+
+    private RowRef(ColumnarList list, int row) {
+      this.list = list;
+      this.row = row;
+    }
+
+    /**
+     * Gets the list containing the row.
+     */
+    public ColumnarList getList() {
+      return list;
+    }
+
+    /**
+     * Gets the index of the row.
+     */
+    public int getRow() {
+      return row;
+    }
+
+    public int getInt(int column) {
+      return list.getInt(row, column);
+    }
+
+    public void setInt(int column, int value) {
+      list.setInt(row, column, value);
+    }
+
+    public long getLong(int column) {
+      return list.getLong(row, column);
+    }
+
+    public void setLong(int column, long value) {
+      list.setLong(row, column, value);
+    }
+
+    public double getDouble(int column) {
+      return list.getDouble(row, column);
+    }
+
+    public void setDouble(int column, double value) {
+      list.setDouble(row, column, value);
+    }
+
+    public <T> T getObject(int column) {
+      return list.getObject(row, column);
+    }
+
+    public void setObject(int column, Object value) {
+      list.setObject(row, column, value);
+    }
+
+    /**
+     * Copies the values of the row into a new, single-row list.
+     */
+    public RowRef copy() {
+      ColumnarList copy = new ColumnarList(1, list.types);
+      copy.insertRow(0);
+      copy.copyRow(0, this);
+      return copy.row(0);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (o == this) {
+        return true;
+      }
+      if (!(o instanceof RowRef)) {
+        return false;
+      }
+      RowRef other = (RowRef) o;
+      ColumnType[] types = list.types;
+      if (!Arrays.equals(types, other.list.types)) {
+        return false;
+      }
+      for (int column = 0; column < types.length; column++) {
+        boolean equal;
+        switch (types[column]) {
+          case INT:
+            equal = getInt(column) == other.getInt(column);
+            break;
+          case LONG:
+            equal = getLong(column) == other.getLong(column);
+            break;
+          case DOUBLE:
+            equal = Double.doubleToLongBits(getDouble(column)) == Double.doubleToLongBits(other.getDouble(column));
+            break;
+          default:
+            equal = Objects.equals(getObject(column), other.getObject(column));
+        }
+        if (!equal) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      ColumnType[] types = list.types;
+      int hash = 1;
+      for (int column = 0; column < types.length; column++) {
+        int h;
+        switch (types[column]) {
+          case INT:
+            h = Integer.hashCode(getInt(column));
+            break;
+          case LONG:
+            h = Long.hashCode(getLong(column));
+            break;
+          case DOUBLE:
+            h = Double.hashCode(getDouble(column));
+            break;
+          default:
+            h = Objects.hashCode(getObject(column));
+        }
+        hash = 31 * hash + h;
+      }
+      return hash;
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder().append('[');
+      for (int column = 0; column < list.types.length; column++) {
+        if (column > 0) {
+          sb.append(", ");
+        }
+        sb.append(Array.get(list.columns[column], row));
+      }
+      return sb.append(']').toString();
+    }
+  }
+
+  private final ColumnType[] types;
+  private final Object[] columns;
+  private int capacity;
+  private int size;
+
+  /**
+   * Creates an empty list.
+   */
+  public ColumnarList(ColumnType ... types) {
+    this(10, types);
+  }
+
+  /**
+   * Creates an empty list with the given initial capacity.
+   */
+  public ColumnarList(int initialCapacity, ColumnType ... types) throws IllegalArgumentException {
+    if (initialCapacity < 0) {
+      throw new IllegalArgumentException("initialCapacity < 0: " + initialCapacity);
+    }
+    this.types = types.clone();
+    this.columns = new Object[types.length];
+    for (int column = 0; column < types.length; column++) {
+      columns[column] = Objects.requireNonNull(types[column]).newArray(initialCapacity);
+    }
+    this.capacity = initialCapacity;
+  }
+
+  /**
+   * Gets the number of columns.
+   */
+  public int getColumnCount() {
+    return types.length;
+  }
+
+  /**
+   * Gets the type of a column.
+   */
+  public ColumnType getColumnType(int column) {
+    return types[column];
+  }
+
+  /**
+   * Checks whether another list has the same columns.
+   */
+  public boolean hasSameColumns(ColumnarList other) {
+    return Arrays.equals(types, other.types);
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  private void checkRow(int row) throws IndexOutOfBoundsException {
+    if (row < 0 || row >= size) {
+      throw new IndexOutOfBoundsException("Index: " + row + ", Size: " + size);
+    }
+  }
+
+  /**
+   * Gets the array of a column, checking its type.
+   */
+  private Object column(int column, ColumnType type) throws IllegalArgumentException {
+    if (types[column] != type) {
+      throw new IllegalArgumentException("Column " + column + " is " + types[column] + ", not " + type);
+    }
+    return columns[column];
+  }
+
+  public int getInt(int row, int column) {
+    checkRow(row);
+    return ((int[]) column(column, ColumnType.INT))[row];
+  }
+
+  public void setInt(int row, int column, int value) {
+    checkRow(row);
+    ((int[]) column(column, ColumnType.INT))[row] = value;
+  }
+
+  public long getLong(int row, int column) {
+    checkRow(row);
+    return ((long[]) column(column, ColumnType.LONG))[row];
+  }
+
+  public void setLong(int row, int column, long value) {
+    checkRow(row);
+    ((long[]) column(column, ColumnType.LONG))[row] = value;
+  }
+
+  public double getDouble(int row, int column) {
+    checkRow(row);
+    return ((double[]) column(column, ColumnType.DOUBLE))[row];
+  }
+
+  public void setDouble(int row, int column, double value) {
+    checkRow(row);
+    ((double[]) column(column, ColumnType.DOUBLE))[row] = value;
+  }
+
+  @SuppressWarnings("unchecked")
+  public <T> T getObject(int row, int column) {
+    checkRow(row);
+    return (T) ((Object[]) column(column, ColumnType.OBJECT))[row];
+  }
+
+  public void setObject(int row, int column, Object value) {
+    checkRow(row);
+    ((Object[]) column(column, ColumnType.OBJECT))[row] = value;
+  }
+
+  /**
+   * Gets a reference to a row.
+   */
+  public RowRef row(int row) throws IndexOutOfBoundsException {
+    checkRow(row);
+    return new RowRef(this, row);
+  }
+
+  private void grow(int minCapacity) {
+    if (minCapacity > capacity) {
+      int newCapacity = (int) Math.min(Math.max((long) capacity + (capacity >> 1), Math.max(minCapacity, 10)),
+          Integer.MAX_VALUE - 8);
+      if (newCapacity < minCapacity) {
+        throw new OutOfMemoryError("Too many rows: " + minCapacity);
+      }
+      for (int column = 0; column < columns.length; column++) {
+        Object newArray = types[column].newArray(newCapacity);
+        System.arraycopy(columns[column], 0, newArray, 0, size);
+        columns[column] = newArray;
+      }
+      capacity = newCapacity;
+    }
+  }
+
+  /**
+   * Inserts a row of zero and {@code null} values.
+   */
+  public void insertRow(int row) throws IndexOutOfBoundsException {
+    if (row < 0 || row > size) {
+      throw new IndexOutOfBoundsException("Index: " + row + ", Size: " + size);
+    }
+    modCount++;
+    grow(size + 1);
+    for (int column = 0; column < columns.length; column++) {
+      Object array = columns[column];
+      System.arraycopy(array, row, array, row + 1, size - row);
+      clear(column, row, row + 1);
+    }
+    size++;
+  }
+
+  /**
+   * Adds a row of zero and {@code null} values to the end.
+   *
+   * @return  The index of the new row
+   */
+  public int addRow() {
+    int row = size;
+    insertRow(row);
+    return row;
+  }
+
+  /**
+   * Removes a row.
+   */
+  public void removeRow(int row) throws IndexOutOfBoundsException {
+    checkRow(row);
+    removeRange(row, row + 1);
+  }
+
+  private void clear(int column, int from, int to) {
+    Object array = columns[column];
+    switch (types[column]) {
+      case INT:
+        Arrays.fill((int[]) array, from, to, 0);
+        break;
+      case LONG:
+        Arrays.fill((long[]) array, from, to, 0);
+        break;
+      case DOUBLE:
+        Arrays.fill((double[]) array, from, to, 0);
+        break;
+      default:
+        Arrays.fill((Object[]) array, from, to, null);
+    }
+  }
+
+  /**
+   * Copies the values of another row, which must have the same columns.
+   */
+  private void copyRow(int row, RowRef from) throws IllegalArgumentException {
+    ColumnarList fromList = from.list;
+    if (!hasSameColumns(fromList)) {
+      throw new IllegalArgumentException("Row has different columns: " + Arrays.toString(fromList.types)
+          + " != " + Arrays.toString(types));
+    }
+    fromList.checkRow(from.row);
+    for (int column = 0; column < columns.length; column++) {
+      System.arraycopy(fromList.columns[column], from.row, columns[column], row, 1);
+    }
+  }
+
+  @Override
+  public RowRef get(int index) throws IndexOutOfBoundsException {
+    return row(index);
+  }
+
+  /**
+   * Copies the values of the given row.
+   *
+   * @return  A copy of the previous values
+   */
+  @Override
+  public RowRef set(int index, RowRef element) throws IndexOutOfBoundsException, IllegalArgumentException {
+    RowRef old = row(index).copy();
+    copyRow(index, element);
+    return old;
+  }
+
+  /**
+   * Inserts a copy of the values of the given row.
+   */
+  @Override
+  public void add(int index, RowRef element) throws IndexOutOfBoundsException, IllegalArgumentException {
+    if (!hasSameColumns(element.list)) {
+      throw new IllegalArgumentException("Row has different columns");
+    }
+    // Copy first, since inserting may move the given row
+    RowRef values = element.copy();
+    insertRow(index);
+    copyRow(index, values);
+  }
+
+  /**
+   * Removes a row.
+   *
+   * @return  A copy of the removed values
+   */
+  @Override
+  public RowRef remove(int index) throws IndexOutOfBoundsException {
+    RowRef old = row(index).copy();
+    removeRange(index, index + 1);
+    return old;
+  }
+
+  @Override
+  protected void removeRange(int fromIndex, int toIndex) {
+    if (fromIndex < toIndex) {
+      modCount++;
+      for (int column = 0; column < columns.length; column++) {
+        Object array = columns[column];
+        System.arraycopy(array, toIndex, array, fromIndex, size - toIndex);
+        clear(column, size - (toIndex - fromIndex), size);
+      }
+      size -= toIndex - fromIndex;
+    }
+  }
+
+  @Override
+  public void clear() {
+    removeRange(0, size);
+  }
+
+  /**
+   * Runs shorter than this are sorted by insertion sort.
+   */
+  private static final int INSERTION_SORT_THRESHOLD = 7;
+
+  /**
+   * Stably sorts a range of row indexes by the rows they reference.  On entry, {@code src} and {@code dest} hold the
+   * same indexes; on return, {@code dest} holds them sorted.
+   */
+  private static void mergeSort(int[] src, int[] dest, int low, int high, RowRef[] rows, Comparator<? super RowRef> c) {
+    int length = high - low;
+    if (length < INSERTION_SORT_THRESHOLD) {
+      for (int i = low + 1; i < high; i++) {
+        int row = dest[i];
+        int j = i;
+        while (j > low && c.compare(rows[dest[j - 1]], rows[row]) > 0) {
+          dest[j] = dest[j - 1];
+          j--;
+        }
+        dest[j] = row;
+      }
+      return;
+    }
+    int mid = (low + high) >>> 1;
+    mergeSort(dest, src, low, mid, rows, c);
+    mergeSort(dest, src, mid, high, rows, c);
+    if (c.compare(rows[src[mid - 1]], rows[src[mid]]) <= 0) {
+      System.arraycopy(src, low, dest, low, length);
+      return;
+    }
+    for (int i = low, p = low, q = mid; i < high; i++) {
+      if (q >= high || (p < mid && c.compare(rows[src[p]], rows[src[q]]) <= 0)) {
+        dest[i] = src[p++];
+      } else {
+        dest[i] = src[q++];
+      }
+    }
+  }
+
+  /**
+   * Sorts the rows by permuting each column, without moving rows while they are compared.  The sort is stable.
+   *
+   * <p>Existing {@linkplain RowRef references} keep their index, so after sorting each reads whichever row was sorted
+   * to its index.</p>
+   */
+  @Override
+  public void sort(Comparator<? super RowRef> c) throws ClassCastException {
+    if (c == null) {
+      throw new ClassCastException("Rows are not comparable");
+    }
+    RowRef[] rows = new RowRef[size];
+    int[] order = new int[size];
+    for (int row = 0; row < size; row++) {
+      rows[row] = new RowRef(this, row);
+      order[row] = row;
+    }
+    int expectedModCount = modCount;
+    mergeSort(order.clone(), order, 0, size, rows, c);
+    if (modCount != expectedModCount) {
+      throw new ConcurrentModificationException();
+    }
+    for (int column = 0; column < columns.length; column++) {
+      Object array = columns[column];
+      Object sorted = types[column].newArray(capacity);
+      switch (types[column]) {
+        case INT: {
+          int[] from = (int[]) array;
+          int[] to = (int[]) sorted;
+          for (int row = 0; row < size; row++) {
+            to[row] = from[order[row]];
+          }
+          break;
+        }
+        case LONG: {
+          long[] from = (long[]) array;
+          long[] to = (long[]) sorted;
+          for (int row = 0; row < size; row++) {
+            to[row] = from[order[row]];
+          }
+          break;
+        }
+        case DOUBLE: {
+          double[] from = (double[]) array;
+          double[] to = (double[]) sorted;
+          for (int row = 0; row < size; row++) {
+            to[row] = from[order[row]];
+          }
+          break;
+        }
+        default: {
+          Object[] from = (Object[]) array;
+          Object[] to = (Object[]) sorted;
+          for (int row = 0; row < size; row++) {
+            to[row] = from[order[row]];
+          }
+        }
+      }
+      columns[column] = sorted;
+    }
+    modCount++;
+  }
+
+  /**
+   * Scans a column of {@code int} values.
+   */
+  public void forEachInt(int column, IntConsumer action) {
+    int[] array = (int[]) column(column, ColumnType.INT);
+    int expectedModCount = modCount;
+    for (int row = 0, end = size; row < end; row++) {
+      action.accept(array[row]);
+    }
+    if (modCount != expectedModCount) {
+      throw new ConcurrentModificationException();
+    }
+  }
+
+  /**
+   * Scans a column of {@code long} values.
+   */
+  public void forEachLong(int column, LongConsumer action) {
+    long[] array = (long[]) column(column, ColumnType.LONG);
+    int expectedModCount = modCount;
+    for (int row = 0, end = size; row < end; row++) {
+      action.accept(array[row]);
+    }
+    if (modCount != expectedModCount) {
+      throw new ConcurrentModificationException();
+    }
+  }
+
+  /**
+   * Scans a column of {@code double} values.
+   */
+  public void forEachDouble(int column, DoubleConsumer action) {
+    double[] array = (double[]) column(column, ColumnType.DOUBLE);
+    int expectedModCount = modCount;
+    for (int row = 0, end = size; row < end; row++) {
+      action.accept(array[row]);
+    }
+    if (modCount != expectedModCount) {
+      throw new ConcurrentModificationException();
+    }
+  }
+
+  /**
+   * Scans a column of object values.
+   */
+  @SuppressWarnings("unchecked")
+  public <T> void forEachObject(int column, Consumer<? super T> action) {
+    Object[] array = (Object[]) column(column, ColumnType.OBJECT);
+    int expectedModCount = modCount;
+    for (int row = 0, end = size; row < end; row++) {
+      action.accept((T) array[row]);
+    }
+    if (modCount != expectedModCount) {
+      throw new ConcurrentModificationException();
+    }
+  }
+}
@@ -0,0 +1,173 @@
+/*
+ * ao-collections-transformers - Bi-directional collection transformations for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections-transformers.
+ *
+ * ao-collections-transformers is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections-transformers is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections-transformers.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections.transformers;
+
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+
+/**
+ * A {@link TransformList} of records stored by column in a {@link ColumnarList}, converted by a
+ * {@link RowTransformer}.  Records are assembled on access and disassembled directly into their row on update.  The
+ * column scans, such as {@link #forEachLong(int, java.util.function.LongConsumer)}, read a single column without
+ * assembling any records.
+ *
+ * <p>{@code null} records are not supported.</p>
+ *
+ * <p>Not thread-safe.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+public class ColumnarTransformList<R> extends TransformList<R, ColumnarList.RowRef> implements RandomAccess {
+
+  /**
+   * Wraps a list.
+   *
+   * @throws  IllegalArgumentException  when the list does not have the columns of the transformer
+   */
+  public static <R> ColumnarTransformList<R> of(ColumnarList list, RowTransformer<R> transformer)
+      throws IllegalArgumentException {
+    if (list == null) {
+      return null;
+    }
+    if (!list.hasSameColumns(transformer.newColumnarList())) {
+      throw new IllegalArgumentException("List does not have the columns of the transformer");
+    }
+    return new ColumnarTransformList<>(list, transformer);
+  }
+
+  /**
+   * Wraps a new, empty list.
+   */
+  public static <R> ColumnarTransformList<R> of(RowTransformer<R> transformer) {
+    return new ColumnarTransformList<>(transformer.newColumnarList(), transformer);
+  }
+
+  private final ColumnarList wrapped;
+  private final RowTransformer<R> rowTransformer;
+
+  protected ColumnarTransformList(ColumnarList wrapped, RowTransformer<R> transformer) {
+    super(wrapped, transformer);
+    this.wrapped = wrapped;
+    this.rowTransformer = transformer;
+  }
+
+  @Override
+  @SuppressWarnings("ReturnOfCollectionOrArrayField")
+  protected ColumnarList getWrapped() {
+    return wrapped;
+  }
+
+  @Override
+  public R get(int index) {
+    return rowTransformer.read(wrapped.row(index));
+  }
+
+  @Override
+  public R set(int index, R element) {
+    if (element == null) {
+      throw new NullPointerException();
+    }
+    ColumnarList.RowRef row = wrapped.row(index);
+    R old = rowTransformer.read(row);
+    rowTransformer.write(element, row);
+    return old;
+  }
+
+  @Override
+  public boolean add(R e) {
+    add(wrapped.size(), e);
+    return true;
+  }
+
+  @Override
+  public void add(int index, R element) {
+    if (element == null) {
+      throw new NullPointerException();
+    }
+    wrapped.insertRow(index);
+    try {
+      rowTransformer.write(element, wrapped.row(index));
+    } catch (RuntimeException | Error e) {
+      wrapped.removeRow(index);
+      throw e;
+    }
+  }
+
+  @Override
+  public R remove(int index) {
+    R old = rowTransformer.read(wrapped.row(index));
+    wrapped.removeRow(index);
+    return old;
+  }
+
+  @Override
+  public void forEach(Consumer<? super R> action) {
+    TransformStats.iteration(transformer);
+    BulkViewOperationEvent event = new BulkViewOperationEvent();
+    event.begin();
+    for (int i = 0, size = wrapped.size(); i < size; i++) {
+      action.accept(rowTransformer.read(wrapped.row(i)));
+    }
+    event.commit(this, "forEach", wrapped);
+  }
+
+  /**
+   * Scans a column of {@code int} values, without assembling records.
+   *
+   * @see  ColumnarList#forEachInt(int, java.util.function.IntConsumer)
+   */
+  public void forEachInt(int column, IntConsumer action) {
+    wrapped.forEachInt(column, action);
+  }
+
+  /**
+   * Scans a column of {@code long} values, without assembling records.
+   *
+   * @see  ColumnarList#forEachLong(int, java.util.function.LongConsumer)
+   */
+  public void forEachLong(int column, LongConsumer action) {
+    wrapped.forEachLong(column, action);
+  }
+
+  /**
+   * Scans a column of {@code double} values, without assembling records.
+   *
+   * @see  ColumnarList#forEachDouble(int, java.util.function.DoubleConsumer)
+   */
+  public void forEachDouble(int column, DoubleConsumer action) {
+    wrapped.forEachDouble(column, action);
+  }
+
+  /**
+   * Scans a column of object values, without assembling records.
+   *
+   * @see  ColumnarList#forEachObject(int, java.util.function.Consumer)
+   */
+  public <T> void forEachObject(int column, Consumer<? super T> action) {
+    wrapped.forEachObject(column, action);
+  }
+}
@@ -0,0 +1,684 @@
+/*
+ * ao-collections-transformers - Bi-directional collection transformations for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections-transformers.
+ *
+ * ao-collections-transformers is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections-transformers is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections-transformers.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections.transformers;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * A thread-safe, copy-on-write list that stores both the wrapped values and their conversions.
+ * This is the transforming counterpart of {@link java.util.concurrent.CopyOnWriteArrayList}, for read-mostly
+ * lists such as subscriber lists.
+ *
+ * <p>Reads, iteration, and streams are lock-free over an immutable snapshot of the converted elements, and do not call
+ * the transformer.  Each write copies the snapshot, converting only the elements being written.  Iterators and
+ * spliterators traverse the snapshot at their creation, and do not support modification.</p>
+ *
+ * <p>{@link #subList(int, int)} is a view that converts elements on access, like a {@link TransformList}.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+public class CopyOnWriteTransformList<E, W> extends TransformList<E, W> implements RandomAccess {
+
+  /**
+   * Creates an empty list.
+   */
+  public static <E, W> CopyOnWriteTransformList<E, W> of(Transformer<E, W> transformer) {
+    return new CopyOnWriteTransformList<>(new Store<>(transformer, new Object[0], new Object[0]));
+  }
+
+  /**
+   * Creates a list of the given wrapped elements, each converted once.
+   */
+  public static <E, W> CopyOnWriteTransformList<E, W> copyOf(Collection<? extends W> c, Transformer<E, W> transformer) {
+    Object[] ws = c.toArray();
+    Object[] es = new Object[ws.length];
+    for (int i = 0; i < ws.length; i++) {
+      @SuppressWarnings("unchecked")
+      W w = (W) ws[i];
+      es[i] = transformer.fromWrapped(w);
+    }
+    return new CopyOnWriteTransformList<>(new Store<>(transformer, es, ws));
+  }
+
+  /**
+   * An immutable pair of element arrays.
+   */
+  private static final class Snapshot {
+    private final Object[] es;
+    private final Object[] ws;
+
+    private Snapshot(Object[] es, Object[] ws) {
+      this.es = es;
+      this.ws = ws;
+    }
+  }
+
+  /**
+   * The state shared by this list and the list of wrapped values.  All writes hold the lock.
+   */
+  private static final class Store<E, W> {
+    private final Transformer<E, W> transformer;
+    private final Object lock = new Object();
+    private volatile Snapshot snapshot;
+
+    private Store(Transformer<E, W> transformer, Object[] es, Object[] ws) {
+      this.transformer = transformer;
+      this.snapshot = new Snapshot(es, ws);
+    }
+
+    /**
+     * Sets one element.
+     *
+     * @return  The previous snapshot
+     */
+    private Snapshot set(int index, Object e, Object w) {
+      synchronized (lock) {
+        Snapshot s = snapshot;
+        Objects.checkIndex(index, s.es.length);
+        Object[] es = s.es.clone();
+        Object[] ws = s.ws.clone();
+        es[index] = e;
+        ws[index] = w;
+        snapshot = new Snapshot(es, ws);
+        return s;
+      }
+    }
+
+    private void add(int index, Object e, Object w) {
+      addAll(index, new Object[] {e}, new Object[] {w});
+    }
+
+    /**
+     * Inserts elements, with {@code index == -1} to append.
+     */
+    private boolean addAll(int index, Object[] newEs, Object[] newWs) {
+      synchronized (lock) {
+        Snapshot s = snapshot;
+        int size = s.es.length;
+        if (index == -1) {
+          index = size;
+        } else if (index < 0 || index > size) {
+          throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        if (newEs.length == 0) {
+          return false;
+        }
+        Object[] es = new Object[size + newEs.length];
+        Object[] ws = new Object[es.length];
+        System.arraycopy(s.es, 0, es, 0, index);
+        System.arraycopy(s.ws, 0, ws, 0, index);
+        System.arraycopy(newEs, 0, es, index, newEs.length);
+        System.arraycopy(newWs, 0, ws, index, newWs.length);
+        System.arraycopy(s.es, index, es, index + newEs.length, size - index);
+        System.arraycopy(s.ws, index, ws, index + newWs.length, size - index);
+        snapshot = new Snapshot(es, ws);
+        return true;
+      }
+    }
+
+    /**
+     * Removes one element.
+     *
+     * @return  The previous snapshot
+     */
+    private Snapshot remove(int index) {
+      synchronized (lock) {
+        Snapshot s = snapshot;
+        int size = s.es.length;
+        Objects.checkIndex(index, size);
+        Object[] es = new Object[size - 1];
+        Object[] ws = new Object[size - 1];
+        System.arraycopy(s.es, 0, es, 0, index);
+        System.arraycopy(s.ws, 0, ws, 0, index);
+        System.arraycopy(s.es, index + 1, es, index, size - index - 1);
+        System.arraycopy(s.ws, index + 1, ws, index, size - index - 1);
+        snapshot = new Snapshot(es, ws);
+        return s;
+      }
+    }
+
+    /**
+     * Removes the first element equal to the given element, comparing the converted or wrapped elements.
+     */
+    private boolean remove(Object o, boolean wrapped) {
+      synchronized (lock) {
+        Object[] array = wrapped ? snapshot.ws : snapshot.es;
+        for (int i = 0; i < array.length; i++) {
+          if (Objects.equals(o, array[i])) {
+            remove(i);
+            return true;
+          }
+        }
+        return false;
+      }
+    }
+
+    /**
+     * Tests an element by index in the given arrays.
+     */
+    @FunctionalInterface
+    private interface IndexTest {
+      boolean test(Object[] es, Object[] ws, int index);
+    }
+
+    private boolean removeIf(IndexTest filter) {
+      synchronized (lock) {
+        Snapshot s = snapshot;
+        int size = s.es.length;
+        Object[] es = new Object[size];
+        Object[] ws = new Object[size];
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+          if (!filter.test(s.es, s.ws, i)) {
+            es[kept] = s.es[i];
+            ws[kept] = s.ws[i];
+            kept++;
+          }
+        }
+        if (kept == size) {
+          return false;
+        }
+        snapshot = new Snapshot(Arrays.copyOf(es, kept), Arrays.copyOf(ws, kept));
+        return true;
+      }
+    }
+
+    private void replaceAll(UnaryOperator<E> operator) {
+      synchronized (lock) {
+        Snapshot s = snapshot;
+        Object[] es = new Object[s.es.length];
+        Object[] ws = new Object[es.length];
+        for (int i = 0; i < es.length; i++) {
+          @SuppressWarnings("unchecked")
+          E e = operator.apply((E) s.es[i]);
+          es[i] = e;
+          ws[i] = transformer.toWrapped(e);
+        }
+        snapshot = new Snapshot(es, ws);
+      }
+    }
+
+    private void replaceAllWrapped(UnaryOperator<W> operator) {
+      synchronized (lock) {
+        Snapshot s = snapshot;
+        Object[] es = new Object[s.es.length];
+        Object[] ws = new Object[es.length];
+        for (int i = 0; i < es.length; i++) {
+          @SuppressWarnings("unchecked")
+          W w = operator.apply((W) s.ws[i]);
+          ws[i] = w;
+          es[i] = transformer.fromWrapped(w);
+        }
+        snapshot = new Snapshot(es, ws);
+      }
+    }
+
+    /**
+     * Sorts by the converted or wrapped elements.
+     */
+    @SuppressWarnings("unchecked")
+    private void sort(Comparator<?> c, boolean wrapped) {
+      synchronized (lock) {
+        Snapshot s = snapshot;
+        Object[] keys = wrapped ? s.ws : s.es;
+        Comparator<Object> cmp = (c == null)
+            ? (o1, o2) -> ((Comparable<Object>) o1).compareTo(o2)
+            : (Comparator<Object>) c;
+        Integer[] order = new Integer[keys.length];
+        for (int i = 0; i < order.length; i++) {
+          order[i] = i;
+        }
+        Arrays.sort(order, (i1, i2) -> cmp.compare(keys[i1], keys[i2]));
+        Object[] es = new Object[order.length];
+        Object[] ws = new Object[order.length];
+        for (int i = 0; i < order.length; i++) {
+          es[i] = s.es[order[i]];
+          ws[i] = s.ws[order[i]];
+        }
+        snapshot = new Snapshot(es, ws);
+      }
+    }
+
+    private void clear() {
+      synchronized (lock) {
+        snapshot = new Snapshot(new Object[0], new Object[0]);
+      }
+    }
+  }
+
+  /**
+   * The wrapped values, backed by the same store.
+   */
+  private static final class WrappedList<E, W> extends AbstractList<W> implements RandomAccess {
+    private final Store<E, W> store;
+
+    private WrappedList(Store<E, W> store) {
+      this.store = store;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public W get(int index) {
+      return (W) store.snapshot.ws[index];
+    }
+
+    @Override
+    public int size() {
+      return store.snapshot.ws.length;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public W set(int index, W w) {
+      return (W) store.set(index, store.transformer.fromWrapped(w), w).ws[index];
+    }
+
+    @Override
+    public void add(int index, W w) {
+      store.add(index, store.transformer.fromWrapped(w), w);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public W remove(int index) {
+      return (W) store.remove(index).ws[index];
+    }
+
+    @Override
+    public boolean remove(Object o) {
+      return store.remove(o, true);
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super W> filter) {
+      @SuppressWarnings("unchecked")
+      Store.IndexTest test = (es, ws, i) -> filter.test((W) ws[i]);
+      return store.removeIf(test);
+    }
+
+    @Override
+    public void replaceAll(UnaryOperator<W> operator) {
+      store.replaceAllWrapped(operator);
+    }
+
+    @Override
+    public void sort(Comparator<? super W> c) {
+      store.sort(c, true);
+    }
+
+    @Override
+    public void clear() {
+      store.clear();
+    }
+  }
+
+  private final Store<E, W> store;
+
+  private CopyOnWriteTransformList(Store<E, W> store) {
+    super(new WrappedList<>(store), store.transformer);
+    this.store = store;
+  }
+
+  @Override
+  public int size() {
+    return store.snapshot.es.length;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return store.snapshot.es.length == 0;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public E get(int index) {
+    return (E) store.snapshot.es[index];
+  }
+
+  private static int indexOf(Object o, Object[] es, int from, int to) {
+    for (int i = from; i < to; i++) {
+      if (Objects.equals(o, es[i])) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public int indexOf(Object o) {
+    Object[] es = store.snapshot.es;
+    return indexOf(o, es, 0, es.length);
+  }
+
+  @Override
+  public int lastIndexOf(Object o) {
+    Object[] es = store.snapshot.es;
+    for (int i = es.length - 1; i >= 0; i--) {
+      if (Objects.equals(o, es[i])) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    return indexOf(o) != -1;
+  }
+
+  @Override
+  public boolean containsAll(Collection<?> c) {
+    Object[] es = store.snapshot.es;
+    for (Object o : c) {
+      if (indexOf(o, es, 0, es.length) == -1) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public void forEach(Consumer<? super E> action) {
+    for (Object e : store.snapshot.es) {
+      action.accept((E) e);
+    }
+  }
+
+  @Override
+  public Object[] toArray() {
+    return store.snapshot.es.clone();
+  }
+
+  @Override
+  @SuppressWarnings({"unchecked", "SuspiciousSystemArraycopy"})
+  public <T> T[] toArray(T[] a) {
+    Object[] es = store.snapshot.es;
+    if (a.length < es.length) {
+      return (T[]) Arrays.copyOf(es, es.length, a.getClass());
+    }
+    System.arraycopy(es, 0, a, 0, es.length);
+    if (a.length > es.length) {
+      a[es.length] = null;
+    }
+    return a;
+  }
+
+  @Override
+  public <T> T[] toArray(IntFunction<T[]> generator) {
+    return toArray(generator.apply(0));
+  }
+
+  /**
+   * Iterates a snapshot, without modification.
+   */
+  private final class SnapshotIterator extends TransformListIterator<E, W> {
+    private final Object[] es;
+    private int cursor;
+
+    private SnapshotIterator(Object[] es, int index) {
+      super(null, CopyOnWriteTransformList.this.transformer);
+      if (index < 0 || index > es.length) {
+        throw new IndexOutOfBoundsException("Index: " + index);
+      }
+      this.es = es;
+      this.cursor = index;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return cursor < es.length;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E next() throws NoSuchElementException {
+      if (cursor >= es.length) {
+        throw new NoSuchElementException();
+      }
+      return (E) es[cursor++];
+    }
+
+    @Override
+    public boolean hasPrevious() {
+      return cursor > 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E previous() throws NoSuchElementException {
+      if (cursor <= 0) {
+        throw new NoSuchElementException();
+      }
+      return (E) es[--cursor];
+    }
+
+    @Override
+    public int nextIndex() {
+      return cursor;
+    }
+
+    @Override
+    public int previousIndex() {
+      return cursor - 1;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEachRemaining(Consumer<? super E> action) {
+      while (cursor < es.length) {
+        action.accept((E) es[cursor++]);
+      }
+    }
+
+    /**
+     * Not supported.
+     *
+     * @throws  UnsupportedOperationException  always
+     */
+    @Override
+    public void remove() throws UnsupportedOperationException {
+      throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Not supported.
+     *
+     * @throws  UnsupportedOperationException  always
+     */
+    @Override
+    public void set(E e) throws UnsupportedOperationException {
+      throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Not supported.
+     *
+     * @throws  UnsupportedOperationException  always
+     */
+    @Override
+    public void add(E e) throws UnsupportedOperationException {
+      throw new UnsupportedOperationException();
+    }
+  }
+
+  @Override
+  public TransformListIterator<E, W> iterator() {
+    return new SnapshotIterator(store.snapshot.es, 0);
+  }
+
+  @Override
+  public TransformListIterator<E, W> listIterator() {
+    return new SnapshotIterator(store.snapshot.es, 0);
+  }
+
+  @Override
+  public TransformListIterator<E, W> listIterator(int index) {
+    return new SnapshotIterator(store.snapshot.es, index);
+  }
+
+  @Override
+  public Spliterator<E> spliterator() {
+    return Spliterators.spliterator(store.snapshot.es, Spliterator.IMMUTABLE | Spliterator.ORDERED);
+  }
+
+  @Override
+  public E set(int index, E element) {
+    @SuppressWarnings("unchecked")
+    E old = (E) store.set(index, element, transformer.toWrapped(element)).es[index];
+    return old;
+  }
+
+  @Override
+  public boolean add(E e) {
+    return store.addAll(-1, new Object[] {e}, new Object[] {transformer.toWrapped(e)});
+  }
+
+  @Override
+  public void add(int index, E element) {
+    store.add(index, element, transformer.toWrapped(element));
+  }
+
+  @Override
+  public E remove(int index) {
+    @SuppressWarnings("unchecked")
+    E old = (E) store.remove(index).es[index];
+    return old;
+  }
+
+  @Override
+  public boolean remove(Object o) {
+    return store.remove(o, false);
+  }
+
+  /**
+   * Converts the given elements, in the order of the collection.
+   */
+  private Object[][] convert(Collection<? extends E> c) {
+    Object[] es = c.toArray();
+    Object[] ws = new Object[es.length];
+    for (int i = 0; i < es.length; i++) {
+      @SuppressWarnings("unchecked")
+      E e = (E) es[i];
+      ws[i] = transformer.toWrapped(e);
+    }
+    return new Object[][] {es, ws};
+  }
+
+  @Override
+  public boolean addAll(Collection<? extends E> c) {
+    TransformStats.bulkOperation(transformer);
+    Object[][] converted = convert(c);
+    return store.addAll(-1, converted[0], converted[1]);
+  }
+
+  @Override
+  public boolean addAll(int index, Collection<? extends E> c) {
+    TransformStats.bulkOperation(transformer);
+    Object[][] converted = convert(c);
+    return store.addAll(index, converted[0], converted[1]);
+  }
+
+  @Override
+  public boolean removeAll(Collection<?> c) {
+    TransformStats.bulkOperation(transformer);
+    Objects.requireNonNull(c);
+    return store.removeIf((es, ws, i) -> c.contains(es[i]));
+  }
+
+  @Override
+  public boolean retainAll(Collection<?> c) {
+    TransformStats.bulkOperation(transformer);
+    Objects.requireNonNull(c);
+    return store.removeIf((es, ws, i) -> !c.contains(es[i]));
+  }
+
+  @Override
+  public boolean removeIf(Predicate<? super E> filter) {
+    TransformStats.bulkOperation(transformer);
+    @SuppressWarnings("unchecked")
+    Store.IndexTest test = (es, ws, i) -> filter.test((E) es[i]);
+    return store.removeIf(test);
+  }
+
+  @Override
+  public void replaceAll(UnaryOperator<E> operator) {
+    TransformStats.bulkOperation(transformer);
+    store.replaceAll(operator);
+  }
+
+  @Override
+  public void sort(Comparator<? super E> c) {
+    TransformStats.bulkOperation(transformer);
+    store.sort(c, false);
+  }
+
+  @Override
+  public void clear() {
+    store.clear();
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (o == this) {
+      return true;
+    }
+    if (!(o instanceof List)) {
+      return false;
+    }
+    Object[] es = store.snapshot.es;
+    ListIterator<?> iter = ((List<?>) o).listIterator();
+    for (Object e : es) {
+      if (!iter.hasNext() || !Objects.equals(e, iter.next())) {
+        return false;
+      }
+    }
+    return !iter.hasNext();
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(store.snapshot.es);
+  }
+
+  @Override
+  public String toString() {
+    return Arrays.toString(store.snapshot.es);
+  }
+}
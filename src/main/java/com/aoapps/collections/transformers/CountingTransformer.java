@@ -0,0 +1,126 @@
+/*
+ * ao-collections-transformers - Bi-directional collection transformations for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections-transformers.
+ *
+ * ao-collections-transformers is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections-transformers is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections-transformers.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections.transformers;
+
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the conversions of a transformer into {@link TransformStats}.
+ *
+ * @author  AO Industries, Inc.
+ *
+ * @see  TransformStats#instrument(com.aoapps.collections.transformers.Transformer)
+ */
+final class CountingTransformer<E, W> implements Transformer<E, W> {
+
+  private final Transformer<E, W> wrapped;
+  final TransformStats stats;
+  private final LongAdder toWrappedCounter;
+  private final LongAdder fromWrappedCounter;
+  private final CountingTransformer<W, E> inverted;
+  private final Transformer<Object, Object> unbounded;
+
+  CountingTransformer(Transformer<E, W> wrapped, TransformStats stats) {
+    this.wrapped = wrapped;
+    this.stats = stats;
+    this.toWrappedCounter = stats.toWrapped;
+    this.fromWrappedCounter = stats.fromWrapped;
+    this.inverted = new CountingTransformer<>(wrapped.invert(), stats, this);
+    this.unbounded = new CountingUnbounded();
+  }
+
+  private CountingTransformer(Transformer<E, W> wrapped, TransformStats stats, CountingTransformer<W, E> inverted) {
+    this.wrapped = wrapped;
+    this.stats = stats;
+    // Conversions of the inverse count in the opposite direction
+    this.toWrappedCounter = stats.fromWrapped;
+    this.fromWrappedCounter = stats.toWrapped;
+    this.inverted = inverted;
+    this.unbounded = new CountingUnbounded();
+  }
+
+  @Override
+  public W toWrapped(E e) {
+    toWrappedCounter.increment();
+    return wrapped.toWrapped(e);
+  }
+
+  @Override
+  public E fromWrapped(W w) {
+    fromWrappedCounter.increment();
+    return wrapped.fromWrapped(w);
+  }
+
+  /**
+   * Determines if the given object will be converted by {@link Transformer#unbounded()}.
+   * Transformers of unknown type are assumed to convert everything.
+   *
+   * @param  toWrapped  {@code true} for conversion to the wrapped type, {@code false} for the wrapper type
+   */
+  private boolean isConverted(Object o, boolean toWrapped) {
+    if (wrapped instanceof AbstractTransformer) {
+      AbstractTransformer<?, ?> abstractTransformer = (AbstractTransformer<?, ?>) wrapped;
+      return (toWrapped ? abstractTransformer.eClass : abstractTransformer.wClass).isInstance(o);
+    }
+    if (wrapped instanceof MapEntryTransformer) {
+      return o instanceof Map.Entry;
+    }
+    return true;
+  }
+
+  private final class CountingUnbounded implements Transformer<Object, Object> {
+    @Override
+    public Object toWrapped(Object e) {
+      (isConverted(e, true) ? toWrappedCounter : stats.unboundedFallbacks).increment();
+      return wrapped.unbounded().toWrapped(e);
+    }
+
+    @Override
+    public Object fromWrapped(Object w) {
+      (isConverted(w, false) ? fromWrappedCounter : stats.unboundedFallbacks).increment();
+      return wrapped.unbounded().fromWrapped(w);
+    }
+
+    @Override
+    public Transformer<Object, Object> unbounded() {
+      return this;
+    }
+
+    @Override
+    public Transformer<Object, Object> invert() {
+      return inverted.unbounded();
+    }
+  }
+
+  @Override
+  public Transformer<Object, Object> unbounded() {
+    return unbounded;
+  }
+
+  @Override
+  public CountingTransformer<W, E> invert() {
+    return inverted;
+  }
+}
@@ -0,0 +1,151 @@
+/*
+ * ao-collections-transformers - Bi-directional collection transformations for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections-transformers.
+ *
+ * ao-collections-transformers is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections-transformers is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections-transformers.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections.transformers;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Encodes the values of a low-cardinality type, such as status or country codes, as {@code int} codes assigned in
+ * order of first conversion.  The dictionary is shared by every collection using the transformer, so collections
+ * such as {@link IntTransformList} and {@link IntKeyTransformMap} store only the codes.
+ *
+ * <p>Codes are converted to values by array index, and values to codes by a {@link ConcurrentHashMap}.  Both
+ * directions are lock-free, and the dictionary grows safely under concurrent conversion, only locking to assign
+ * new codes.  Values are never removed from the dictionary, but queries through {@link #unbounded()} do not assign
+ * codes.</p>
+ *
+ * <p>Values must be immutable, with consistent {@link Object#equals(java.lang.Object)} and
+ * {@link Object#hashCode()}.</p>
+ *
+ * @param  <E>  The value type
+ *
+ * @author  AO Industries, Inc.
+ */
+public class DictionaryTransformer<E> extends IntTransformer<E> {
+
+  private static final int INITIAL_CAPACITY = 16;
+
+  private final ConcurrentHashMap<E, Integer> codes = new ConcurrentHashMap<>();
+
+  /**
+   * Guards the assignment of new codes.
+   */
+  private final Object lock = new Object();
+
+  /**
+   * The values by code, replaced when grown.  A value is written before the array is published and before its code
+   * is added to {@link #codes}, so any thread that has a code sees its value.
+   */
+  private volatile Object[] values = new Object[INITIAL_CAPACITY];
+
+  private volatile int size;
+
+  /**
+   * Creates a new, empty dictionary.
+   */
+  public DictionaryTransformer(Class<E> eClass) {
+    super(eClass);
+  }
+
+  /**
+   * Gets the number of codes assigned.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Gets the code of a value without assigning one.
+   *
+   * @return  The code or {@code -1} when none assigned
+   */
+  public int codeOf(Object value) {
+    Integer code = (value == null) ? null : codes.get(value);
+    return (code == null) ? -1 : code;
+  }
+
+  @Override
+  public boolean hasInt(E e) {
+    return codes.containsKey(e);
+  }
+
+  /**
+   * Gets the code of a value, assigning the next code when none.
+   */
+  @Override
+  protected int doToInt(E e) {
+    Integer code = codes.get(e);
+    return (code != null) ? code : assign(e);
+  }
+
+  private int assign(E e) {
+    synchronized (lock) {
+      Integer code = codes.get(e);
+      if (code != null) {
+        return code;
+      }
+      int newCode = size;
+      Object[] v = values;
+      if (newCode == v.length) {
+        if (newCode == Integer.MAX_VALUE) {
+          throw new IllegalStateException("Dictionary full");
+        }
+        v = Arrays.copyOf(v, (int) Math.min((long) newCode << 1, Integer.MAX_VALUE));
+      }
+      v[newCode] = eClass.cast(e);
+      values = v;
+      size = newCode + 1;
+      codes.put(e, newCode);
+      return newCode;
+    }
+  }
+
+  /**
+   * Gets the code of a value without assigning one, so queries, such as
+   * {@link java.util.Collection#contains(java.lang.Object)}, do not grow the dictionary.
+   *
+   * @return  The code or {@code -1}, which is never assigned, when none
+   */
+  @Override
+  protected Integer toWrappedForQuery(E e) {
+    return codeOf(e);
+  }
+
+  /**
+   * Gets the value of a code.
+   *
+   * @throws  IllegalArgumentException  when the code has not been assigned
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  protected E doFromInt(int w) throws IllegalArgumentException {
+    Object[] v = values;
+    Object e = (w >= 0 && w < v.length) ? v[w] : null;
+    if (e == null) {
+      throw new IllegalArgumentException("Code not assigned: " + w);
+    }
+    return (E) e;
+  }
+}
@@ -0,0 +1,175 @@
+/*
+ * ao-collections-transformers - Bi-directional collection transformations for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections-transformers.
+ *
+ * ao-collections-transformers is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections-transformers is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections-transformers.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections.transformers;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.function.Function;
+
+/**
+ * Converts between the constants of an enum and distinct wrapped values, such as codes.  The wrapped values are
+ * computed once, into an array indexed by ordinal, and converted back through an open-addressing hash table sized
+ * so that, whenever practical, every wrapped value has its own slot.  Neither direction calls the conversion
+ * function after construction.
+ *
+ * <p>{@link #newEnumSet()} and {@link #newEnumMap()} create views of wrapped values stored as enum constants in an
+ * {@link EnumSet} or {@link EnumMap}, which are bit vectors and arrays indexed by ordinal.</p>
+ *
+ * <p>{@code null} is converted to {@code null}, as are wrapped values of no constant, which view queries such as
+ * {@link TransformSet#contains(java.lang.Object)} rely on to find nothing.</p>
+ *
+ * @param  <E>  The enum type
+ * @param  <W>  The wrapped type
+ *
+ * @author  AO Industries, Inc.
+ */
+public class EnumTransformer<E extends Enum<E>, W> extends AbstractTransformer<E, W> {
+
+  /**
+   * The largest table, relative to the number of constants, searched for a size without collisions.
+   */
+  private static final int MAX_TABLE_FACTOR = 64;
+
+  private final E[] constants;
+  private final W[] wrappedByOrdinal;
+  private final Object[] table;
+  private final int[] ordinals;
+  private final int mask;
+
+  /**
+   * Creates a new enum converter.
+   *
+   * @param  toWrapped  Converts each constant to a distinct, non-null wrapped value
+   *
+   * @throws  IllegalArgumentException  when the wrapped values are not distinct
+   * @throws  NullPointerException  when a wrapped value is {@code null}
+   */
+  public EnumTransformer(
+      Class<E> enumClass,
+      Class<W> wClass,
+      Function<? super E, ? extends W> toWrapped
+  ) throws IllegalArgumentException, NullPointerException {
+    super(enumClass, wClass);
+    constants = enumClass.getEnumConstants();
+    @SuppressWarnings("unchecked")
+    W[] byOrdinal = (W[]) Array.newInstance(wClass, constants.length);
+    for (E constant : constants) {
+      W w = toWrapped.apply(constant);
+      if (w == null) {
+        throw new NullPointerException("Wrapped value is null: " + constant);
+      }
+      byOrdinal[constant.ordinal()] = wClass.cast(w);
+    }
+    wrappedByOrdinal = byOrdinal;
+    int size = tableSize(byOrdinal);
+    table = new Object[size];
+    ordinals = new int[size];
+    mask = size - 1;
+    for (int ordinal = 0; ordinal < byOrdinal.length; ordinal++) {
+      W w = byOrdinal[ordinal];
+      int slot = spread(w.hashCode()) & mask;
+      while (table[slot] != null) {
+        if (table[slot].equals(w)) {
+          throw new IllegalArgumentException("Wrapped values not distinct: " + constants[ordinals[slot]] + " and "
+              + constants[ordinal] + " are both " + w);
+        }
+        slot = (slot + 1) & mask;
+      }
+      table[slot] = w;
+      ordinals[slot] = ordinal;
+    }
+  }
+
+  private static int spread(int h) {
+    h *= 0x9E3779B9;
+    return h ^ (h >>> 16);
+  }
+
+  /**
+   * Finds the smallest table, at least twice the number of values, in which the values do not collide.  Falls back to
+   * twice the number of values, with linear probing, when there is no such table within
+   * {@link #MAX_TABLE_FACTOR} times the number of values.
+   */
+  private static int tableSize(Object[] values) {
+    int minSize = Integer.highestOneBit(Math.max(values.length, 1)) << 2;
+    int maxSize = minSize * MAX_TABLE_FACTOR;
+    boolean[] used = new boolean[maxSize];
+    for (int size = minSize; size <= maxSize; size <<= 1) {
+      int m = size - 1;
+      boolean perfect = true;
+      for (Object value : values) {
+        int slot = spread(value.hashCode()) & m;
+        if (used[slot]) {
+          perfect = false;
+          break;
+        }
+        used[slot] = true;
+      }
+      Arrays.fill(used, 0, size, false);
+      if (perfect) {
+        return size;
+      }
+    }
+    return minSize;
+  }
+
+  @Override
+  protected W doToWrapped(E e) {
+    return (e == null) ? null : wrappedByOrdinal[e.ordinal()];
+  }
+
+  @Override
+  protected E doFromWrapped(W w) {
+    if (w == null) {
+      return null;
+    }
+    Object[] t = table;
+    int m = mask;
+    for (int slot = spread(w.hashCode()) & m; ; slot = (slot + 1) & m) {
+      Object current = t[slot];
+      if (current == null) {
+        return null;
+      }
+      if (current.equals(w)) {
+        return constants[ordinals[slot]];
+      }
+    }
+  }
+
+  /**
+   * Creates a new, empty set of wrapped values stored as enum constants in an {@link EnumSet}.
+   */
+  public TransformSet<W, E> newEnumSet() {
+    return TransformSet.of(EnumSet.noneOf(eClass), invert());
+  }
+
+  /**
+   * Creates a new, empty map keyed by wrapped values stored as enum constants in an {@link EnumMap}.
+   */
+  public <V> TransformMap<W, V, E, V> newEnumMap() {
+    return TransformMap.of(new EnumMap<>(eClass), invert(), Transformer.identity());
+  }
+}
@@ -0,0 +1,438 @@
+/*
+ * ao-collections-transformers - Bi-directional collection transformations for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections-transformers.
+ *
+ * ao-collections-transformers is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections-transformers is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections-transformers.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections.transformers;
+
+import java.time.Duration;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * A {@link TransformMap} cache whose entries expire a fixed time after being written, a fixed time after last being
+ * read or written, or, once at a maximum size, by approximately least-recent use.  Expired entries are not found,
+ * and are removed as they are encountered, plus a few sampled at random on each update, so there is no sweeping
+ * scan and no background thread.
+ *
+ * <p>At the maximum size, each new entry evicts one of several other entries sampled at random, preferring an
+ * expired entry, otherwise the least recently used of the sample.  This approximates least-recently-used eviction in
+ * constant time per update.</p>
+ *
+ * <p>{@link #computeIfAbsent(java.lang.Object, java.util.function.Function)} loads through on a missing or expired
+ * entry.  {@link #size()} may include expired entries not yet removed.  The wrapped map must only be modified
+ * through this map.</p>
+ *
+ * <p>The times of each entry are kept in a map with the same key equality as the wrapped map: a {@link TreeMap} with
+ * the same comparator for a {@link SortedMap}, an {@link IdentityHashMap} for an {@link IdentityHashMap}, otherwise a
+ * {@link HashMap}.  Any other wrapped map must compare keys by {@link Object#equals(java.lang.Object)} and
+ * {@link Object#hashCode()}.</p>
+ *
+ * <p>Iteration is in no particular order, and is not fail-fast.</p>
+ *
+ * <p>Not thread-safe.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+public class ExpiringTransformMap<K, V, KW, VW> extends TransformMap<K, V, KW, VW> {
+
+  /**
+   * The number of entries sampled to choose an eviction.
+   */
+  private static final int EVICTION_SAMPLES = 5;
+
+  /**
+   * The number of entries sampled for expiration on each update.
+   */
+  private static final int EXPIRATION_SAMPLES = 3;
+
+  /**
+   * Wraps a map.
+   *
+   * @param  timeToLive  The time after being written that entries expire, or {@code null} for none
+   * @param  timeToIdle  The time after last being read or written that entries expire, or {@code null} for none
+   * @param  maximumSize  The maximum number of entries, or {@link Integer#MAX_VALUE} for no limit
+   *
+   * @throws  IllegalArgumentException  when a time is not positive or the maximum size is less than one
+   */
+  public static <K, V, KW, VW> ExpiringTransformMap<K, V, KW, VW> of(
+      Map<KW, VW> map,
+      Transformer<K, KW> keyTransformer,
+      Transformer<V, VW> valueTransformer,
+      Duration timeToLive,
+      Duration timeToIdle,
+      int maximumSize
+  ) throws IllegalArgumentException {
+    return (map == null) ? null : new ExpiringTransformMap<>(
+        new ExpiringMap<>(map, toNanos(timeToLive), toNanos(timeToIdle), maximumSize),
+        keyTransformer,
+        valueTransformer
+    );
+  }
+
+  /**
+   * See {@link #of(java.util.Map, com.aoapps.collections.transformers.Transformer, com.aoapps.collections.transformers.Transformer, java.time.Duration, java.time.Duration, int)}.
+   *
+   * @see  Transformer#identity()
+   */
+  public static <K, V> ExpiringTransformMap<K, V, K, V> of(
+      Map<K, V> map,
+      Duration timeToLive,
+      Duration timeToIdle,
+      int maximumSize
+  ) throws IllegalArgumentException {
+    return of(map, Transformer.identity(), Transformer.identity(), timeToLive, timeToIdle, maximumSize);
+  }
+
+  /**
+   * @return  The time in nanoseconds or {@code 0} for none
+   */
+  private static long toNanos(Duration duration) throws IllegalArgumentException {
+    if (duration == null) {
+      return 0;
+    }
+    if (duration.isNegative() || duration.isZero()) {
+      throw new IllegalArgumentException("Time is not positive: " + duration);
+    }
+    return duration.toNanos();
+  }
+
+  /**
+   * The times of one entry.
+   */
+  private static final class Times<KW> {
+    private final KW key;
+    private long written;
+    private long accessed;
+    /**
+     * The index in {@link ExpiringMap#sample}.
+     */
+    private int index;
+
+    private Times(KW key, long now, int index) {
+      this.key = key;
+      this.written = now;
+      this.accessed = now;
+      this.index = index;
+    }
+  }
+
+  /**
+   * The wrapped view of the caller's map, tracking the times of each entry.
+   */
+  private static final class ExpiringMap<KW, VW> extends AbstractMap<KW, VW> {
+
+    private final Map<KW, VW> map;
+    private final long timeToLive;
+    private final long timeToIdle;
+    private final int maximumSize;
+    private final Map<KW, Times<KW>> times;
+    /**
+     * The times of every entry, in no particular order, for sampling at random.
+     */
+    private final ArrayList<Times<KW>> sample = new ArrayList<>();
+    private long seed = System.nanoTime() | 1;
+
+    private ExpiringMap(Map<KW, VW> map, long timeToLive, long timeToIdle, int maximumSize) {
+      if (maximumSize < 1) {
+        throw new IllegalArgumentException("maximumSize < 1: " + maximumSize);
+      }
+      this.map = map;
+      this.timeToLive = timeToLive;
+      this.timeToIdle = timeToIdle;
+      this.maximumSize = maximumSize;
+      if (map instanceof SortedMap) {
+        times = new TreeMap<>(((SortedMap<KW, VW>) map).comparator());
+      } else if (map instanceof IdentityHashMap) {
+        times = new IdentityHashMap<>();
+      } else {
+        times = new HashMap<>();
+      }
+      long now = System.nanoTime();
+      for (KW key : map.keySet()) {
+        track(key, now);
+      }
+      evict(now, null);
+    }
+
+    private int random(int bound) {
+      // xorshift
+      long x = seed;
+      x ^= x << 13;
+      x ^= x >>> 7;
+      x ^= x << 17;
+      seed = x;
+      return (int) ((x >>> 33) % bound);
+    }
+
+    private boolean isExpired(Times<KW> t, long now) {
+      return (timeToLive != 0 && now - t.written >= timeToLive)
+          || (timeToIdle != 0 && now - t.accessed >= timeToIdle);
+    }
+
+    private Times<KW> track(KW key, long now) {
+      Times<KW> t = new Times<>(key, now, sample.size());
+      times.put(key, t);
+      sample.add(t);
+      return t;
+    }
+
+    private void untrack(Times<KW> t) {
+      times.remove(t.key);
+      Times<KW> last = sample.remove(sample.size() - 1);
+      if (last != t) {
+        last.index = t.index;
+        sample.set(t.index, last);
+      }
+    }
+
+    /**
+     * Removes an entry from the caller's map and its times.
+     */
+    private void expire(Times<KW> t) {
+      map.remove(t.key);
+      untrack(t);
+    }
+
+    /**
+     * Evicts entries beyond the maximum size, then removes any expired among a sample of entries.
+     *
+     * @param  added  The entry just added, which is never evicted, or {@code null} for none
+     */
+    private void evict(long now, Times<KW> added) {
+      while (sample.size() > maximumSize) {
+        Times<KW> victim = null;
+        for (int i = 0; i < EVICTION_SAMPLES; i++) {
+          Times<KW> t;
+          if (added == null) {
+            t = sample.get(random(sample.size()));
+          } else {
+            // Sample uniformly among the others, standing the last in for the added
+            int index = random(sample.size() - 1);
+            t = sample.get(index == added.index ? sample.size() - 1 : index);
+          }
+          if (isExpired(t, now)) {
+            victim = t;
+            break;
+          }
+          if (victim == null || t.accessed - victim.accessed < 0) {
+            victim = t;
+          }
+        }
+        expire(victim);
+      }
+      if (timeToLive != 0 || timeToIdle != 0) {
+        for (int i = 0; i < EXPIRATION_SAMPLES && !sample.isEmpty(); i++) {
+          Times<KW> t = sample.get(random(sample.size()));
+          if (isExpired(t, now)) {
+            expire(t);
+          }
+        }
+      }
+    }
+
+    /**
+     * Gets the times of a present, unexpired entry, removing it when expired.
+     */
+    private Times<KW> live(Object key, long now) {
+      Times<KW> t = times.get(key);
+      if (t != null && isExpired(t, now)) {
+        expire(t);
+        return null;
+      }
+      return t;
+    }
+
+    void cleanUp() {
+      long now = System.nanoTime();
+      for (int i = sample.size() - 1; i >= 0; i--) {
+        if (i < sample.size()) {
+          Times<KW> t = sample.get(i);
+          if (isExpired(t, now)) {
+            expire(t);
+          }
+        }
+      }
+    }
+
+    @Override
+    public int size() {
+      return map.size();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+      return live(key, System.nanoTime()) != null;
+    }
+
+    @Override
+    public VW get(Object key) {
+      long now = System.nanoTime();
+      Times<KW> t = live(key, now);
+      if (t == null) {
+        return null;
+      }
+      t.accessed = now;
+      return map.get(key);
+    }
+
+    @Override
+    public VW put(KW key, VW value) {
+      long now = System.nanoTime();
+      Times<KW> t = live(key, now);
+      VW old = map.put(key, value);
+      if (t == null) {
+        evict(now, track(key, now));
+      } else {
+        t.written = now;
+        t.accessed = now;
+      }
+      return old;
+    }
+
+    @Override
+    public VW remove(Object key) {
+      Times<KW> t = live(key, System.nanoTime());
+      if (t == null) {
+        return null;
+      }
+      untrack(t);
+      return map.remove(key);
+    }
+
+    @Override
+    public void clear() {
+      map.clear();
+      times.clear();
+      sample.clear();
+    }
+
+    private Set<Map.Entry<KW, VW>> entrySet;
+
+    @Override
+    public Set<Map.Entry<KW, VW>> entrySet() {
+      Set<Map.Entry<KW, VW>> es = entrySet;
+      if (es == null) {
+        es = new AbstractSet<>() {
+          @Override
+          public int size() {
+            return ExpiringMap.this.size();
+          }
+
+          @Override
+          public void clear() {
+            ExpiringMap.this.clear();
+          }
+
+          @Override
+          public Iterator<Map.Entry<KW, VW>> iterator() {
+            return new EntryIterator();
+          }
+        };
+        entrySet = es;
+      }
+      return es;
+    }
+
+    /**
+     * Iterates unexpired entries, removing expired entries along the way.  Entries are iterated from the end of
+     * {@link #sample} so that removals, which move the last entry into the place of the removed, only move entries
+     * already returned.  This allows removal after looking ahead, without iterating the wrapped map.
+     */
+    private final class EntryIterator implements Iterator<Map.Entry<KW, VW>> {
+      private final long now = System.nanoTime();
+      /**
+       * The index in {@link #sample} of the next entry to consider.
+       */
+      private int cursor = sample.size() - 1;
+      private Times<KW> nextTimes;
+      private Times<KW> lastTimes;
+
+      @Override
+      public boolean hasNext() {
+        while (nextTimes == null && cursor >= 0) {
+          Times<KW> t = sample.get(cursor--);
+          if (isExpired(t, now)) {
+            expire(t);
+          } else {
+            nextTimes = t;
+          }
+        }
+        return nextTimes != null;
+      }
+
+      @Override
+      public Map.Entry<KW, VW> next() throws NoSuchElementException {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        Times<KW> t = nextTimes;
+        nextTimes = null;
+        lastTimes = t;
+        KW key = t.key;
+        return new SimpleEntry<>(key, map.get(key)) {
+          private static final long serialVersionUID = 1L;
+
+          @Override
+          public VW setValue(VW value) {
+            map.put(key, value);
+            long written = System.nanoTime();
+            t.written = written;
+            t.accessed = written;
+            return super.setValue(value);
+          }
+        };
+      }
+
+      @Override
+      public void remove() throws IllegalStateException {
+        if (lastTimes == null) {
+          throw new IllegalStateException();
+        }
+        expire(lastTimes);
+        lastTimes = null;
+      }
+    }
+  }
+
+  private final ExpiringMap<KW, VW> expiring;
+
+  private ExpiringTransformMap(ExpiringMap<KW, VW> expiring, Transformer<K, KW> keyTransformer, Transformer<V, VW> valueTransformer) {
+    super(expiring, keyTransformer, valueTransformer);
+    this.expiring = expiring;
+  }
+
+  /**
+   * Removes all expired entries.
+   */
+  public void cleanUp() {
+    expiring.cleanUp();
+  }
+}
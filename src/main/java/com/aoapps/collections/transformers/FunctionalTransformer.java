@@ -1,6 +1,6 @@
 /*
  * ao-collections-transformers - Bi-directional collection transformations for Java.
- * Copyright (C) 2020, 2021, 2022, 2024  AO Industries, Inc.
+ * Copyright (C) 2020, 2021, 2022, 2024, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -57,33 +57,13 @@ public class FunctionalTransformer<E, W> extends AbstractTransformer<E, W> {
     this.fromWrapped = fromWrapped;
   }
 
-  /**
-   * Creates a new bi-directional functional transformer.
-   *
-   * @param eClass The wrapper type
-   * @param wClass The wrapped type
-   * @param toWrapped Converts from wrapper to wrapped type
-   * @param fromWrapped Converts from wrapped to wrapper type
-   */
-  FunctionalTransformer(
-      Class<E> eClass,
-      Class<W> wClass,
-      Function<? super E, ? extends W> toWrapped,
-      Function<? super W, ? extends E> fromWrapped,
-      AbstractTransformer<W, E> inverted
-  ) {
-    super(eClass, wClass, inverted);
-    this.toWrapped = toWrapped;
-    this.fromWrapped = fromWrapped;
-  }
-
   @Override
-  public W toWrapped(E e) {
+  protected W doToWrapped(E e) {
     return toWrapped.apply(e);
   }
 
   @Override
-  public E fromWrapped(W w) {
+  protected E doFromWrapped(W w) {
     return fromWrapped.apply(w);
   }
 }
@@ -0,0 +1,281 @@
+/*
+ * ao-collections-transformers - Bi-directional collection transformations for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections-transformers.
+ *
+ * ao-collections-transformers is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections-transformers is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections-transformers.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections.transformers;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * An {@link ObservableTransformMap} with secondary indexes, from an attribute extracted from each value to the set of
+ * keys having that attribute.  Indexes are maintained incrementally from the changes of this map, including those
+ * through {@link #compute(java.lang.Object, java.util.function.BiFunction)},
+ * {@link #merge(java.lang.Object, java.lang.Object, java.util.function.BiFunction)}, and its views, so a lookup by
+ * attribute takes constant time instead of a scan of {@link #values()}.  A {@linkplain #addSortedIndex(java.util.function.Function, java.util.Comparator) sorted index}
+ * also finds the keys for a range of attributes.
+ *
+ * <p>Indexes are updated as each batch of changes is delivered, before any other listeners, so are not updated
+ * within a bulk operation, such as by the function given to {@link #replaceAll(java.util.function.BiFunction)}.
+ * Attributes must not change while their values are in this map.  Neither {@code null} values nor {@code null}
+ * attributes are indexed, and the extractor is not called for {@code null} values.
+ * While there are no indexes, changes are not observed, so cost nothing to record.</p>
+ *
+ * <p>Not thread-safe.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+public class IndexedTransformMap<K, V, KW, VW> extends ObservableTransformMap<K, V, KW, VW> {
+
+  /**
+   * Wraps a map.
+   */
+  public static <K, V, KW, VW> IndexedTransformMap<K, V, KW, VW> of(
+      Map<KW, VW> map,
+      Transformer<K, KW> keyTransformer,
+      Transformer<V, VW> valueTransformer
+  ) {
+    return (map == null) ? null : new IndexedTransformMap<>(map, keyTransformer, valueTransformer);
+  }
+
+  /**
+   * Wraps a map.
+   *
+   * @see  Transformer#identity()
+   */
+  public static <K, V> IndexedTransformMap<K, V, K, V> of(Map<K, V> map) {
+    return of(map, Transformer.identity(), Transformer.identity());
+  }
+
+  /**
+   * Creates a new, empty {@link HashMap}.
+   *
+   * @see  Transformer#identity()
+   */
+  public static <K, V> IndexedTransformMap<K, V, K, V> of() {
+    return of(new HashMap<>());
+  }
+
+  /**
+   * A secondary index of this map.
+   *
+   * @param  <A>  The attribute type
+   */
+  public final class Index<A> {
+
+    private final Function<? super V, ? extends A> extractor;
+    private final Map<A, Set<K>> keys;
+
+    private Index(Function<? super V, ? extends A> extractor, Map<A, Set<K>> keys) {
+      this.extractor = extractor;
+      this.keys = keys;
+      for (Map.Entry<K, V> entry : entrySet()) {
+        add(entry.getKey(), entry.getValue());
+      }
+    }
+
+    /**
+     * Gets the attribute of a value, not calling the extractor for {@code null} values, which are not indexed.
+     */
+    private A attribute(V value) {
+      return (value == null) ? null : extractor.apply(value);
+    }
+
+    private void add(K key, V value) {
+      A attribute = attribute(value);
+      if (attribute != null) {
+        keys.computeIfAbsent(attribute, a -> new HashSet<>()).add(key);
+      }
+    }
+
+    private void remove(K key, V value) {
+      A attribute = attribute(value);
+      if (attribute != null) {
+        Set<K> set = keys.get(attribute);
+        if (set != null && set.remove(key) && set.isEmpty()) {
+          keys.remove(attribute);
+        }
+      }
+    }
+
+    private void replace(K key, V oldValue, V newValue) {
+      A oldAttribute = attribute(oldValue);
+      A newAttribute = attribute(newValue);
+      if (
+          oldAttribute == null
+              ? newAttribute != null
+              : !oldAttribute.equals(newAttribute)
+      ) {
+        remove(key, oldValue);
+        add(key, newValue);
+      }
+    }
+
+    /**
+     * Checks whether this index is sorted, supporting range lookups.
+     */
+    public boolean isSorted() {
+      return keys instanceof NavigableMap;
+    }
+
+    /**
+     * Gets the keys having the given attribute.
+     *
+     * @return  An unmodifiable view of the keys, which may not reflect later changes to the map, or an empty set when
+     *          none.
+     */
+    public Set<K> get(Object attribute) {
+      Set<K> set = (attribute == null) ? null : keys.get(attribute);
+      return (set == null) ? Collections.emptySet() : Collections.unmodifiableSet(set);
+    }
+
+    /**
+     * Gets the keys having attributes within the given range.
+     *
+     * @param  from  The lowest attribute or {@code null} for no lower bound
+     * @param  to  The highest attribute or {@code null} for no upper bound
+     *
+     * @return  A new set of the keys
+     *
+     * @throws  UnsupportedOperationException  when this index is not sorted
+     */
+    public Set<K> getRange(A from, boolean fromInclusive, A to, boolean toInclusive)
+        throws UnsupportedOperationException {
+      if (!isSorted()) {
+        throw new UnsupportedOperationException("Index is not sorted");
+      }
+      NavigableMap<A, Set<K>> range = (NavigableMap<A, Set<K>>) keys;
+      if (from != null) {
+        range = range.tailMap(from, fromInclusive);
+      }
+      if (to != null) {
+        range = range.headMap(to, toInclusive);
+      }
+      Set<K> result = new HashSet<>();
+      for (Set<K> set : range.values()) {
+        result.addAll(set);
+      }
+      return result;
+    }
+
+    /**
+     * Gets the indexed attributes and their keys.
+     *
+     * @return  An unmodifiable view, a {@link NavigableMap} when this index is sorted.  The key sets may not reflect
+     *          later changes to the map.
+     */
+    public Map<A, Set<K>> asMap() {
+      return isSorted()
+          ? Collections.unmodifiableNavigableMap((NavigableMap<A, Set<K>>) keys)
+          : Collections.unmodifiableMap(keys);
+    }
+  }
+
+  private final List<Index<?>> indexes = new ArrayList<>();
+
+  /**
+   * Updates the indexes, registered only while there are indexes.
+   */
+  private final ChangeListener<MapChange<K, V>> updater = this::update;
+
+  protected IndexedTransformMap(Map<KW, VW> wrapped, Transformer<K, KW> keyTransformer, Transformer<V, VW> valueTransformer) {
+    super(wrapped, keyTransformer, valueTransformer);
+  }
+
+  private void update(List<MapChange<K, V>> changes) {
+    for (MapChange<K, V> change : changes) {
+      K key = change.getKey();
+      V value = change.getValue();
+      switch (change.getType()) {
+        case ADDED:
+          for (Index<?> index : indexes) {
+            index.add(key, value);
+          }
+          break;
+        case REMOVED:
+          for (Index<?> index : indexes) {
+            index.remove(key, value);
+          }
+          break;
+        case REPLACED:
+          V oldValue = change.getOldValue();
+          for (Index<?> index : indexes) {
+            index.replace(key, oldValue, value);
+          }
+          break;
+        default:
+          throw new AssertionError();
+      }
+    }
+  }
+
+  private <A> Index<A> add(Index<A> index) {
+    if (indexes.isEmpty()) {
+      addFirstListener(updater);
+    }
+    indexes.add(index);
+    return index;
+  }
+
+  /**
+   * Adds a hash index, built from the current entries.
+   *
+   * @param  extractor  Gets the attribute of a value, or {@code null} to not index the value
+   */
+  public <A> Index<A> addIndex(Function<? super V, ? extends A> extractor) {
+    return add(new Index<>(extractor, new HashMap<>()));
+  }
+
+  /**
+   * Adds a sorted index, supporting range lookups, built from the current entries.
+   *
+   * @param  extractor  Gets the attribute of a value, or {@code null} to not index the value
+   * @param  comparator  The order of attributes or {@code null} for their natural order
+   */
+  public <A> Index<A> addSortedIndex(Function<? super V, ? extends A> extractor, Comparator<? super A> comparator) {
+    return add(new Index<>(extractor, new TreeMap<>(comparator)));
+  }
+
+  /**
+   * Removes an index, which is no longer updated.
+   *
+   * @return  {@code true} when the index was removed
+   */
+  public boolean removeIndex(Index<?> index) {
+    if (!indexes.remove(index)) {
+      return false;
+    }
+    if (indexes.isEmpty()) {
+      removeListener(updater);
+    }
+    return true;
+  }
+}
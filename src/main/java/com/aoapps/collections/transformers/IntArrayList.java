@@ -0,0 +1,256 @@
+/*
+ * ao-collections-transformers - Bi-directional collection transformations for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections-transformers.
+ *
+ * ao-collections-transformers is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections-transformers is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections-transformers.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections.transformers;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.RandomAccess;
+import java.util.function.IntConsumer;
+
+/**
+ * A list of primitive {@code int} values in a growable array.  The primitive methods, such as {@link #getInt(int)}
+ * and {@link #addInt(int)}, do not box.  {@code null} elements are not supported.
+ *
+ * <p>Not thread-safe.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+public final class IntArrayList extends AbstractList<Integer> implements RandomAccess {
+
+  private static final int[] EMPTY = {};
+
+  private int[] elements;
+  private int size;
+
+  /**
+   * Creates an empty list.
+   */
+  public IntArrayList() {
+    elements = EMPTY;
+  }
+
+  /**
+   * Creates an empty list with the given initial capacity.
+   */
+  public IntArrayList(int initialCapacity) throws IllegalArgumentException {
+    if (initialCapacity < 0) {
+      throw new IllegalArgumentException("initialCapacity < 0: " + initialCapacity);
+    }
+    elements = (initialCapacity == 0) ? EMPTY : new int[initialCapacity];
+  }
+
+  private void checkIndex(int index) throws IndexOutOfBoundsException {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+  }
+
+  private void grow(int minCapacity) {
+    int capacity = elements.length;
+    if (minCapacity > capacity) {
+      int newCapacity = (int) Math.min(Math.max((long) capacity + (capacity >> 1), Math.max(minCapacity, 10)),
+          Integer.MAX_VALUE - 8);
+      if (newCapacity < minCapacity) {
+        throw new OutOfMemoryError("Too many elements: " + minCapacity);
+      }
+      elements = Arrays.copyOf(elements, newCapacity);
+    }
+  }
+
+  /**
+   * Releases any capacity beyond the size.
+   */
+  public void trimToSize() {
+    if (size < elements.length) {
+      elements = (size == 0) ? EMPTY : Arrays.copyOf(elements, size);
+    }
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Gets a value, without boxing.
+   */
+  public int getInt(int index) throws IndexOutOfBoundsException {
+    checkIndex(index);
+    return elements[index];
+  }
+
+  @Override
+  public Integer get(int index) throws IndexOutOfBoundsException {
+    return getInt(index);
+  }
+
+  /**
+   * Replaces a value, without boxing.
+   *
+   * @return  The previous value
+   */
+  public int setInt(int index, int value) throws IndexOutOfBoundsException {
+    checkIndex(index);
+    int old = elements[index];
+    elements[index] = value;
+    return old;
+  }
+
+  @Override
+  public Integer set(int index, Integer element) throws IndexOutOfBoundsException {
+    return setInt(index, element);
+  }
+
+  /**
+   * Adds a value to the end, without boxing.
+   */
+  public void addInt(int value) {
+    modCount++;
+    grow(size + 1);
+    elements[size++] = value;
+  }
+
+  /**
+   * Inserts a value, without boxing.
+   */
+  public void addInt(int index, int value) throws IndexOutOfBoundsException {
+    if (index < 0 || index > size) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+    modCount++;
+    grow(size + 1);
+    System.arraycopy(elements, index, elements, index + 1, size - index);
+    elements[index] = value;
+    size++;
+  }
+
+  @Override
+  public boolean add(Integer e) {
+    addInt(e);
+    return true;
+  }
+
+  @Override
+  public void add(int index, Integer element) throws IndexOutOfBoundsException {
+    addInt(index, element);
+  }
+
+  /**
+   * Removes the value at an index, without boxing.
+   *
+   * @return  The removed value
+   */
+  public int removeIntAt(int index) throws IndexOutOfBoundsException {
+    checkIndex(index);
+    modCount++;
+    int old = elements[index];
+    System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+    size--;
+    return old;
+  }
+
+  @Override
+  public Integer remove(int index) throws IndexOutOfBoundsException {
+    return removeIntAt(index);
+  }
+
+  @Override
+  protected void removeRange(int fromIndex, int toIndex) {
+    if (fromIndex < toIndex) {
+      modCount++;
+      System.arraycopy(elements, toIndex, elements, fromIndex, size - toIndex);
+      size -= toIndex - fromIndex;
+    }
+  }
+
+  @Override
+  public void clear() {
+    modCount++;
+    size = 0;
+  }
+
+  /**
+   * Finds the first index of a value, without boxing.
+   *
+   * @return  The index or {@code -1} when not found
+   */
+  public int indexOfInt(int value) {
+    for (int i = 0; i < size; i++) {
+      if (elements[i] == value) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Finds the last index of a value, without boxing.
+   *
+   * @return  The index or {@code -1} when not found
+   */
+  public int lastIndexOfInt(int value) {
+    for (int i = size - 1; i >= 0; i--) {
+      if (elements[i] == value) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public int indexOf(Object o) {
+    return (o instanceof Integer) ? indexOfInt((Integer) o) : -1;
+  }
+
+  @Override
+  public int lastIndexOf(Object o) {
+    return (o instanceof Integer) ? lastIndexOfInt((Integer) o) : -1;
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    return indexOf(o) != -1;
+  }
+
+  /**
+   * Performs an action for each value, without boxing.
+   */
+  public void forEachInt(IntConsumer action) {
+    int expectedModCount = modCount;
+    for (int i = 0; i < size && modCount == expectedModCount; i++) {
+      action.accept(elements[i]);
+    }
+    if (modCount != expectedModCount) {
+      throw new ConcurrentModificationException();
+    }
+  }
+
+  /**
+   * Copies the values to a new array.
+   */
+  public int[] toIntArray() {
+    return Arrays.copyOf(elements, size);
+  }
+}
@@ -0,0 +1,828 @@
+/*
+ * ao-collections-transformers - Bi-directional collection transformations for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections-transformers.
+ *
+ * ao-collections-transformers is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections-transformers is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections-transformers.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections.transformers;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * A compressed bitmap set of {@code int} values, partitioned by the high 16 bits of each value into containers of
+ * the low 16 bits, in the manner of Roaring bitmaps.  Sparse containers are sorted arrays, and dense containers are
+ * bitmaps of 65536 bits.
+ *
+ * <p>The primitive methods, such as {@link #contains(int)} and {@link #add(int)}, do not box.  The bulk operations
+ * {@link #or(com.aoapps.collections.transformers.IntBitmapSet)}, {@link #and(com.aoapps.collections.transformers.IntBitmapSet)},
+ * and {@link #andNot(com.aoapps.collections.transformers.IntBitmapSet)} combine whole containers, and are used by
+ * {@link #addAll(java.util.Collection)}, {@link #retainAll(java.util.Collection)}, and
+ * {@link #removeAll(java.util.Collection)} when given another bitmap set.</p>
+ *
+ * <p>Iteration is in order of the high 16 bits as unsigned, then the low 16 bits, so negative values follow
+ * non-negative values.</p>
+ *
+ * <p>Not thread-safe.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+public final class IntBitmapSet extends AbstractSet<Integer> {
+
+  /**
+   * The maximum cardinality of an array container.
+   */
+  private static final int ARRAY_MAX = 4096;
+
+  private static final int BITMAP_WORDS = (1 << 16) / Long.SIZE;
+
+  /**
+   * The low 16 bits of values sharing the same high 16 bits.
+   */
+  private abstract static class Container {
+
+    abstract int cardinality();
+
+    abstract boolean contains(int low);
+
+    /**
+     * Adds a value, possibly converting to another container.
+     */
+    abstract Container add(int low);
+
+    /**
+     * Removes a value, possibly converting to another container.
+     */
+    abstract Container remove(int low);
+
+    /**
+     * Finds the smallest value at least {@code from}.
+     *
+     * @return  The value or {@code -1} when none
+     */
+    abstract int next(int from);
+
+    abstract Container copy();
+
+    abstract BitmapContainer toBitmap();
+
+    /**
+     * Combines with another container, which is not modified.  This container may be modified and returned.
+     */
+    abstract Container or(Container other);
+
+    /**
+     * Combines with another container, which is not modified.  This container may be modified and returned.
+     */
+    abstract Container and(Container other);
+
+    /**
+     * Combines with another container, which is not modified.  This container may be modified and returned.
+     */
+    abstract Container andNot(Container other);
+
+    abstract void forEach(int high, IntConsumer action);
+
+    final boolean sameValues(Container other) {
+      if (cardinality() != other.cardinality()) {
+        return false;
+      }
+      for (int low = next(0); low != -1; low = (low == 0xFFFF) ? -1 : next(low + 1)) {
+        if (!other.contains(low)) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+
+  private static final class ArrayContainer extends Container {
+
+    private char[] values;
+    private int size;
+
+    private ArrayContainer(char[] values, int size) {
+      this.values = values;
+      this.size = size;
+    }
+
+    private ArrayContainer() {
+      this(new char[4], 0);
+    }
+
+    @Override
+    int cardinality() {
+      return size;
+    }
+
+    @Override
+    boolean contains(int low) {
+      return Arrays.binarySearch(values, 0, size, (char) low) >= 0;
+    }
+
+    @Override
+    Container add(int low) {
+      int index = Arrays.binarySearch(values, 0, size, (char) low);
+      if (index >= 0) {
+        return this;
+      }
+      if (size == ARRAY_MAX) {
+        return toBitmap().add(low);
+      }
+      index = -(index + 1);
+      if (size == values.length) {
+        values = Arrays.copyOf(values, Math.min(ARRAY_MAX, size << 1));
+      }
+      System.arraycopy(values, index, values, index + 1, size - index);
+      values[index] = (char) low;
+      size++;
+      return this;
+    }
+
+    @Override
+    Container remove(int low) {
+      int index = Arrays.binarySearch(values, 0, size, (char) low);
+      if (index >= 0) {
+        System.arraycopy(values, index + 1, values, index, size - index - 1);
+        size--;
+      }
+      return this;
+    }
+
+    @Override
+    int next(int from) {
+      int index = Arrays.binarySearch(values, 0, size, (char) from);
+      if (index < 0) {
+        index = -(index + 1);
+      }
+      return (index < size) ? values[index] : -1;
+    }
+
+    @Override
+    Container copy() {
+      return new ArrayContainer(Arrays.copyOf(values, Math.max(size, 1)), size);
+    }
+
+    @Override
+    BitmapContainer toBitmap() {
+      long[] words = new long[BITMAP_WORDS];
+      for (int i = 0; i < size; i++) {
+        char low = values[i];
+        words[low >>> 6] |= 1L << low;
+      }
+      return new BitmapContainer(words, size);
+    }
+
+    @Override
+    Container or(Container other) {
+      if (other instanceof BitmapContainer) {
+        return other.copy().or(this);
+      }
+      ArrayContainer o = (ArrayContainer) other;
+      if (size + o.size > ARRAY_MAX) {
+        return toBitmap().or(other);
+      }
+      char[] merged = new char[size + o.size];
+      int count = 0;
+      int i = 0;
+      int j = 0;
+      while (i < size && j < o.size) {
+        char a = values[i];
+        char b = o.values[j];
+        if (a < b) {
+          merged[count++] = a;
+          i++;
+        } else if (a > b) {
+          merged[count++] = b;
+          j++;
+        } else {
+          merged[count++] = a;
+          i++;
+          j++;
+        }
+      }
+      while (i < size) {
+        merged[count++] = values[i++];
+      }
+      while (j < o.size) {
+        merged[count++] = o.values[j++];
+      }
+      values = merged;
+      size = count;
+      return this;
+    }
+
+    @Override
+    Container and(Container other) {
+      int count = 0;
+      for (int i = 0; i < size; i++) {
+        char low = values[i];
+        if (other.contains(low)) {
+          values[count++] = low;
+        }
+      }
+      size = count;
+      return this;
+    }
+
+    @Override
+    Container andNot(Container other) {
+      int count = 0;
+      for (int i = 0; i < size; i++) {
+        char low = values[i];
+        if (!other.contains(low)) {
+          values[count++] = low;
+        }
+      }
+      size = count;
+      return this;
+    }
+
+    @Override
+    void forEach(int high, IntConsumer action) {
+      for (int i = 0; i < size; i++) {
+        action.accept(high | values[i]);
+      }
+    }
+  }
+
+  private static final class BitmapContainer extends Container {
+
+    private final long[] words;
+    private int cardinality;
+
+    private BitmapContainer(long[] words, int cardinality) {
+      this.words = words;
+      this.cardinality = cardinality;
+    }
+
+    @Override
+    int cardinality() {
+      return cardinality;
+    }
+
+    @Override
+    boolean contains(int low) {
+      return (words[low >>> 6] & (1L << low)) != 0;
+    }
+
+    @Override
+    Container add(int low) {
+      long word = words[low >>> 6];
+      long bit = 1L << low;
+      if ((word & bit) == 0) {
+        words[low >>> 6] = word | bit;
+        cardinality++;
+      }
+      return this;
+    }
+
+    @Override
+    Container remove(int low) {
+      long word = words[low >>> 6];
+      long bit = 1L << low;
+      if ((word & bit) != 0) {
+        words[low >>> 6] = word & ~bit;
+        cardinality--;
+      }
+      return normalize();
+    }
+
+    /**
+     * Converts to an array container once sparse enough.
+     */
+    private Container normalize() {
+      if (cardinality > ARRAY_MAX) {
+        return this;
+      }
+      char[] values = new char[Math.max(cardinality, 1)];
+      int count = 0;
+      for (int i = 0; i < BITMAP_WORDS; i++) {
+        long word = words[i];
+        while (word != 0) {
+          values[count++] = (char) ((i << 6) + Long.numberOfTrailingZeros(word));
+          word &= word - 1;
+        }
+      }
+      return new ArrayContainer(values, count);
+    }
+
+    private void recount() {
+      int count = 0;
+      for (long word : words) {
+        count += Long.bitCount(word);
+      }
+      cardinality = count;
+    }
+
+    @Override
+    int next(int from) {
+      int i = from >>> 6;
+      long word = words[i] & (-1L << from);
+      while (true) {
+        if (word != 0) {
+          return (i << 6) + Long.numberOfTrailingZeros(word);
+        }
+        if (++i == BITMAP_WORDS) {
+          return -1;
+        }
+        word = words[i];
+      }
+    }
+
+    @Override
+    Container copy() {
+      return new BitmapContainer(words.clone(), cardinality);
+    }
+
+    @Override
+    BitmapContainer toBitmap() {
+      return this;
+    }
+
+    @Override
+    Container or(Container other) {
+      if (other instanceof ArrayContainer) {
+        ArrayContainer o = (ArrayContainer) other;
+        for (int i = 0; i < o.size; i++) {
+          add(o.values[i]);
+        }
+      } else {
+        long[] o = ((BitmapContainer) other).words;
+        for (int i = 0; i < BITMAP_WORDS; i++) {
+          words[i] |= o[i];
+        }
+        recount();
+      }
+      return this;
+    }
+
+    @Override
+    Container and(Container other) {
+      if (other instanceof ArrayContainer) {
+        return other.copy().and(this);
+      }
+      long[] o = ((BitmapContainer) other).words;
+      for (int i = 0; i < BITMAP_WORDS; i++) {
+        words[i] &= o[i];
+      }
+      recount();
+      return normalize();
+    }
+
+    @Override
+    Container andNot(Container other) {
+      if (other instanceof ArrayContainer) {
+        ArrayContainer o = (ArrayContainer) other;
+        for (int i = 0; i < o.size; i++) {
+          char low = o.values[i];
+          long bit = 1L << low;
+          if ((words[low >>> 6] & bit) != 0) {
+            words[low >>> 6] &= ~bit;
+            cardinality--;
+          }
+        }
+      } else {
+        long[] o = ((BitmapContainer) other).words;
+        for (int i = 0; i < BITMAP_WORDS; i++) {
+          words[i] &= ~o[i];
+        }
+        recount();
+      }
+      return normalize();
+    }
+
+    @Override
+    void forEach(int high, IntConsumer action) {
+      for (int i = 0; i < BITMAP_WORDS; i++) {
+        long word = words[i];
+        while (word != 0) {
+          action.accept(high | ((i << 6) + Long.numberOfTrailingZeros(word)));
+          word &= word - 1;
+        }
+      }
+    }
+  }
+
+  /**
+   * The high 16 bits of each container, in ascending order.
+   */
+  private char[] keys;
+  private Container[] containers;
+  private int count;
+  private long cardinality;
+  private int modCount;
+
+  /**
+   * Creates an empty set.
+   */
+  public IntBitmapSet() {
+    keys = new char[4];
+    containers = new Container[4];
+  }
+
+  /**
+   * Creates a copy of another set.
+   */
+  public IntBitmapSet(IntBitmapSet other) {
+    keys = Arrays.copyOf(other.keys, Math.max(other.count, 1));
+    containers = new Container[keys.length];
+    for (int i = 0; i < other.count; i++) {
+      containers[i] = other.containers[i].copy();
+    }
+    count = other.count;
+    cardinality = other.cardinality;
+  }
+
+  private int indexOf(int high) {
+    return Arrays.binarySearch(keys, 0, count, (char) high);
+  }
+
+  private void insertContainer(int index, char key, Container container) {
+    if (count == keys.length) {
+      keys = Arrays.copyOf(keys, count << 1);
+      containers = Arrays.copyOf(containers, count << 1);
+    }
+    System.arraycopy(keys, index, keys, index + 1, count - index);
+    System.arraycopy(containers, index, containers, index + 1, count - index);
+    keys[index] = key;
+    containers[index] = container;
+    count++;
+  }
+
+  private void removeContainer(int index) {
+    System.arraycopy(keys, index + 1, keys, index, count - index - 1);
+    System.arraycopy(containers, index + 1, containers, index, count - index - 1);
+    containers[--count] = null;
+  }
+
+  /**
+   * Gets the number of values, which may exceed {@link Integer#MAX_VALUE}.
+   */
+  public long cardinality() {
+    return cardinality;
+  }
+
+  @Override
+  public int size() {
+    return (int) Math.min(cardinality, Integer.MAX_VALUE);
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return cardinality == 0;
+  }
+
+  /**
+   * Checks for a value, without boxing.
+   */
+  public boolean contains(int value) {
+    int index = indexOf(value >>> 16);
+    return index >= 0 && containers[index].contains(value & 0xFFFF);
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    return (o instanceof Integer) && contains(((Integer) o).intValue());
+  }
+
+  /**
+   * Adds a value, without boxing.
+   */
+  public boolean add(int value) {
+    int index = indexOf(value >>> 16);
+    if (index < 0) {
+      ArrayContainer container = new ArrayContainer();
+      container.add(value & 0xFFFF);
+      insertContainer(-(index + 1), (char) (value >>> 16), container);
+    } else {
+      Container container = containers[index];
+      int before = container.cardinality();
+      container = container.add(value & 0xFFFF);
+      containers[index] = container;
+      if (container.cardinality() == before) {
+        return false;
+      }
+    }
+    cardinality++;
+    modCount++;
+    return true;
+  }
+
+  @Override
+  public boolean add(Integer e) {
+    return add(e.intValue());
+  }
+
+  /**
+   * Removes a value, without boxing.
+   */
+  public boolean remove(int value) {
+    int index = indexOf(value >>> 16);
+    if (index < 0) {
+      return false;
+    }
+    Container container = containers[index];
+    int before = container.cardinality();
+    container = container.remove(value & 0xFFFF);
+    int after = container.cardinality();
+    if (after == before) {
+      return false;
+    }
+    if (after == 0) {
+      removeContainer(index);
+    } else {
+      containers[index] = container;
+    }
+    cardinality--;
+    modCount++;
+    return true;
+  }
+
+  @Override
+  public boolean remove(Object o) {
+    return (o instanceof Integer) && remove(((Integer) o).intValue());
+  }
+
+  @Override
+  public void clear() {
+    Arrays.fill(containers, 0, count, null);
+    count = 0;
+    cardinality = 0;
+    modCount++;
+  }
+
+  /**
+   * Adds all values of another set.
+   *
+   * @return  {@code true} when this set changed
+   */
+  public boolean or(IntBitmapSet other) {
+    if (other == this || other.count == 0) {
+      return false;
+    }
+    char[] newKeys = new char[count + other.count];
+    Container[] newContainers = new Container[newKeys.length];
+    int newCount = 0;
+    long newCardinality = 0;
+    int i = 0;
+    int j = 0;
+    while (i < count || j < other.count) {
+      Container container;
+      char key;
+      if (j == other.count || (i < count && keys[i] < other.keys[j])) {
+        key = keys[i];
+        container = containers[i++];
+      } else if (i == count || keys[i] > other.keys[j]) {
+        key = other.keys[j];
+        container = other.containers[j++].copy();
+      } else {
+        key = keys[i];
+        container = containers[i++].or(other.containers[j++]);
+      }
+      newKeys[newCount] = key;
+      newContainers[newCount++] = container;
+      newCardinality += container.cardinality();
+    }
+    return replace(newKeys, newContainers, newCount, newCardinality);
+  }
+
+  /**
+   * Retains only values also in another set.
+   *
+   * @return  {@code true} when this set changed
+   */
+  public boolean and(IntBitmapSet other) {
+    if (other == this) {
+      return false;
+    }
+    char[] newKeys = new char[Math.max(Math.min(count, other.count), 1)];
+    Container[] newContainers = new Container[newKeys.length];
+    int newCount = 0;
+    long newCardinality = 0;
+    int i = 0;
+    int j = 0;
+    while (i < count && j < other.count) {
+      char a = keys[i];
+      char b = other.keys[j];
+      if (a < b) {
+        i++;
+      } else if (a > b) {
+        j++;
+      } else {
+        Container container = containers[i++].and(other.containers[j++]);
+        int c = container.cardinality();
+        if (c != 0) {
+          newKeys[newCount] = a;
+          newContainers[newCount++] = container;
+          newCardinality += c;
+        }
+      }
+    }
+    return replace(newKeys, newContainers, newCount, newCardinality);
+  }
+
+  /**
+   * Removes all values also in another set.
+   *
+   * @return  {@code true} when this set changed
+   */
+  public boolean andNot(IntBitmapSet other) {
+    if (other == this) {
+      boolean modified = cardinality != 0;
+      clear();
+      return modified;
+    }
+    int newCount = 0;
+    long newCardinality = 0;
+    int j = 0;
+    for (int i = 0; i < count; i++) {
+      char key = keys[i];
+      Container container = containers[i];
+      while (j < other.count && other.keys[j] < key) {
+        j++;
+      }
+      if (j < other.count && other.keys[j] == key) {
+        container = container.andNot(other.containers[j]);
+      }
+      int c = container.cardinality();
+      if (c != 0) {
+        keys[newCount] = key;
+        containers[newCount++] = container;
+        newCardinality += c;
+      }
+    }
+    Arrays.fill(containers, newCount, count, null);
+    return replace(keys, containers, newCount, newCardinality);
+  }
+
+  private boolean replace(char[] newKeys, Container[] newContainers, int newCount, long newCardinality) {
+    keys = newKeys;
+    containers = newContainers;
+    count = newCount;
+    // Union only adds values and intersection and difference only remove, so any change alters the cardinality
+    if (newCardinality == cardinality) {
+      return false;
+    }
+    cardinality = newCardinality;
+    modCount++;
+    return true;
+  }
+
+  @Override
+  public boolean addAll(Collection<? extends Integer> c) {
+    if (c instanceof IntBitmapSet) {
+      return or((IntBitmapSet) c);
+    }
+    return super.addAll(c);
+  }
+
+  @Override
+  public boolean retainAll(Collection<?> c) {
+    if (c instanceof IntBitmapSet) {
+      return and((IntBitmapSet) c);
+    }
+    return super.retainAll(c);
+  }
+
+  @Override
+  public boolean removeAll(Collection<?> c) {
+    if (c instanceof IntBitmapSet) {
+      return andNot((IntBitmapSet) c);
+    }
+    return super.removeAll(c);
+  }
+
+  @Override
+  public boolean containsAll(Collection<?> c) {
+    if (c instanceof IntBitmapSet) {
+      IntBitmapSet other = (IntBitmapSet) c;
+      if (other.cardinality > cardinality) {
+        return false;
+      }
+      IntBitmapSet missing = new IntBitmapSet(other);
+      missing.andNot(this);
+      return missing.cardinality == 0;
+    }
+    return super.containsAll(c);
+  }
+
+  /**
+   * Performs an action for each value, without boxing.
+   */
+  public void forEachInt(IntConsumer action) {
+    int expectedModCount = modCount;
+    for (int i = 0; i < count; i++) {
+      containers[i].forEach(keys[i] << 16, action);
+      if (modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+    }
+  }
+
+  @Override
+  public void forEach(Consumer<? super Integer> action) {
+    forEachInt(action::accept);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (o == this) {
+      return true;
+    }
+    if (!(o instanceof IntBitmapSet)) {
+      return super.equals(o);
+    }
+    IntBitmapSet other = (IntBitmapSet) o;
+    if (cardinality != other.cardinality || count != other.count) {
+      return false;
+    }
+    for (int i = 0; i < count; i++) {
+      if (keys[i] != other.keys[i] || !containers[i].sameValues(other.containers[i])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    int[] hash = {0};
+    forEachInt(value -> hash[0] += value);
+    return hash[0];
+  }
+
+  @Override
+  public Iterator<Integer> iterator() {
+    return new Iterator<>() {
+      private int index;
+      private int nextLow = (count == 0) ? -1 : containers[0].next(0);
+      private boolean canRemove;
+      private int lastValue;
+      private int expectedModCount = modCount;
+
+      @Override
+      public boolean hasNext() {
+        return nextLow != -1;
+      }
+
+      @Override
+      public Integer next() throws ConcurrentModificationException, NoSuchElementException {
+        if (modCount != expectedModCount) {
+          throw new ConcurrentModificationException();
+        }
+        if (nextLow == -1) {
+          throw new NoSuchElementException();
+        }
+        lastValue = (keys[index] << 16) | nextLow;
+        canRemove = true;
+        nextLow = (nextLow == 0xFFFF) ? -1 : containers[index].next(nextLow + 1);
+        if (nextLow == -1 && ++index < count) {
+          nextLow = containers[index].next(0);
+        }
+        return lastValue;
+      }
+
+      @Override
+      public void remove() throws ConcurrentModificationException, IllegalStateException {
+        if (!canRemove) {
+          throw new IllegalStateException();
+        }
+        if (modCount != expectedModCount) {
+          throw new ConcurrentModificationException();
+        }
+        char nextKey = (nextLow == -1) ? 0 : keys[index];
+        IntBitmapSet.this.remove(lastValue);
+        canRemove = false;
+        expectedModCount = modCount;
+        if (nextLow != -1) {
+          // The container of the removed value may have been removed
+          index = indexOf(nextKey);
+        }
+      }
+    };
+  }
+}
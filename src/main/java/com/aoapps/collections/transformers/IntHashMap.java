@@ -0,0 +1,313 @@
+/*
+ * ao-collections-transformers - Bi-directional collection transformations for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections-transformers.
+ *
+ * ao-collections-transformers is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections-transformers is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections-transformers.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections.transformers;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * A hash map with primitive {@code int} keys, stored by open addressing in parallel arrays of keys and values.  There
+ * are no per-entry objects, and the primitive methods, such as {@link #get(int)} and {@link #put(int, java.lang.Object)},
+ * do not box.  The {@link Map} methods box keys as needed, and {@link #entrySet()} creates entries while iterating.
+ *
+ * <p>Collisions are resolved by linear probing, and removal shifts following entries back, so there are no deleted
+ * markers.  The key {@code 0} marks empty slots, and is stored separately.  {@code null} values are supported, but
+ * not {@code null} keys.</p>
+ *
+ * <p>Not thread-safe.</p>
+ *
+ * @param  <V>  The value type
+ *
+ * @author  AO Industries, Inc.
+ */
+public final class IntHashMap<V> extends PrimitiveKeyHashMap<Integer, V> {
+
+  /**
+   * Accepts the key and value of each entry.
+   */
+  @FunctionalInterface
+  public static interface EntryConsumer<V> {
+    void accept(int key, V value);
+  }
+
+  private int[] keys;
+
+  /**
+   * Creates an empty map.
+   */
+  public IntHashMap() {
+    this(0);
+  }
+
+  /**
+   * Creates an empty map sized for the given number of entries.
+   */
+  public IntHashMap(int expectedSize) throws IllegalArgumentException {
+    super(capacityFor(expectedSize));
+    keys = new int[values.length];
+  }
+
+  private static int hash(int key) {
+    int h = key * 0x9E3779B9;
+    return h ^ (h >>> 16);
+  }
+
+  /**
+   * Finds the slot of a non-zero key.
+   *
+   * @return  The slot or {@code -1} when not found
+   */
+  private int find(int key) {
+    int[] k = keys;
+    int m = mask;
+    for (int pos = hash(key) & m; ; pos = (pos + 1) & m) {
+      int current = k[pos];
+      if (current == key) {
+        return pos;
+      }
+      if (current == 0) {
+        return -1;
+      }
+    }
+  }
+
+  /**
+   * Checks for a key, without boxing.
+   */
+  public boolean containsKey(int key) {
+    return (key == 0) ? hasZeroKey : find(key) != -1;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return (key instanceof Integer) && containsKey(((Integer) key).intValue());
+  }
+
+  /**
+   * Gets the value of a key, without boxing.
+   */
+  public V get(int key) {
+    return getOrDefault(key, null);
+  }
+
+  @Override
+  public V get(Object key) {
+    return (key instanceof Integer) ? get(((Integer) key).intValue()) : null;
+  }
+
+  /**
+   * Gets the value of a key, or a default when not found, without boxing.
+   */
+  @SuppressWarnings("unchecked")
+  public V getOrDefault(int key, V defaultValue) {
+    if (key == 0) {
+      return hasZeroKey ? zeroValue : defaultValue;
+    }
+    int pos = find(key);
+    return (pos == -1) ? defaultValue : (V) values[pos];
+  }
+
+  @Override
+  public V getOrDefault(Object key, V defaultValue) {
+    return (key instanceof Integer) ? getOrDefault(((Integer) key).intValue(), defaultValue) : defaultValue;
+  }
+
+  /**
+   * Associates a value with a key, without boxing.
+   *
+   * @return  The previous value or {@code null} when none
+   */
+  @SuppressWarnings("unchecked")
+  public V put(int key, V value) {
+    if (key == 0) {
+      V old = zeroValue;
+      zeroValue = value;
+      if (!hasZeroKey) {
+        hasZeroKey = true;
+        modCount++;
+      }
+      return old;
+    }
+    int[] k = keys;
+    int m = mask;
+    int pos = hash(key) & m;
+    for (int current; (current = k[pos]) != 0; pos = (pos + 1) & m) {
+      if (current == key) {
+        V old = (V) values[pos];
+        values[pos] = value;
+        return old;
+      }
+    }
+    k[pos] = key;
+    values[pos] = value;
+    modCount++;
+    if (++used > (k.length >> 2) * 3) {
+      rehash(k.length << 1);
+    }
+    return null;
+  }
+
+  @Override
+  public V put(Integer key, V value) {
+    return put(key.intValue(), value);
+  }
+
+  /**
+   * Removes a key, without boxing.
+   *
+   * @return  The previous value or {@code null} when none
+   */
+  @SuppressWarnings("unchecked")
+  public V remove(int key) {
+    if (key == 0) {
+      V old = zeroValue;
+      if (hasZeroKey) {
+        hasZeroKey = false;
+        zeroValue = null;
+        modCount++;
+      }
+      return old;
+    }
+    int pos = find(key);
+    if (pos == -1) {
+      return null;
+    }
+    V old = (V) values[pos];
+    removeAt(pos, null);
+    return old;
+  }
+
+  @Override
+  public V remove(Object key) {
+    return (key instanceof Integer) ? remove(((Integer) key).intValue()) : null;
+  }
+
+  @Override
+  boolean isFull(int pos) {
+    return keys[pos] != 0;
+  }
+
+  @Override
+  Integer keyAt(int pos) {
+    return keys[pos];
+  }
+
+  @Override
+  Integer zeroKey() {
+    return 0;
+  }
+
+  @Override
+  int slotOf(Integer key) {
+    int k = key.intValue();
+    return (k == 0) ? -1 : find(k);
+  }
+
+  @Override
+  void removeAt(int pos, EntryIterator iter) {
+    int[] k = keys;
+    Object[] v = values;
+    int m = mask;
+    int last = pos;
+    for (pos = (pos + 1) & m; ; pos = (pos + 1) & m) {
+      int current = k[pos];
+      if (current == 0) {
+        break;
+      }
+      int slot = hash(current) & m;
+      // Move back unless the home slot of the entry is cyclically within (last, pos]
+      if ((last <= pos) ? (last >= slot || slot > pos) : (last >= slot && slot > pos)) {
+        if (iter != null && iter.crosses(pos, last)) {
+          iter.shifted(pos, current, v[pos]);
+        }
+        k[last] = current;
+        v[last] = v[pos];
+        last = pos;
+      }
+    }
+    k[last] = 0;
+    v[last] = null;
+    used--;
+    modCount++;
+  }
+
+  @Override
+  void clearKeys() {
+    Arrays.fill(keys, 0);
+  }
+
+  private void rehash(int newCapacity) {
+    if (newCapacity > MAX_CAPACITY) {
+      throw new IllegalStateException("Too many entries: " + used);
+    }
+    int[] oldKeys = keys;
+    Object[] oldValues = values;
+    int[] k = new int[newCapacity];
+    Object[] v = new Object[newCapacity];
+    int m = newCapacity - 1;
+    for (int i = 0; i < oldKeys.length; i++) {
+      int key = oldKeys[i];
+      if (key != 0) {
+        int pos = hash(key) & m;
+        while (k[pos] != 0) {
+          pos = (pos + 1) & m;
+        }
+        k[pos] = key;
+        v[pos] = oldValues[i];
+      }
+    }
+    keys = k;
+    values = v;
+    mask = m;
+  }
+
+  /**
+   * Performs an action for each entry, without boxing keys.
+   */
+  @SuppressWarnings("unchecked")
+  public void forEachEntry(EntryConsumer<? super V> action) {
+    int expectedModCount = modCount;
+    if (hasZeroKey) {
+      action.accept(0, zeroValue);
+    }
+    int[] k = keys;
+    Object[] v = values;
+    for (int pos = 0; pos < k.length && modCount == expectedModCount; pos++) {
+      int key = k[pos];
+      if (key != 0) {
+        action.accept(key, (V) v[pos]);
+      }
+    }
+    if (modCount != expectedModCount) {
+      throw new ConcurrentModificationException();
+    }
+  }
+
+  @Override
+  public void forEach(BiConsumer<? super Integer, ? super V> action) {
+    forEachEntry(action::accept);
+  }
+}
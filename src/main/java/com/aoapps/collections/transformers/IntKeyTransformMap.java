@@ -0,0 +1,149 @@
+/*
+ * ao-collections-transformers - Bi-directional collection transformations for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections-transformers.
+ *
+ * ao-collections-transformers is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections-transformers is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections-transformers.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections.transformers;
+
+import java.util.function.BiConsumer;
+
+/**
+ * A {@link TransformMap} over a {@link IntHashMap}, with keys converted by a {@link IntTransformer}.  Key lookups
+ * and updates convert keys directly to primitive {@code int} values, so keys are only boxed when accessed through
+ * the {@linkplain #getWrapped() wrapped map} or its views.
+ *
+ * <p>Not thread-safe.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+public class IntKeyTransformMap<K, V, VW> extends TransformMap<K, V, Integer, VW> {
+
+  /**
+   * Wraps a map.
+   */
+  public static <K, V, VW> IntKeyTransformMap<K, V, VW> of(
+      IntHashMap<VW> map,
+      IntTransformer<K> keyTransformer,
+      Transformer<V, VW> valueTransformer
+  ) {
+    return (map == null) ? null : new IntKeyTransformMap<>(map, keyTransformer, valueTransformer);
+  }
+
+  /**
+   * Wraps a new, empty map.
+   */
+  public static <K, V, VW> IntKeyTransformMap<K, V, VW> of(
+      IntTransformer<K> keyTransformer,
+      Transformer<V, VW> valueTransformer
+  ) {
+    return new IntKeyTransformMap<>(new IntHashMap<>(), keyTransformer, valueTransformer);
+  }
+
+  /**
+   * Distinguishes a missing key from a {@code null} value.
+   */
+  private static final Object NOT_FOUND = new Object();
+
+  private final IntHashMap<VW> wrapped;
+  private final IntTransformer<K> intKeyTransformer;
+
+  protected IntKeyTransformMap(
+      IntHashMap<VW> wrapped,
+      IntTransformer<K> keyTransformer,
+      Transformer<V, VW> valueTransformer
+  ) {
+    super(wrapped, keyTransformer, valueTransformer);
+    this.wrapped = wrapped;
+    this.intKeyTransformer = keyTransformer;
+  }
+
+  @Override
+  @SuppressWarnings("ReturnOfCollectionOrArrayField")
+  protected IntHashMap<VW> getWrapped() {
+    return wrapped;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    Class<K> keyClass = intKeyTransformer.eClass;
+    if (!keyClass.isInstance(key)) {
+      return false;
+    }
+    K k = keyClass.cast(key);
+    return intKeyTransformer.hasInt(k) && wrapped.containsKey(intKeyTransformer.toInt(k));
+  }
+
+  @Override
+  public V get(Object key) {
+    Class<K> keyClass = intKeyTransformer.eClass;
+    if (!keyClass.isInstance(key)) {
+      return null;
+    }
+    K k = keyClass.cast(key);
+    return intKeyTransformer.hasInt(k) ? valueTransformer.fromWrapped(wrapped.get(intKeyTransformer.toInt(k))) : null;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public V getOrDefault(Object key, V defaultValue) {
+    Class<K> keyClass = intKeyTransformer.eClass;
+    if (!keyClass.isInstance(key)) {
+      return defaultValue;
+    }
+    K k = keyClass.cast(key);
+    if (!intKeyTransformer.hasInt(k)) {
+      return defaultValue;
+    }
+    Object vw = ((IntHashMap<Object>) wrapped).getOrDefault(intKeyTransformer.toInt(k), NOT_FOUND);
+    return (vw == NOT_FOUND) ? defaultValue : valueTransformer.fromWrapped((VW) vw);
+  }
+
+  @Override
+  public V put(K key, V value) {
+    if (key == null) {
+      throw new NullPointerException();
+    }
+    return valueTransformer.fromWrapped(wrapped.put(intKeyTransformer.toInt(key), valueTransformer.toWrapped(value)));
+  }
+
+  @Override
+  public V remove(Object key) {
+    Class<K> keyClass = intKeyTransformer.eClass;
+    if (!keyClass.isInstance(key)) {
+      return null;
+    }
+    K k = keyClass.cast(key);
+    return intKeyTransformer.hasInt(k) ? valueTransformer.fromWrapped(wrapped.remove(intKeyTransformer.toInt(k))) : null;
+  }
+
+  @Override
+  public void forEach(BiConsumer<? super K, ? super V> action) {
+    TransformStats.iteration(keyTransformer, valueTransformer);
+    BulkViewOperationEvent event = new BulkViewOperationEvent();
+    event.begin();
+    wrapped.forEachEntry((k, vw) ->
+        action.accept(intKeyTransformer.fromInt(k),
+            valueTransformer.fromWrapped(vw)
+        )
+    );
+    event.commit(this, "forEach", wrapped);
+  }
+}
@@ -0,0 +1,145 @@
+/*
+ * ao-collections-transformers - Bi-directional collection transformations for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections-transformers.
+ *
+ * ao-collections-transformers is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections-transformers is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections-transformers.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections.transformers;
+
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+
+/**
+ * A {@link TransformList} over an {@link IntArrayList}, with elements converted by an {@link IntTransformer}.
+ * Element access converts directly to and from primitive {@code int} values, so the list holds no per-element
+ * objects.  Combined with a {@link DictionaryTransformer}, it stores only the dictionary codes of its elements.
+ *
+ * <p>Not thread-safe.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+public class IntTransformList<E> extends TransformList<E, Integer> implements RandomAccess {
+
+  /**
+   * Wraps a list.
+   */
+  public static <E> IntTransformList<E> of(IntArrayList list, IntTransformer<E> transformer) {
+    return (list == null) ? null : new IntTransformList<>(list, transformer);
+  }
+
+  /**
+   * Wraps a new, empty list.
+   */
+  public static <E> IntTransformList<E> of(IntTransformer<E> transformer) {
+    return new IntTransformList<>(new IntArrayList(), transformer);
+  }
+
+  private final IntArrayList wrapped;
+  private final IntTransformer<E> intTransformer;
+
+  protected IntTransformList(IntArrayList wrapped, IntTransformer<E> transformer) {
+    super(wrapped, transformer);
+    this.wrapped = wrapped;
+    this.intTransformer = transformer;
+  }
+
+  @Override
+  @SuppressWarnings("ReturnOfCollectionOrArrayField")
+  protected IntArrayList getWrapped() {
+    return wrapped;
+  }
+
+  private int toInt(E e) {
+    if (e == null) {
+      throw new NullPointerException();
+    }
+    return intTransformer.toInt(e);
+  }
+
+  @Override
+  public E get(int index) {
+    return intTransformer.fromInt(wrapped.getInt(index));
+  }
+
+  @Override
+  public E set(int index, E element) {
+    return intTransformer.fromInt(wrapped.setInt(index, toInt(element)));
+  }
+
+  @Override
+  public boolean add(E e) {
+    wrapped.addInt(toInt(e));
+    return true;
+  }
+
+  @Override
+  public void add(int index, E element) {
+    wrapped.addInt(index, toInt(element));
+  }
+
+  @Override
+  public E remove(int index) {
+    return intTransformer.fromInt(wrapped.removeIntAt(index));
+  }
+
+  @Override
+  public int indexOf(Object o) {
+    Class<E> eClass = intTransformer.eClass;
+    if (!eClass.isInstance(o)) {
+      return -1;
+    }
+    E e = eClass.cast(o);
+    return intTransformer.hasInt(e) ? wrapped.indexOfInt(intTransformer.toInt(e)) : -1;
+  }
+
+  @Override
+  public int lastIndexOf(Object o) {
+    Class<E> eClass = intTransformer.eClass;
+    if (!eClass.isInstance(o)) {
+      return -1;
+    }
+    E e = eClass.cast(o);
+    return intTransformer.hasInt(e) ? wrapped.lastIndexOfInt(intTransformer.toInt(e)) : -1;
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    return indexOf(o) != -1;
+  }
+
+  @Override
+  public boolean remove(Object o) {
+    int index = indexOf(o);
+    if (index == -1) {
+      return false;
+    }
+    wrapped.removeIntAt(index);
+    return true;
+  }
+
+  @Override
+  public void forEach(Consumer<? super E> action) {
+    TransformStats.iteration(transformer);
+    BulkViewOperationEvent event = new BulkViewOperationEvent();
+    event.begin();
+    wrapped.forEachInt(w -> action.accept(intTransformer.fromInt(w)));
+    event.commit(this, "forEach", wrapped);
+  }
+}
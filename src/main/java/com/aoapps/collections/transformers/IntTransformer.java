@@ -0,0 +1,126 @@
+/*
+ * ao-collections-transformers - Bi-directional collection transformations for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections-transformers.
+ *
+ * ao-collections-transformers is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections-transformers is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections-transformers.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections.transformers;
+
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
+/**
+ * Converts between a type and primitive {@code int} values.  {@link #toInt(java.lang.Object)} and
+ * {@link #fromInt(int)} convert without boxing, which collections keyed by primitives, such as
+ * {@link IntKeyTransformMap}, use directly.  {@code null} is converted to {@code null} by the boxed conversions.
+ *
+ * @param  <E>  The wrapper type
+ *
+ * @author  AO Industries, Inc.
+ */
+public abstract class IntTransformer<E> extends AbstractTransformer<E, Integer> {
+
+  /**
+   * Creates a transformer from reciprocal functions.
+   */
+  public static <E> IntTransformer<E> of(
+      Class<E> eClass,
+      ToIntFunction<? super E> toInt,
+      IntFunction<? extends E> fromInt
+  ) {
+    return new IntTransformer<>(eClass) {
+      @Override
+      protected int doToInt(E e) {
+        return toInt.applyAsInt(e);
+      }
+
+      @Override
+      protected E doFromInt(int w) {
+        return fromInt.apply(w);
+      }
+    };
+  }
+
+  /**
+   * Creates a new type converter.
+   *
+   * @param eClass The wrapper type
+   */
+  protected IntTransformer(Class<E> eClass) {
+    super(eClass, Integer.class);
+  }
+
+  /**
+   * Converts to the primitive value by {@link #doToInt(java.lang.Object)}, reporting when slow.
+   *
+   * @param  e  never {@code null}
+   */
+  public final int toInt(E e) {
+    TransformerSlowConversionEvent event = new TransformerSlowConversionEvent();
+    event.begin();
+    int w = doToInt(e);
+    event.commit(this, TransformerSlowConversionEvent.TO_WRAPPED);
+    return w;
+  }
+
+  /**
+   * Converts from the primitive value by {@link #doFromInt(int)}, reporting when slow.
+   */
+  public final E fromInt(int w) {
+    TransformerSlowConversionEvent event = new TransformerSlowConversionEvent();
+    event.begin();
+    E e = doFromInt(w);
+    event.commit(this, TransformerSlowConversionEvent.FROM_WRAPPED);
+    return e;
+  }
+
+  /**
+   * Performs the conversion to the primitive value.
+   *
+   * @param  e  never {@code null}
+   */
+  protected abstract int doToInt(E e);
+
+  /**
+   * Performs the conversion from the primitive value.
+   */
+  protected abstract E doFromInt(int w);
+
+  /**
+   * Checks whether an element has a primitive value without assigning one.  Queries, such as
+   * {@link IntKeyTransformMap#get(java.lang.Object)}, skip elements without a value, which keeps transformers that
+   * assign values on demand, such as {@link DictionaryTransformer}, from assigning values only to be looked up.
+   *
+   * @return  {@code true} by default
+   */
+  public boolean hasInt(E e) {
+    return true;
+  }
+
+  @Override
+  protected Integer doToWrapped(E e) {
+    return (e == null) ? null : doToInt(e);
+  }
+
+  @Override
+  protected E doFromWrapped(Integer w) {
+    return (w == null) ? null : doFromInt(w);
+  }
+}
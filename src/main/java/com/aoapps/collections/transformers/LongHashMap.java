@@ -0,0 +1,313 @@
+/*
+ * ao-collections-transformers - Bi-directional collection transformations for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections-transformers.
+ *
+ * ao-collections-transformers is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections-transformers is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections-transformers.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections.transformers;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * A hash map with primitive {@code long} keys, stored by open addressing in parallel arrays of keys and values.  There
+ * are no per-entry objects, and the primitive methods, such as {@link #get(long)} and {@link #put(long, java.lang.Object)},
+ * do not box.  The {@link Map} methods box keys as needed, and {@link #entrySet()} creates entries while iterating.
+ *
+ * <p>Collisions are resolved by linear probing, and removal shifts following entries back, so there are no deleted
+ * markers.  The key {@code 0} marks empty slots, and is stored separately.  {@code null} values are supported, but
+ * not {@code null} keys.</p>
+ *
+ * <p>Not thread-safe.</p>
+ *
+ * @param  <V>  The value type
+ *
+ * @author  AO Industries, Inc.
+ */
+public final class LongHashMap<V> extends PrimitiveKeyHashMap<Long, V> {
+
+  /**
+   * Accepts the key and value of each entry.
+   */
+  @FunctionalInterface
+  public static interface EntryConsumer<V> {
+    void accept(long key, V value);
+  }
+
+  private long[] keys;
+
+  /**
+   * Creates an empty map.
+   */
+  public LongHashMap() {
+    this(0);
+  }
+
+  /**
+   * Creates an empty map sized for the given number of entries.
+   */
+  public LongHashMap(int expectedSize) throws IllegalArgumentException {
+    super(capacityFor(expectedSize));
+    keys = new long[values.length];
+  }
+
+  private static int hash(long key) {
+    long h = key * 0x9E3779B97F4A7C15L;
+    return (int) (h ^ (h >>> 32));
+  }
+
+  /**
+   * Finds the slot of a non-zero key.
+   *
+   * @return  The slot or {@code -1} when not found
+   */
+  private int find(long key) {
+    long[] k = keys;
+    int m = mask;
+    for (int pos = hash(key) & m; ; pos = (pos + 1) & m) {
+      long current = k[pos];
+      if (current == key) {
+        return pos;
+      }
+      if (current == 0) {
+        return -1;
+      }
+    }
+  }
+
+  /**
+   * Checks for a key, without boxing.
+   */
+  public boolean containsKey(long key) {
+    return (key == 0) ? hasZeroKey : find(key) != -1;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return (key instanceof Long) && containsKey(((Long) key).longValue());
+  }
+
+  /**
+   * Gets the value of a key, without boxing.
+   */
+  public V get(long key) {
+    return getOrDefault(key, null);
+  }
+
+  @Override
+  public V get(Object key) {
+    return (key instanceof Long) ? get(((Long) key).longValue()) : null;
+  }
+
+  /**
+   * Gets the value of a key, or a default when not found, without boxing.
+   */
+  @SuppressWarnings("unchecked")
+  public V getOrDefault(long key, V defaultValue) {
+    if (key == 0) {
+      return hasZeroKey ? zeroValue : defaultValue;
+    }
+    int pos = find(key);
+    return (pos == -1) ? defaultValue : (V) values[pos];
+  }
+
+  @Override
+  public V getOrDefault(Object key, V defaultValue) {
+    return (key instanceof Long) ? getOrDefault(((Long) key).longValue(), defaultValue) : defaultValue;
+  }
+
+  /**
+   * Associates a value with a key, without boxing.
+   *
+   * @return  The previous value or {@code null} when none
+   */
+  @SuppressWarnings("unchecked")
+  public V put(long key, V value) {
+    if (key == 0) {
+      V old = zeroValue;
+      zeroValue = value;
+      if (!hasZeroKey) {
+        hasZeroKey = true;
+        modCount++;
+      }
+      return old;
+    }
+    long[] k = keys;
+    int m = mask;
+    int pos = hash(key) & m;
+    for (long current; (current = k[pos]) != 0; pos = (pos + 1) & m) {
+      if (current == key) {
+        V old = (V) values[pos];
+        values[pos] = value;
+        return old;
+      }
+    }
+    k[pos] = key;
+    values[pos] = value;
+    modCount++;
+    if (++used > (k.length >> 2) * 3) {
+      rehash(k.length << 1);
+    }
+    return null;
+  }
+
+  @Override
+  public V put(Long key, V value) {
+    return put(key.longValue(), value);
+  }
+
+  /**
+   * Removes a key, without boxing.
+   *
+   * @return  The previous value or {@code null} when none
+   */
+  @SuppressWarnings("unchecked")
+  public V remove(long key) {
+    if (key == 0) {
+      V old = zeroValue;
+      if (hasZeroKey) {
+        hasZeroKey = false;
+        zeroValue = null;
+        modCount++;
+      }
+      return old;
+    }
+    int pos = find(key);
+    if (pos == -1) {
+      return null;
+    }
+    V old = (V) values[pos];
+    removeAt(pos, null);
+    return old;
+  }
+
+  @Override
+  public V remove(Object key) {
+    return (key instanceof Long) ? remove(((Long) key).longValue()) : null;
+  }
+
+  @Override
+  boolean isFull(int pos) {
+    return keys[pos] != 0;
+  }
+
+  @Override
+  Long keyAt(int pos) {
+    return keys[pos];
+  }
+
+  @Override
+  Long zeroKey() {
+    return 0L;
+  }
+
+  @Override
+  int slotOf(Long key) {
+    long k = key.longValue();
+    return (k == 0) ? -1 : find(k);
+  }
+
+  @Override
+  void removeAt(int pos, EntryIterator iter) {
+    long[] k = keys;
+    Object[] v = values;
+    int m = mask;
+    int last = pos;
+    for (pos = (pos + 1) & m; ; pos = (pos + 1) & m) {
+      long current = k[pos];
+      if (current == 0) {
+        break;
+      }
+      int slot = hash(current) & m;
+      // Move back unless the home slot of the entry is cyclically within (last, pos]
+      if ((last <= pos) ? (last >= slot || slot > pos) : (last >= slot && slot > pos)) {
+        if (iter != null && iter.crosses(pos, last)) {
+          iter.shifted(pos, current, v[pos]);
+        }
+        k[last] = current;
+        v[last] = v[pos];
+        last = pos;
+      }
+    }
+    k[last] = 0;
+    v[last] = null;
+    used--;
+    modCount++;
+  }
+
+  @Override
+  void clearKeys() {
+    Arrays.fill(keys, 0);
+  }
+
+  private void rehash(int newCapacity) {
+    if (newCapacity > MAX_CAPACITY) {
+      throw new IllegalStateException("Too many entries: " + used);
+    }
+    long[] oldKeys = keys;
+    Object[] oldValues = values;
+    long[] k = new long[newCapacity];
+    Object[] v = new Object[newCapacity];
+    int m = newCapacity - 1;
+    for (int i = 0; i < oldKeys.length; i++) {
+      long key = oldKeys[i];
+      if (key != 0) {
+        int pos = hash(key) & m;
+        while (k[pos] != 0) {
+          pos = (pos + 1) & m;
+        }
+        k[pos] = key;
+        v[pos] = oldValues[i];
+      }
+    }
+    keys = k;
+    values = v;
+    mask = m;
+  }
+
+  /**
+   * Performs an action for each entry, without boxing keys.
+   */
+  @SuppressWarnings("unchecked")
+  public void forEachEntry(EntryConsumer<? super V> action) {
+    int expectedModCount = modCount;
+    if (hasZeroKey) {
+      action.accept(0, zeroValue);
+    }
+    long[] k = keys;
+    Object[] v = values;
+    for (int pos = 0; pos < k.length && modCount == expectedModCount; pos++) {
+      long key = k[pos];
+      if (key != 0) {
+        action.accept(key, (V) v[pos]);
+      }
+    }
+    if (modCount != expectedModCount) {
+      throw new ConcurrentModificationException();
+    }
+  }
+
+  @Override
+  public void forEach(BiConsumer<? super Long, ? super V> action) {
+    forEachEntry(action::accept);
+  }
+}
@@ -0,0 +1,137 @@
+/*
+ * ao-collections-transformers - Bi-directional collection transformations for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections-transformers.
+ *
+ * ao-collections-transformers is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections-transformers is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections-transformers.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections.transformers;
+
+import java.util.function.BiConsumer;
+
+/**
+ * A {@link TransformMap} over a {@link LongHashMap}, with keys converted by a {@link LongTransformer}.  Key lookups
+ * and updates convert keys directly to primitive {@code long} values, so keys are only boxed when accessed through
+ * the {@linkplain #getWrapped() wrapped map} or its views.
+ *
+ * <p>Not thread-safe.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+public class LongKeyTransformMap<K, V, VW> extends TransformMap<K, V, Long, VW> {
+
+  /**
+   * Wraps a map.
+   */
+  public static <K, V, VW> LongKeyTransformMap<K, V, VW> of(
+      LongHashMap<VW> map,
+      LongTransformer<K> keyTransformer,
+      Transformer<V, VW> valueTransformer
+  ) {
+    return (map == null) ? null : new LongKeyTransformMap<>(map, keyTransformer, valueTransformer);
+  }
+
+  /**
+   * Wraps a new, empty map.
+   */
+  public static <K, V, VW> LongKeyTransformMap<K, V, VW> of(
+      LongTransformer<K> keyTransformer,
+      Transformer<V, VW> valueTransformer
+  ) {
+    return new LongKeyTransformMap<>(new LongHashMap<>(), keyTransformer, valueTransformer);
+  }
+
+  /**
+   * Distinguishes a missing key from a {@code null} value.
+   */
+  private static final Object NOT_FOUND = new Object();
+
+  private final LongHashMap<VW> wrapped;
+  private final LongTransformer<K> longKeyTransformer;
+
+  protected LongKeyTransformMap(
+      LongHashMap<VW> wrapped,
+      LongTransformer<K> keyTransformer,
+      Transformer<V, VW> valueTransformer
+  ) {
+    super(wrapped, keyTransformer, valueTransformer);
+    this.wrapped = wrapped;
+    this.longKeyTransformer = keyTransformer;
+  }
+
+  @Override
+  @SuppressWarnings("ReturnOfCollectionOrArrayField")
+  protected LongHashMap<VW> getWrapped() {
+    return wrapped;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    Class<K> keyClass = longKeyTransformer.eClass;
+    return keyClass.isInstance(key) && wrapped.containsKey(longKeyTransformer.toLong(keyClass.cast(key)));
+  }
+
+  @Override
+  public V get(Object key) {
+    Class<K> keyClass = longKeyTransformer.eClass;
+    return keyClass.isInstance(key)
+        ? valueTransformer.fromWrapped(wrapped.get(longKeyTransformer.toLong(keyClass.cast(key))))
+        : null;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public V getOrDefault(Object key, V defaultValue) {
+    Class<K> keyClass = longKeyTransformer.eClass;
+    if (!keyClass.isInstance(key)) {
+      return defaultValue;
+    }
+    Object vw = ((LongHashMap<Object>) wrapped).getOrDefault(longKeyTransformer.toLong(keyClass.cast(key)), NOT_FOUND);
+    return (vw == NOT_FOUND) ? defaultValue : valueTransformer.fromWrapped((VW) vw);
+  }
+
+  @Override
+  public V put(K key, V value) {
+    if (key == null) {
+      throw new NullPointerException();
+    }
+    return valueTransformer.fromWrapped(wrapped.put(longKeyTransformer.toLong(key), valueTransformer.toWrapped(value)));
+  }
+
+  @Override
+  public V remove(Object key) {
+    Class<K> keyClass = longKeyTransformer.eClass;
+    return keyClass.isInstance(key)
+        ? valueTransformer.fromWrapped(wrapped.remove(longKeyTransformer.toLong(keyClass.cast(key))))
+        : null;
+  }
+
+  @Override
+  public void forEach(BiConsumer<? super K, ? super V> action) {
+    TransformStats.iteration(keyTransformer, valueTransformer);
+    BulkViewOperationEvent event = new BulkViewOperationEvent();
+    event.begin();
+    wrapped.forEachEntry((k, vw) ->
+        action.accept(longKeyTransformer.fromLong(k),
+            valueTransformer.fromWrapped(vw)
+        )
+    );
+    event.commit(this, "forEach", wrapped);
+  }
+}
@@ -0,0 +1,115 @@
+/*
+ * ao-collections-transformers - Bi-directional collection transformations for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections-transformers.
+ *
+ * ao-collections-transformers is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections-transformers is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections-transformers.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections.transformers;
+
+import java.util.function.LongFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Converts between a type and primitive {@code long} values.  {@link #toLong(java.lang.Object)} and
+ * {@link #fromLong(long)} convert without boxing, which collections keyed by primitives, such as
+ * {@link LongKeyTransformMap}, use directly.  {@code null} is converted to {@code null} by the boxed conversions.
+ *
+ * @param  <E>  The wrapper type
+ *
+ * @author  AO Industries, Inc.
+ */
+public abstract class LongTransformer<E> extends AbstractTransformer<E, Long> {
+
+  /**
+   * Creates a transformer from reciprocal functions.
+   */
+  public static <E> LongTransformer<E> of(
+      Class<E> eClass,
+      ToLongFunction<? super E> toLong,
+      LongFunction<? extends E> fromLong
+  ) {
+    return new LongTransformer<>(eClass) {
+      @Override
+      protected long doToLong(E e) {
+        return toLong.applyAsLong(e);
+      }
+
+      @Override
+      protected E doFromLong(long w) {
+        return fromLong.apply(w);
+      }
+    };
+  }
+
+  /**
+   * Creates a new type converter.
+   *
+   * @param eClass The wrapper type
+   */
+  protected LongTransformer(Class<E> eClass) {
+    super(eClass, Long.class);
+  }
+
+  /**
+   * Converts to the primitive value by {@link #doToLong(java.lang.Object)}, reporting when slow.
+   *
+   * @param  e  never {@code null}
+   */
+  public final long toLong(E e) {
+    TransformerSlowConversionEvent event = new TransformerSlowConversionEvent();
+    event.begin();
+    long w = doToLong(e);
+    event.commit(this, TransformerSlowConversionEvent.TO_WRAPPED);
+    return w;
+  }
+
+  /**
+   * Converts from the primitive value by {@link #doFromLong(long)}, reporting when slow.
+   */
+  public final E fromLong(long w) {
+    TransformerSlowConversionEvent event = new TransformerSlowConversionEvent();
+    event.begin();
+    E e = doFromLong(w);
+    event.commit(this, TransformerSlowConversionEvent.FROM_WRAPPED);
+    return e;
+  }
+
+  /**
+   * Performs the conversion to the primitive value.
+   *
+   * @param  e  never {@code null}
+   */
+  protected abstract long doToLong(E e);
+
+  /**
+   * Performs the conversion from the primitive value.
+   */
+  protected abstract E doFromLong(long w);
+
+  @Override
+  protected Long doToWrapped(E e) {
+    return (e == null) ? null : doToLong(e);
+  }
+
+  @Override
+  protected E doFromWrapped(Long w) {
+    return (w == null) ? null : doFromLong(w);
+  }
+}
@@ -0,0 +1,94 @@
+/*
+ * ao-collections-transformers - Bi-directional collection transformations for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections-transformers.
+ *
+ * ao-collections-transformers is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections-transformers is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections-transformers.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections.transformers;
+
+/**
+ * A change to an {@link ObservableTransformMap}.  Keys and values are converted from the wrapped map when first
+ * requested.
+ *
+ * @param  <K>  The key type
+ * @param  <V>  The value type
+ *
+ * @author  AO Industries, Inc.
+ */
+public final class MapChange<K, V> {
+
+  private final ChangeType type;
+  private final Object key;
+  private final Object value;
+  private final Object oldValue;
+  private final Transformer<K, ?> keyTransformer;
+  private final Transformer<V, ?> valueTransformer;
+
+  <KW, VW> MapChange(
+      ChangeType type,
+      KW key,
+      VW value,
+      VW oldValue,
+      Transformer<K, KW> keyTransformer,
+      Transformer<V, VW> valueTransformer
+  ) {
+    this.type = type;
+    this.key = key;
+    this.value = value;
+    this.oldValue = oldValue;
+    this.keyTransformer = keyTransformer;
+    this.valueTransformer = valueTransformer;
+  }
+
+  public ChangeType getType() {
+    return type;
+  }
+
+  @SuppressWarnings("unchecked")
+  public K getKey() {
+    return ((Transformer<K, Object>) keyTransformer).fromWrapped(key);
+  }
+
+  @SuppressWarnings("unchecked")
+  private V convert(Object vw) {
+    return ((Transformer<V, Object>) valueTransformer).fromWrapped(vw);
+  }
+
+  /**
+   * Gets the value added, removed, or replacing another.
+   */
+  public V getValue() {
+    return convert(value);
+  }
+
+  /**
+   * Gets the value replaced.
+   *
+   * @return  The value or {@code null} when not {@link ChangeType#REPLACED}
+   */
+  public V getOldValue() {
+    return (type == ChangeType.REPLACED) ? convert(oldValue) : null;
+  }
+
+  @Override
+  public String toString() {
+    return type + ": " + getKey() + "=" + ((type == ChangeType.REPLACED) ? (getOldValue() + " -> ") : "") + getValue();
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * ao-collections-transformers - Bi-directional collection transformations for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections-transformers.
+ *
+ * ao-collections-transformers is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections-transformers is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections-transformers.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections.transformers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Path;
+
+/**
+ * Segments mapped from a file, after a header.  Records are laid out contiguously in the file, so the layout does
+ * not depend on the segment size.  Mapping a segment beyond the end of the file grows the file, so the file grows by
+ * doubling with the first segment, then by whole segments.
+ *
+ * @author  AO Industries, Inc.
+ */
+final class MappedSegments extends RecordSegments {
+
+  private final FileChannel channel;
+  private final long dataOffset;
+
+  /**
+   * Locks an opened file, which remains locked until the channel is closed.
+   *
+   * @throws  IOException  when the file is already locked, by this or another process
+   */
+  static void lock(FileChannel channel, Path path) throws IOException {
+    FileLock lock;
+    try {
+      lock = channel.tryLock();
+    } catch (OverlappingFileLockException e) {
+      throw new IOException("File already open: " + path, e);
+    }
+    if (lock == null) {
+      throw new IOException("File locked by another process: " + path);
+    }
+  }
+
+  MappedSegments(FileChannel channel, long dataOffset, int recordSize, int maxSegmentBytes) {
+    super(recordSize, maxSegmentBytes);
+    this.channel = channel;
+    this.dataOffset = dataOffset;
+  }
+
+  @Override
+  ByteBuffer allocate(int segment, int bytes) {
+    try {
+      return channel.map(FileChannel.MapMode.READ_WRITE, dataOffset + (long) segment * segmentBytes, bytes);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * The larger mapping of the first segment already contains its records.
+   */
+  @Override
+  void grow(ByteBuffer from, ByteBuffer to) {
+    // Nothing to copy
+  }
+
+  /**
+   * Writes all changes of the mapped segments to the file.
+   */
+  void force() {
+    for (ByteBuffer segment : getSegments()) {
+      ((MappedByteBuffer) segment).force();
+    }
+  }
+}
@@ -0,0 +1,157 @@
+/*
+ * ao-collections-transformers - Bi-directional collection transformations for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections-transformers.
+ *
+ * ao-collections-transformers is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections-transformers is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections-transformers.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections.transformers;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * An {@link OffHeapTransformList} persisted in a memory-mapped file.  Reopening the file maps the existing records
+ * directly, without reading or decoding them.
+ *
+ * <p>The file is a header, which holds the record size and list size, followed by the records.  As elements are
+ * added, the mapping of the first segment doubles up to 1 MiB, then the file grows by whole segments, half again as
+ * many at a time.  An added record is written before the size in the header is updated.  Changes are written to the
+ * file by the operating system at its discretion, or immediately by {@link #force()}.</p>
+ *
+ * <p>The file is locked while open, so it is used by only one list at a time.  Closing does not unmap the file, which
+ * happens once the list is garbage collected.  The list must not be used after being closed.</p>
+ *
+ * <p>Not thread-safe.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+public class MappedTransformList<E> extends OffHeapTransformList<E> implements Closeable {
+
+  private static final long MAGIC = 0x414f544c49535431L; // "AOTLIST1"
+  private static final int VERSION = 1;
+
+  private static final int MAGIC_OFFSET = 0;
+  private static final int VERSION_OFFSET = 8;
+  private static final int RECORD_SIZE_OFFSET = 12;
+  private static final int SIZE_OFFSET = 16;
+
+  /**
+   * The size of the header, records follow.
+   */
+  static final int HEADER_SIZE = 64;
+
+  /**
+   * The maximum size of each mapping, which is also the increment by which the file grows.
+   */
+  static final int MAX_SEGMENT_BYTES = 1 << 20;
+
+  /**
+   * Opens the list in the given file, creating the file when it does not exist.
+   *
+   * @throws  IOException  when the file is not a list of the record size of the codec, is truncated, or is already
+   *                       open
+   */
+  public static <E> MappedTransformList<E> open(Path path, RecordCodec<E> codec) throws IOException {
+    FileChannel channel = FileChannel.open(
+        path,
+        StandardOpenOption.CREATE,
+        StandardOpenOption.READ,
+        StandardOpenOption.WRITE
+    );
+    try {
+      MappedSegments.lock(channel, path);
+      long fileSize = channel.size();
+      boolean created = fileSize == 0;
+      if (!created && fileSize < HEADER_SIZE) {
+        throw new IOException("Truncated file: " + path);
+      }
+      MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+      int recordSize = codec.getRecordSize();
+      if (created) {
+        header.putLong(MAGIC_OFFSET, MAGIC);
+        header.putInt(VERSION_OFFSET, VERSION);
+        header.putInt(RECORD_SIZE_OFFSET, recordSize);
+        header.putInt(SIZE_OFFSET, 0);
+      } else {
+        if (header.getLong(MAGIC_OFFSET) != MAGIC) {
+          throw new IOException("Not a list file: " + path);
+        }
+        if (header.getInt(VERSION_OFFSET) != VERSION) {
+          throw new IOException("Unsupported version: " + header.getInt(VERSION_OFFSET));
+        }
+        if (header.getInt(RECORD_SIZE_OFFSET) != recordSize) {
+          throw new IOException("Record size mismatch: " + header.getInt(RECORD_SIZE_OFFSET) + " != " + recordSize);
+        }
+      }
+      int size = header.getInt(SIZE_OFFSET);
+      if (size < 0) {
+        throw new IOException("Invalid size: " + size);
+      }
+      if (!created && fileSize < HEADER_SIZE + (long) size * recordSize) {
+        throw new IOException("Truncated file: " + path);
+      }
+      MappedSegments segments = new MappedSegments(channel, HEADER_SIZE, recordSize, MAX_SEGMENT_BYTES);
+      RecordList<E> records = new RecordList<>(codec, segments, size) {
+        @Override
+        void sizeChanged(int newSize) {
+          header.putInt(SIZE_OFFSET, newSize);
+        }
+      };
+      return new MappedTransformList<>(records, channel, header, segments);
+    } catch (IOException | RuntimeException | Error e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  private final FileChannel channel;
+  private final MappedByteBuffer header;
+  private final MappedSegments segments;
+
+  private MappedTransformList(RecordList<E> records, FileChannel channel, MappedByteBuffer header, MappedSegments segments) {
+    super(records);
+    this.channel = channel;
+    this.header = header;
+    this.segments = segments;
+  }
+
+  /**
+   * Writes all changes to the file.
+   */
+  public void force() {
+    segments.force();
+    header.force();
+  }
+
+  /**
+   * Writes all changes to the file, then closes it.
+   */
+  @Override
+  public void close() throws IOException {
+    if (channel.isOpen()) {
+      force();
+      channel.close();
+    }
+  }
+}
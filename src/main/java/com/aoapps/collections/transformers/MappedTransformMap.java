@@ -0,0 +1,757 @@
+/*
+ * ao-collections-transformers - Bi-directional collection transformations for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections-transformers.
+ *
+ * ao-collections-transformers is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections-transformers is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections-transformers.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections.transformers;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.IntConsumer;
+
+/**
+ * A hash map persisted in a memory-mapped file, with keys and values stored as fixed-width records encoded by
+ * {@link RecordCodec}.  Reopening the file maps the existing table directly, without reading or decoding it.
+ *
+ * <p>The file is a header followed by an open-addressing table of slots, each holding a state byte, the key record,
+ * and the value record.  Keys are hashed and compared by their encoded bytes.  When the table becomes too full it is
+ * rebuilt in place, at double the capacity.  The full slots are first copied to a file named with the suffix
+ * {@code ".rehash"}, which is deleted once rebuilt, and a rebuild interrupted by a crash is completed from the copy
+ * when next opened.  A new slot is marked full, and the size updated, only once its key and value are written.
+ * Changes are written to the file by the operating system at its discretion, or immediately by {@link #force()}.</p>
+ *
+ * <p>The wrapped map is of copies of each record, converted by {@link RecordTransformer}.  Neither keys nor values
+ * may be {@code null}.</p>
+ *
+ * <p>The file is locked while open, so it is used by only one map at a time.  Closing does not unmap the file, which
+ * happens once the map is garbage collected.  The map must not be used after being closed.</p>
+ *
+ * <p>Not thread-safe.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+public class MappedTransformMap<K, V> extends TransformMap<K, V, ByteBuffer, ByteBuffer> implements Closeable {
+
+  private static final long MAGIC = 0x414f54484d415031L; // "AOTHMAP1"
+  private static final int VERSION = 1;
+
+  private static final int MAGIC_OFFSET = 0;
+  private static final int VERSION_OFFSET = 8;
+  private static final int KEY_SIZE_OFFSET = 12;
+  private static final int VALUE_SIZE_OFFSET = 16;
+  private static final int CAPACITY_OFFSET = 20;
+  private static final int SIZE_OFFSET = 24;
+  private static final int DELETED_OFFSET = 28;
+  /**
+   * The capacity of a rebuild in progress, or {@code 0} for none.
+   */
+  private static final int REHASH_OFFSET = 32;
+
+  /**
+   * The size of the header, slots follow.
+   */
+  static final int HEADER_SIZE = 64;
+
+  /**
+   * The number of slots in a new table.
+   */
+  static final int MIN_CAPACITY = 16;
+
+  private static final byte EMPTY = 0;
+  private static final byte FULL = 1;
+  private static final byte DELETED = 2;
+
+  /**
+   * Opens the map in the given file, creating the file when it does not exist.
+   *
+   * @throws  IOException  when the file is not a map of the record sizes of the codecs, is truncated, or is already
+   *                       open
+   */
+  public static <K, V> MappedTransformMap<K, V> open(
+      Path path,
+      RecordCodec<K> keyCodec,
+      RecordCodec<V> valueCodec
+  ) throws IOException {
+    return new MappedTransformMap<>(new Table(path, keyCodec.getRecordSize(), valueCodec.getRecordSize()), keyCodec, valueCodec);
+  }
+
+  /**
+   * One mapped file.
+   */
+  private static final class Mapping {
+    private final FileChannel channel;
+    private final MappedByteBuffer header;
+    private final MappedSegments slots;
+    private final int capacity;
+
+    private Mapping(FileChannel channel, MappedByteBuffer header, int slotSize, int capacity) {
+      this.channel = channel;
+      this.header = header;
+      this.slots = new MappedSegments(channel, HEADER_SIZE, slotSize, MappedTransformList.MAX_SEGMENT_BYTES);
+      this.capacity = capacity;
+      slots.ensureCapacity(capacity);
+    }
+
+    private void force() {
+      slots.force();
+      header.force();
+    }
+  }
+
+  /**
+   * The table of slots, which is the wrapped map.
+   */
+  private static final class Table extends AbstractMap<ByteBuffer, ByteBuffer> {
+
+    /**
+     * The copy of the full slots while rebuilding.
+     */
+    private final Path rehashPath;
+    private final int keySize;
+    private final int valueSize;
+    private final int slotSize;
+    private Mapping mapping;
+    private int size;
+    private int deleted;
+    private int modCount;
+
+    private Table(Path path, int keySize, int valueSize) throws IOException {
+      this.rehashPath = path.resolveSibling(path.getFileName() + ".rehash");
+      this.keySize = keySize;
+      this.valueSize = valueSize;
+      this.slotSize = 1 + keySize + valueSize;
+      FileChannel channel = FileChannel.open(
+          path,
+          StandardOpenOption.CREATE,
+          StandardOpenOption.READ,
+          StandardOpenOption.WRITE
+      );
+      try {
+        MappedSegments.lock(channel, path);
+        long fileSize = channel.size();
+        if (fileSize == 0) {
+          mapping = create(channel, MIN_CAPACITY);
+        } else {
+          if (fileSize < HEADER_SIZE) {
+            throw new IOException("Truncated file: " + path);
+          }
+          MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+          if (header.getLong(MAGIC_OFFSET) != MAGIC) {
+            throw new IOException("Not a map file: " + path);
+          }
+          if (header.getInt(VERSION_OFFSET) != VERSION) {
+            throw new IOException("Unsupported version: " + header.getInt(VERSION_OFFSET));
+          }
+          if (header.getInt(KEY_SIZE_OFFSET) != keySize) {
+            throw new IOException("Key size mismatch: " + header.getInt(KEY_SIZE_OFFSET) + " != " + keySize);
+          }
+          if (header.getInt(VALUE_SIZE_OFFSET) != valueSize) {
+            throw new IOException("Value size mismatch: " + header.getInt(VALUE_SIZE_OFFSET) + " != " + valueSize);
+          }
+          int rehash = header.getInt(REHASH_OFFSET);
+          if (rehash != 0) {
+            if (rehash < MIN_CAPACITY || Integer.bitCount(rehash) != 1) {
+              throw new IOException("Corrupt header: rehash = " + rehash);
+            }
+            rebuild(channel, header, rehash);
+          } else {
+            int capacity = header.getInt(CAPACITY_OFFSET);
+            size = header.getInt(SIZE_OFFSET);
+            deleted = header.getInt(DELETED_OFFSET);
+            if (capacity < MIN_CAPACITY || Integer.bitCount(capacity) != 1
+                || size < 0 || deleted < 0 || size + deleted >= capacity) {
+              throw new IOException("Corrupt header: capacity = " + capacity + ", size = " + size + ", deleted = " + deleted);
+            }
+            if (fileSize < HEADER_SIZE + (long) capacity * slotSize) {
+              throw new IOException("Truncated file: " + path);
+            }
+            mapping = new Mapping(channel, header, slotSize, capacity);
+          }
+        }
+      } catch (IOException | RuntimeException | Error e) {
+        channel.close();
+        throw e;
+      }
+    }
+
+    /**
+     * Maps a new, empty table.
+     */
+    private Mapping create(FileChannel channel, int capacity) throws IOException {
+      MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+      header.putLong(MAGIC_OFFSET, MAGIC);
+      header.putInt(VERSION_OFFSET, VERSION);
+      header.putInt(KEY_SIZE_OFFSET, keySize);
+      header.putInt(VALUE_SIZE_OFFSET, valueSize);
+      header.putInt(CAPACITY_OFFSET, capacity);
+      header.putInt(SIZE_OFFSET, 0);
+      header.putInt(DELETED_OFFSET, 0);
+      header.putInt(REHASH_OFFSET, 0);
+      return new Mapping(channel, header, slotSize, capacity);
+    }
+
+    private static int hash(ByteBuffer buffer, int offset, int length) {
+      int h = 1;
+      for (int i = 0; i < length; i++) {
+        h = 31 * h + buffer.get(offset + i);
+      }
+      // Spread bits, since the table index uses only the low bits
+      h ^= h >>> 16;
+      h *= 0x85ebca6b;
+      h ^= h >>> 13;
+      h *= 0xc2b2ae35;
+      return h ^ (h >>> 16);
+    }
+
+    private static boolean keyEquals(ByteBuffer segment, int offset, byte[] key) {
+      for (int i = 0; i < key.length; i++) {
+        if (segment.get(offset + i) != key[i]) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private ByteBuffer segment(int slot) {
+      return mapping.slots.segment(slot);
+    }
+
+    private int valueOffset(int slot) {
+      return mapping.slots.offset(slot) + 1 + keySize;
+    }
+
+    /**
+     * Finds the slot of a key.
+     *
+     * @return  The slot or {@code -(insertion slot + 1)} when not found
+     */
+    private int find(byte[] key) {
+      MappedSegments slots = mapping.slots;
+      int mask = mapping.capacity - 1;
+      int slot = hash(ByteBuffer.wrap(key), 0, keySize) & mask;
+      int firstDeleted = -1;
+      while (true) {
+        ByteBuffer segment = slots.segment(slot);
+        int offset = slots.offset(slot);
+        byte state = segment.get(offset);
+        if (state == EMPTY) {
+          return -((firstDeleted == -1 ? slot : firstDeleted) + 1);
+        }
+        if (state == DELETED) {
+          if (firstDeleted == -1) {
+            firstDeleted = slot;
+          }
+        } else if (keyEquals(segment, offset + 1, key)) {
+          return slot;
+        }
+        slot = (slot + 1) & mask;
+      }
+    }
+
+    /**
+     * Finds the slot of a key, adding the key when not found.  When added, the key and value are written before the
+     * slot is marked full and the size is updated, so the file never holds a full slot without its value.  When the
+     * value writer fails, the slot is left unused.
+     *
+     * @param  valueWriter  Writes the value of a new slot, given the slot
+     *
+     * @return  The slot or {@code -(slot + 1)} when added, in which case the value has been written
+     */
+    private int findOrAdd(byte[] key, IntConsumer valueWriter) {
+      int slot = find(key);
+      if (slot >= 0) {
+        return slot;
+      }
+      int capacity = mapping.capacity;
+      if ((long) (size + deleted + 1) * 4 > (long) capacity * 3) {
+        // Purge deleted slots in place of growing when at most half full
+        rehash(((long) (size + 1) * 2 > capacity) ? capacity << 1 : capacity);
+        slot = find(key);
+      }
+      slot = -(slot + 1);
+      ByteBuffer segment = segment(slot);
+      int offset = mapping.slots.offset(slot);
+      ByteBuffer keyBuffer = segment.duplicate();
+      keyBuffer.position(offset + 1);
+      keyBuffer.put(key);
+      valueWriter.accept(slot);
+      if (segment.get(offset) == DELETED) {
+        deleted--;
+        mapping.header.putInt(DELETED_OFFSET, deleted);
+      }
+      segment.put(offset, FULL);
+      size++;
+      mapping.header.putInt(SIZE_OFFSET, size);
+      modCount++;
+      return -(slot + 1);
+    }
+
+    private void delete(int slot) {
+      segment(slot).put(mapping.slots.offset(slot), DELETED);
+      size--;
+      deleted++;
+      mapping.header.putInt(SIZE_OFFSET, size);
+      mapping.header.putInt(DELETED_OFFSET, deleted);
+      modCount++;
+    }
+
+    /**
+     * Rebuilds the table in place.  The full slots are copied, and the copy written to disk, before the new capacity
+     * is recorded in the header, so the rebuild may be completed from the copy when interrupted.
+     */
+    private void rehash(int newCapacity) {
+      if (newCapacity <= 0) {
+        throw new IllegalStateException("Table too large");
+      }
+      try {
+        try (FileChannel out = FileChannel.open(
+            rehashPath,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.WRITE
+        )) {
+          byte[] record = new byte[slotSize];
+          ByteBuffer recordBuffer = ByteBuffer.wrap(record);
+          for (int i = 0, capacity = mapping.capacity; i < capacity; i++) {
+            if (segment(i).get(mapping.slots.offset(i)) == FULL) {
+              mapping.slots.read(i, record);
+              recordBuffer.clear();
+              while (recordBuffer.hasRemaining()) {
+                out.write(recordBuffer);
+              }
+            }
+          }
+          out.force(true);
+        }
+        MappedByteBuffer header = mapping.header;
+        header.putInt(REHASH_OFFSET, newCapacity);
+        header.force();
+        rebuild(mapping.channel, header, newCapacity);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    /**
+     * Rebuilds the table from the copy of its full slots, then deletes the copy.
+     */
+    private void rebuild(FileChannel channel, MappedByteBuffer header, int capacity) throws IOException {
+      Mapping newMapping = new Mapping(channel, header, slotSize, capacity);
+      MappedSegments slots = newMapping.slots;
+      for (int i = 0; i < capacity; i++) {
+        slots.segment(i).put(slots.offset(i), EMPTY);
+      }
+      int mask = capacity - 1;
+      int count;
+      try (FileChannel in = FileChannel.open(rehashPath, StandardOpenOption.READ)) {
+        long length = in.size();
+        if (length % slotSize != 0 || length / slotSize >= capacity) {
+          throw new IOException("Corrupt rehash file: " + rehashPath);
+        }
+        count = (int) (length / slotSize);
+        byte[] record = new byte[slotSize];
+        ByteBuffer recordBuffer = ByteBuffer.wrap(record);
+        for (int i = 0; i < count; i++) {
+          recordBuffer.clear();
+          while (recordBuffer.hasRemaining()) {
+            if (in.read(recordBuffer) == -1) {
+              throw new EOFException(rehashPath.toString());
+            }
+          }
+          int slot = hash(recordBuffer, 1, keySize) & mask;
+          while (slots.segment(slot).get(slots.offset(slot)) != EMPTY) {
+            slot = (slot + 1) & mask;
+          }
+          slots.write(slot, record);
+        }
+      }
+      header.putInt(CAPACITY_OFFSET, capacity);
+      header.putInt(SIZE_OFFSET, count);
+      header.putInt(DELETED_OFFSET, 0);
+      newMapping.force();
+      header.putInt(REHASH_OFFSET, 0);
+      header.force();
+      Files.delete(rehashPath);
+      mapping = newMapping;
+      size = count;
+      deleted = 0;
+      modCount++;
+    }
+
+    private byte[] toKey(Object o) {
+      if (!(o instanceof ByteBuffer)) {
+        return null;
+      }
+      ByteBuffer w = (ByteBuffer) o;
+      if (w.remaining() != keySize) {
+        return null;
+      }
+      byte[] key = new byte[keySize];
+      w.duplicate().get(key);
+      return key;
+    }
+
+    private static void checkSize(ByteBuffer w, int expected) throws IllegalArgumentException {
+      if (w.remaining() != expected) {
+        throw new IllegalArgumentException("Record size mismatch: " + w.remaining() + " != " + expected);
+      }
+    }
+
+    private ByteBuffer copyKey(int slot) {
+      byte[] key = new byte[keySize];
+      ByteBuffer segment = segment(slot).duplicate();
+      segment.position(mapping.slots.offset(slot) + 1);
+      segment.get(key);
+      return ByteBuffer.wrap(key);
+    }
+
+    private ByteBuffer copyValue(int slot) {
+      byte[] value = new byte[valueSize];
+      ByteBuffer segment = segment(slot).duplicate();
+      segment.position(valueOffset(slot));
+      segment.get(value);
+      return ByteBuffer.wrap(value);
+    }
+
+    private void writeValue(int slot, ByteBuffer w) {
+      ByteBuffer segment = segment(slot).duplicate();
+      segment.position(valueOffset(slot));
+      segment.put(w.duplicate());
+    }
+
+    @Override
+    public int size() {
+      return size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+      byte[] k = toKey(key);
+      return k != null && find(k) >= 0;
+    }
+
+    @Override
+    public ByteBuffer get(Object key) {
+      byte[] k = toKey(key);
+      if (k == null) {
+        return null;
+      }
+      int slot = find(k);
+      return (slot < 0) ? null : copyValue(slot);
+    }
+
+    @Override
+    public ByteBuffer put(ByteBuffer key, ByteBuffer value) throws IllegalArgumentException {
+      checkSize(key, keySize);
+      checkSize(value, valueSize);
+      int slot = findOrAdd(toKey(key), s -> writeValue(s, value));
+      if (slot < 0) {
+        return null;
+      }
+      ByteBuffer old = copyValue(slot);
+      writeValue(slot, value);
+      return old;
+    }
+
+    @Override
+    public ByteBuffer remove(Object key) {
+      byte[] k = toKey(key);
+      if (k == null) {
+        return null;
+      }
+      int slot = find(k);
+      if (slot < 0) {
+        return null;
+      }
+      ByteBuffer old = copyValue(slot);
+      delete(slot);
+      return old;
+    }
+
+    @Override
+    public void clear() {
+      MappedSegments slots = mapping.slots;
+      for (int i = 0, capacity = mapping.capacity; i < capacity; i++) {
+        slots.segment(i).put(slots.offset(i), EMPTY);
+      }
+      size = 0;
+      deleted = 0;
+      mapping.header.putInt(SIZE_OFFSET, 0);
+      mapping.header.putInt(DELETED_OFFSET, 0);
+      modCount++;
+    }
+
+    private Set<Map.Entry<ByteBuffer, ByteBuffer>> entrySet;
+
+    @Override
+    public Set<Map.Entry<ByteBuffer, ByteBuffer>> entrySet() {
+      Set<Map.Entry<ByteBuffer, ByteBuffer>> es = entrySet;
+      if (es == null) {
+        es = new AbstractSet<>() {
+          @Override
+          public int size() {
+            return size;
+          }
+
+          @Override
+          public void clear() {
+            Table.this.clear();
+          }
+
+          @Override
+          public Iterator<Map.Entry<ByteBuffer, ByteBuffer>> iterator() {
+            return new SlotIterator();
+          }
+        };
+        entrySet = es;
+      }
+      return es;
+    }
+
+    /**
+     * Iterates the full slots, in table order.
+     */
+    private final class SlotIterator implements Iterator<Map.Entry<ByteBuffer, ByteBuffer>> {
+      private int next = advance(0);
+      private int lastRet = -1;
+      private int expectedModCount = modCount;
+
+      private int advance(int slot) {
+        MappedSegments slots = mapping.slots;
+        for (int capacity = mapping.capacity; slot < capacity; slot++) {
+          if (slots.segment(slot).get(slots.offset(slot)) == FULL) {
+            return slot;
+          }
+        }
+        return slot;
+      }
+
+      private void checkForComodification() throws ConcurrentModificationException {
+        if (modCount != expectedModCount) {
+          throw new ConcurrentModificationException();
+        }
+      }
+
+      @Override
+      public boolean hasNext() {
+        return next < mapping.capacity;
+      }
+
+      @Override
+      public Map.Entry<ByteBuffer, ByteBuffer> next() throws NoSuchElementException {
+        checkForComodification();
+        if (next >= mapping.capacity) {
+          throw new NoSuchElementException();
+        }
+        int slot = next;
+        next = advance(slot + 1);
+        lastRet = slot;
+        return new SimpleEntry<>(copyKey(slot), copyValue(slot)) {
+          private static final long serialVersionUID = 1L;
+
+          @Override
+          public ByteBuffer setValue(ByteBuffer value) throws IllegalArgumentException {
+            checkForComodification();
+            checkSize(value, valueSize);
+            writeValue(slot, value);
+            return super.setValue(value);
+          }
+        };
+      }
+
+      @Override
+      public void remove() throws IllegalStateException {
+        if (lastRet == -1) {
+          throw new IllegalStateException();
+        }
+        checkForComodification();
+        delete(lastRet);
+        lastRet = -1;
+        expectedModCount = modCount;
+      }
+    }
+  }
+
+  private final Table table;
+  private final RecordCodec<K> keyCodec;
+  private final RecordCodec<V> valueCodec;
+
+  private MappedTransformMap(Table table, RecordCodec<K> keyCodec, RecordCodec<V> valueCodec) {
+    super(table, new RecordTransformer<>(keyCodec), new RecordTransformer<>(valueCodec));
+    this.table = table;
+    this.keyCodec = keyCodec;
+    this.valueCodec = valueCodec;
+  }
+
+  /**
+   * Gets the codec of keys.
+   */
+  public RecordCodec<K> getKeyCodec() {
+    return keyCodec;
+  }
+
+  /**
+   * Gets the codec of values.
+   */
+  public RecordCodec<V> getValueCodec() {
+    return valueCodec;
+  }
+
+  /**
+   * Encodes a key for lookup.
+   *
+   * @return  The encoded key or {@code null} when not of the key type
+   */
+  private byte[] toKey(Object key) {
+    Class<K> keyClass = keyCodec.getElementClass();
+    if (!keyClass.isInstance(key)) {
+      return null;
+    }
+    byte[] k = new byte[table.keySize];
+    keyCodec.encode(keyClass.cast(key), ByteBuffer.wrap(k), 0);
+    return k;
+  }
+
+  private V decodeValue(int slot) {
+    return valueCodec.decode(table.segment(slot), table.valueOffset(slot));
+  }
+
+  @Override
+  public int size() {
+    return table.size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return table.size == 0;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    byte[] k = toKey(key);
+    return k != null && table.find(k) >= 0;
+  }
+
+  @Override
+  public V get(Object key) {
+    return getOrDefault(key, null);
+  }
+
+  @Override
+  public V getOrDefault(Object key, V defaultValue) {
+    byte[] k = toKey(key);
+    if (k == null) {
+      return defaultValue;
+    }
+    int slot = table.find(k);
+    return (slot < 0) ? defaultValue : decodeValue(slot);
+  }
+
+  @Override
+  public V put(K key, V value) {
+    if (key == null || value == null) {
+      throw new NullPointerException();
+    }
+    int slot = table.findOrAdd(toKey(key), s -> valueCodec.encode(value, table.segment(s), table.valueOffset(s)));
+    if (slot < 0) {
+      return null;
+    }
+    V old = decodeValue(slot);
+    valueCodec.encode(value, table.segment(slot), table.valueOffset(slot));
+    return old;
+  }
+
+  @Override
+  public V remove(Object key) {
+    byte[] k = toKey(key);
+    if (k == null) {
+      return null;
+    }
+    int slot = table.find(k);
+    if (slot < 0) {
+      return null;
+    }
+    V old = decodeValue(slot);
+    table.delete(slot);
+    return old;
+  }
+
+  @Override
+  public void clear() {
+    table.clear();
+  }
+
+  @Override
+  public void forEach(BiConsumer<? super K, ? super V> action) {
+    TransformStats.iteration(keyTransformer, valueTransformer);
+    int modCount = table.modCount;
+    Mapping mapping = table.mapping;
+    MappedSegments slots = mapping.slots;
+    for (int slot = 0, capacity = mapping.capacity; slot < capacity; slot++) {
+      ByteBuffer segment = slots.segment(slot);
+      int offset = slots.offset(slot);
+      if (segment.get(offset) == FULL) {
+        action.accept(
+            keyCodec.decode(segment, offset + 1),
+            valueCodec.decode(segment, offset + 1 + table.keySize)
+        );
+        if (table.modCount != modCount) {
+          throw new ConcurrentModificationException();
+        }
+      }
+    }
+  }
+
+  /**
+   * Writes all changes to the file.
+   */
+  public void force() {
+    table.mapping.force();
+  }
+
+  /**
+   * Writes all changes to the file, then closes it.
+   */
+  @Override
+  public void close() throws IOException {
+    Mapping mapping = table.mapping;
+    if (mapping.channel.isOpen()) {
+      mapping.force();
+      mapping.channel.close();
+    }
+  }
+}
@@ -0,0 +1,245 @@
+/*
+ * ao-collections-transformers - Bi-directional collection transformations for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections-transformers.
+ *
+ * ao-collections-transformers is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections-transformers is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections-transformers.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections.transformers;
+
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * A {@link TransformCollection} that notifies {@link ChangeListener listeners} of the elements added to and removed
+ * from it.  Every bulk operation, such as {@link #addAll(java.util.Collection)},
+ * {@link #removeIf(java.util.function.Predicate)}, or {@link #clear()}, delivers all of its changes as one batch.
+ *
+ * <p>Changes are recorded from the wrapped view, so they include updates through iterators.  Changes are recorded
+ * once made, so a bulk operation that fails delivers only the changes made before failing.  Nothing is recorded
+ * while there are no listeners.  The wrapped collection must only be modified through this collection.</p>
+ *
+ * <p>Not thread-safe.  Listeners are called on the thread making the change, and may be added or removed at any
+ * time.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+public class ObservableTransformCollection<E, W> extends TransformCollection<E, W> {
+
+  /**
+   * Wraps a collection.
+   */
+  public static <E, W> ObservableTransformCollection<E, W> of(Collection<W> collection, Transformer<E, W> transformer) {
+    return (collection == null) ? null : new ObservableTransformCollection<>(collection, transformer);
+  }
+
+  /**
+   * Wraps a collection.
+   *
+   * @see  Transformer#identity()
+   */
+  public static <E> ObservableTransformCollection<E, E> of(Collection<E> collection) {
+    return of(collection, Transformer.identity());
+  }
+
+  /**
+   * The wrapped view of the caller's collection, recording each change.
+   */
+  private static final class ObservingCollection<E, W> extends AbstractCollection<W> {
+
+    private final Collection<W> collection;
+    private final Transformer<E, W> transformer;
+    private final ChangeBatcher<CollectionChange<E>> batcher = new ChangeBatcher<>();
+
+    private ObservingCollection(Collection<W> collection, Transformer<E, W> transformer) {
+      this.collection = collection;
+      this.transformer = transformer;
+    }
+
+    private void record(ChangeType type, W element) {
+      if (batcher.isObserved()) {
+        batcher.record(new CollectionChange<>(type, -1, element, null, transformer));
+      }
+    }
+
+    @Override
+    public int size() {
+      return collection.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+      return collection.isEmpty();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+      return collection.contains(o);
+    }
+
+    @Override
+    public Iterator<W> iterator() {
+      Iterator<W> iter = collection.iterator();
+      return new Iterator<W>() {
+        private W last;
+
+        @Override
+        public boolean hasNext() {
+          return iter.hasNext();
+        }
+
+        @Override
+        public W next() {
+          return last = iter.next();
+        }
+
+        @Override
+        public void remove() {
+          iter.remove();
+          record(ChangeType.REMOVED, last);
+        }
+      };
+    }
+
+    @Override
+    public boolean add(W w) {
+      boolean modified = collection.add(w);
+      if (modified) {
+        record(ChangeType.ADDED, w);
+      }
+      return modified;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean remove(Object o) {
+      boolean modified = collection.remove(o);
+      if (modified) {
+        record(ChangeType.REMOVED, (W) o);
+      }
+      return modified;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends W> c) {
+      batcher.begin();
+      try {
+        return super.addAll(c);
+      } finally {
+        batcher.end();
+      }
+    }
+
+    /**
+     * Records matches only once removed.  When the wrapped collection fails partway, the number removed is found from
+     * its size, and taken to be its first matches, as both removing in a single pass and removing after testing every
+     * element do.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super W> filter) {
+      if (!batcher.isObserved()) {
+        return collection.removeIf(filter);
+      }
+      List<W> matches = new ArrayList<>();
+      int size = collection.size();
+      batcher.begin();
+      try {
+        return collection.removeIf(w -> {
+          if (filter.test(w)) {
+            matches.add(w);
+            return true;
+          }
+          return false;
+        });
+      } finally {
+        for (int i = 0, removed = Math.min(size - collection.size(), matches.size()); i < removed; i++) {
+          record(ChangeType.REMOVED, matches.get(i));
+        }
+        batcher.end();
+      }
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+      return removeIf(c::contains);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+      return removeIf(w -> !c.contains(w));
+    }
+
+    @Override
+    public void clear() {
+      if (!batcher.isObserved()) {
+        collection.clear();
+        return;
+      }
+      List<W> removed = new ArrayList<>(collection);
+      batcher.begin();
+      try {
+        collection.clear();
+        for (W w : removed) {
+          record(ChangeType.REMOVED, w);
+        }
+      } finally {
+        batcher.end();
+      }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return collection.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+      return collection.hashCode();
+    }
+  }
+
+  private final ChangeBatcher<CollectionChange<E>> batcher;
+
+  protected ObservableTransformCollection(Collection<W> wrapped, Transformer<E, W> transformer) {
+    this(new ObservingCollection<>(wrapped, transformer), transformer);
+  }
+
+  private ObservableTransformCollection(ObservingCollection<E, W> observing, Transformer<E, W> transformer) {
+    super(observing, transformer);
+    this.batcher = observing.batcher;
+  }
+
+  /**
+   * Adds a listener, which may be added more than once.
+   */
+  public void addListener(ChangeListener<CollectionChange<E>> listener) {
+    batcher.addListener(listener);
+  }
+
+  /**
+   * Removes one occurrence of a listener, if present.
+   */
+  public void removeListener(ChangeListener<CollectionChange<E>> listener) {
+    batcher.removeListener(listener);
+  }
+}
@@ -0,0 +1,454 @@
+/*
+ * ao-collections-transformers - Bi-directional collection transformations for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections-transformers.
+ *
+ * ao-collections-transformers is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections-transformers is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections-transformers.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections.transformers;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.RandomAccess;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * A {@link TransformList} that notifies {@link ChangeListener listeners} of the elements added, removed, and replaced,
+ * with their indexes.  Every bulk operation, such as {@link #addAll(java.util.Collection)},
+ * {@link #removeIf(java.util.function.Predicate)}, {@link #replaceAll(java.util.function.UnaryOperator)},
+ * {@link #sort(java.util.Comparator)}, or {@link #clear()}, delivers all of its changes as one batch.
+ *
+ * <p>The index of each change is as of when made, so the changes of a batch apply in order: elements removed by
+ * {@link #removeIf(java.util.function.Predicate)} are reported from first to last, each index accounting for the
+ * removals before it, while {@link #clear()} reports from last to first.  A {@link #sort(java.util.Comparator)}
+ * reports the positions that changed as replacements.</p>
+ *
+ * <p>Changes are recorded from the wrapped view, so they include updates through iterators and
+ * {@linkplain #subList(int, int) sublists}, reported at their indexes in this list.  Changes are recorded once made,
+ * so a bulk operation that fails delivers only the changes made before failing.  Nothing is recorded while there are
+ * no listeners.  The wrapped list must only be modified through this list.</p>
+ *
+ * <p>Not thread-safe.  Listeners are called on the thread making the change, and may be added or removed at any
+ * time.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+public class ObservableTransformList<E, W> extends TransformList<E, W> {
+
+  /**
+   * Wraps a list.
+   */
+  public static <E, W> ObservableTransformList<E, W> of(List<W> list, Transformer<E, W> transformer) {
+    if (list == null) {
+      return null;
+    }
+    if (list instanceof RandomAccess) {
+      return new RandomAccessObservableTransformList<>(list, transformer);
+    }
+    return new ObservableTransformList<>(list, transformer);
+  }
+
+  /**
+   * Wraps a list.
+   *
+   * @see  Transformer#identity()
+   */
+  public static <E> ObservableTransformList<E, E> of(List<E> list) {
+    return of(list, Transformer.identity());
+  }
+
+  /**
+   * The wrapped view of the caller's list, recording each change.
+   */
+  private static class ObservingList<E, W> extends AbstractList<W> {
+
+    private final List<W> list;
+    private final Transformer<E, W> transformer;
+    private final ChangeBatcher<CollectionChange<E>> batcher = new ChangeBatcher<>();
+
+    private ObservingList(List<W> list, Transformer<E, W> transformer) {
+      this.list = list;
+      this.transformer = transformer;
+    }
+
+    private void record(ChangeType type, int index, W element, W oldElement) {
+      if (batcher.isObserved()) {
+        batcher.record(new CollectionChange<>(type, index, element, oldElement, transformer));
+      }
+    }
+
+    @Override
+    public int size() {
+      return list.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+      return list.isEmpty();
+    }
+
+    @Override
+    public W get(int index) {
+      return list.get(index);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+      return list.contains(o);
+    }
+
+    @Override
+    public int indexOf(Object o) {
+      return list.indexOf(o);
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+      return list.lastIndexOf(o);
+    }
+
+    @Override
+    public W set(int index, W element) {
+      W old = list.set(index, element);
+      record(ChangeType.REPLACED, index, element, old);
+      return old;
+    }
+
+    @Override
+    public void add(int index, W element) {
+      list.add(index, element);
+      record(ChangeType.ADDED, index, element, null);
+    }
+
+    @Override
+    public boolean add(W element) {
+      int index = list.size();
+      boolean modified = list.add(element);
+      if (modified) {
+        record(ChangeType.ADDED, index, element, null);
+      }
+      return modified;
+    }
+
+    @Override
+    public W remove(int index) {
+      W old = list.remove(index);
+      record(ChangeType.REMOVED, index, old, null);
+      return old;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+      int index = list.indexOf(o);
+      if (index == -1) {
+        return false;
+      }
+      remove(index);
+      return true;
+    }
+
+    @Override
+    public ListIterator<W> listIterator(int index) {
+      ListIterator<W> iter = list.listIterator(index);
+      return new ListIterator<W>() {
+        private W last;
+        private int lastIndex = -1;
+
+        @Override
+        public boolean hasNext() {
+          return iter.hasNext();
+        }
+
+        @Override
+        public W next() {
+          lastIndex = iter.nextIndex();
+          return last = iter.next();
+        }
+
+        @Override
+        public boolean hasPrevious() {
+          return iter.hasPrevious();
+        }
+
+        @Override
+        public W previous() {
+          lastIndex = iter.previousIndex();
+          return last = iter.previous();
+        }
+
+        @Override
+        public int nextIndex() {
+          return iter.nextIndex();
+        }
+
+        @Override
+        public int previousIndex() {
+          return iter.previousIndex();
+        }
+
+        @Override
+        public void remove() {
+          iter.remove();
+          record(ChangeType.REMOVED, lastIndex, last, null);
+          lastIndex = -1;
+        }
+
+        @Override
+        public void set(W e) {
+          iter.set(e);
+          record(ChangeType.REPLACED, lastIndex, e, last);
+          last = e;
+        }
+
+        @Override
+        public void add(W e) {
+          int addIndex = iter.nextIndex();
+          iter.add(e);
+          record(ChangeType.ADDED, addIndex, e, null);
+          lastIndex = -1;
+        }
+      };
+    }
+
+    @Override
+    public ListIterator<W> listIterator() {
+      return listIterator(0);
+    }
+
+    @Override
+    public Iterator<W> iterator() {
+      return listIterator(0);
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends W> c) {
+      return addAll(list.size(), c);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends W> c) {
+      List<W> added = new ArrayList<>(c);
+      batcher.begin();
+      try {
+        boolean modified = list.addAll(index, added);
+        if (modified) {
+          for (int i = 0, size = added.size(); i < size; i++) {
+            record(ChangeType.ADDED, index + i, added.get(i), null);
+          }
+        }
+        return modified;
+      } finally {
+        batcher.end();
+      }
+    }
+
+    /**
+     * Relies on the wrapped list testing its elements in order, as {@link java.util.ArrayList} and the default
+     * implementation do.  Records matches only once removed.  When the wrapped list fails partway, the number removed
+     * is found from its size, and taken to be its first matches, as both removing in a single pass and removing after
+     * testing every element do.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super W> filter) {
+      if (!batcher.isObserved()) {
+        return list.removeIf(filter);
+      }
+      List<W> matches = new ArrayList<>();
+      IntArrayList positions = new IntArrayList();
+      int size = list.size();
+      batcher.begin();
+      try {
+        return list.removeIf(new Predicate<W>() {
+          private int position;
+
+          @Override
+          public boolean test(W w) {
+            int p = position++;
+            if (filter.test(w)) {
+              matches.add(w);
+              positions.addInt(p);
+              return true;
+            }
+            return false;
+          }
+        });
+      } finally {
+        for (int i = 0, removed = Math.min(size - list.size(), matches.size()); i < removed; i++) {
+          // Each index accounts for the removals before it
+          record(ChangeType.REMOVED, positions.getInt(i) - i, matches.get(i), null);
+        }
+        batcher.end();
+      }
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+      return removeIf(c::contains);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+      return removeIf(w -> !c.contains(w));
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+      List<W> range = list.subList(fromIndex, toIndex);
+      if (!batcher.isObserved()) {
+        range.clear();
+        return;
+      }
+      List<W> removed = new ArrayList<>(range);
+      batcher.begin();
+      try {
+        range.clear();
+        for (int i = toIndex - 1; i >= fromIndex; i--) {
+          record(ChangeType.REMOVED, i, removed.get(i - fromIndex), null);
+        }
+      } finally {
+        batcher.end();
+      }
+    }
+
+    @Override
+    public void clear() {
+      removeRange(0, list.size());
+    }
+
+    /**
+     * Relies on the wrapped list replacing its elements in order, as {@link java.util.ArrayList} and the default
+     * implementation do.  Records replacements only once made.  When the wrapped list fails partway, only those
+     * replacements found in the list are recorded.
+     */
+    @Override
+    public void replaceAll(UnaryOperator<W> operator) {
+      if (!batcher.isObserved()) {
+        list.replaceAll(operator);
+        return;
+      }
+      List<W> olds = new ArrayList<>();
+      List<W> replacements = new ArrayList<>();
+      boolean completed = false;
+      batcher.begin();
+      try {
+        list.replaceAll(w -> {
+          W replacement = operator.apply(w);
+          olds.add(w);
+          replacements.add(replacement);
+          return replacement;
+        });
+        completed = true;
+      } finally {
+        for (int i = 0, size = Math.min(replacements.size(), list.size()); i < size; i++) {
+          W replacement = replacements.get(i);
+          if (completed || list.get(i) == replacement) {
+            record(ChangeType.REPLACED, i, replacement, olds.get(i));
+          }
+        }
+        batcher.end();
+      }
+    }
+
+    /**
+     * Records the positions that changed, even when the sort fails, since the wrapped list may be left partially
+     * sorted.
+     */
+    @Override
+    public void sort(Comparator<? super W> c) {
+      if (!batcher.isObserved()) {
+        list.sort(c);
+        return;
+      }
+      List<W> before = new ArrayList<>(list);
+      batcher.begin();
+      try {
+        list.sort(c);
+      } finally {
+        int i = 0;
+        for (W w : list) {
+          W old = before.get(i);
+          if (w != old) {
+            record(ChangeType.REPLACED, i, w, old);
+          }
+          i++;
+        }
+        batcher.end();
+      }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return list.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+      return list.hashCode();
+    }
+  }
+
+  private static final class RandomAccessObservingList<E, W> extends ObservingList<E, W> implements RandomAccess {
+    private RandomAccessObservingList(List<W> list, Transformer<E, W> transformer) {
+      super(list, transformer);
+    }
+  }
+
+  private final ChangeBatcher<CollectionChange<E>> batcher;
+
+  protected ObservableTransformList(List<W> wrapped, Transformer<E, W> transformer) {
+    this(
+        (wrapped instanceof RandomAccess)
+            ? new RandomAccessObservingList<>(wrapped, transformer)
+            : new ObservingList<>(wrapped, transformer),
+        transformer
+    );
+  }
+
+  private ObservableTransformList(ObservingList<E, W> observing, Transformer<E, W> transformer) {
+    super(observing, transformer);
+    this.batcher = observing.batcher;
+  }
+
+  /**
+   * Adds a listener, which may be added more than once.
+   */
+  public void addListener(ChangeListener<CollectionChange<E>> listener) {
+    batcher.addListener(listener);
+  }
+
+  /**
+   * Removes one occurrence of a listener, if present.
+   */
+  public void removeListener(ChangeListener<CollectionChange<E>> listener) {
+    batcher.removeListener(listener);
+  }
+
+  private static final class RandomAccessObservableTransformList<E, W> extends ObservableTransformList<E, W>
+      implements RandomAccess {
+    private RandomAccessObservableTransformList(List<W> wrapped, Transformer<E, W> transformer) {
+      super(wrapped, transformer);
+    }
+  }
+}
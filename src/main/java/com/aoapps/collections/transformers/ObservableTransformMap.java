@@ -0,0 +1,634 @@
+/*
+ * ao-collections-transformers - Bi-directional collection transformations for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections-transformers.
+ *
+ * ao-collections-transformers is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections-transformers is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections-transformers.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections.transformers;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A {@link TransformMap} that notifies {@link ChangeListener listeners} of the entries added, removed, and replaced,
+ * with their keys.  Every bulk operation, such as {@link #putAll(java.util.Map)},
+ * {@link #replaceAll(java.util.function.BiFunction)}, {@link #clear()}, or a
+ * {@link java.util.Collection#removeIf(java.util.function.Predicate)} on any of its views, delivers all of its changes
+ * as one batch.
+ *
+ * <p>Changes are recorded from the wrapped view, so they include updates through the key set, values, entry set, and
+ * their iterators.  Changes are recorded once made, so a bulk operation that fails delivers only the changes made
+ * before failing.  Nothing is recorded while there are no listeners.  The wrapped map must only be modified through
+ * this map.</p>
+ *
+ * <p>Not thread-safe.  Listeners are called on the thread making the change, and may be added or removed at any
+ * time.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+public class ObservableTransformMap<K, V, KW, VW> extends TransformMap<K, V, KW, VW> {
+
+  /**
+   * Wraps a map.
+   */
+  public static <K, V, KW, VW> ObservableTransformMap<K, V, KW, VW> of(
+      Map<KW, VW> map,
+      Transformer<K, KW> keyTransformer,
+      Transformer<V, VW> valueTransformer
+  ) {
+    return (map == null) ? null : new ObservableTransformMap<>(map, keyTransformer, valueTransformer);
+  }
+
+  /**
+   * Wraps a map.
+   *
+   * @see  Transformer#identity()
+   */
+  public static <K, V> ObservableTransformMap<K, V, K, V> of(Map<K, V> map) {
+    return of(map, Transformer.identity(), Transformer.identity());
+  }
+
+  /**
+   * Creates a new, empty {@link HashMap}.
+   *
+   * @see  Transformer#identity()
+   */
+  public static <K, V> ObservableTransformMap<K, V, K, V> of() {
+    return of(new HashMap<>());
+  }
+
+  /**
+   * The wrapped view of the caller's map, recording each change.
+   */
+  private static final class ObservingMap<K, V, KW, VW> extends AbstractMap<KW, VW> {
+
+    private final Map<KW, VW> map;
+    private final Transformer<K, KW> keyTransformer;
+    private final Transformer<V, VW> valueTransformer;
+    private final ChangeBatcher<MapChange<K, V>> batcher = new ChangeBatcher<>();
+
+    private ObservingMap(Map<KW, VW> map, Transformer<K, KW> keyTransformer, Transformer<V, VW> valueTransformer) {
+      this.map = map;
+      this.keyTransformer = keyTransformer;
+      this.valueTransformer = valueTransformer;
+    }
+
+    private void record(ChangeType type, KW key, VW value, VW oldValue) {
+      if (batcher.isObserved()) {
+        batcher.record(new MapChange<>(type, key, value, oldValue, keyTransformer, valueTransformer));
+      }
+    }
+
+    /**
+     * Records the change made by a remapping function, where {@code null} is absent.
+     */
+    private void recordRemapping(KW key, VW oldValue, VW newValue) {
+      if (oldValue == null) {
+        if (newValue != null) {
+          record(ChangeType.ADDED, key, newValue, null);
+        }
+      } else if (newValue == null) {
+        record(ChangeType.REMOVED, key, oldValue, null);
+      } else if (newValue != oldValue) {
+        record(ChangeType.REPLACED, key, newValue, oldValue);
+      }
+    }
+
+    @Override
+    public int size() {
+      return map.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+      return map.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+      return map.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+      return map.containsValue(value);
+    }
+
+    @Override
+    public VW get(Object key) {
+      return map.get(key);
+    }
+
+    @Override
+    public VW getOrDefault(Object key, VW defaultValue) {
+      return map.getOrDefault(key, defaultValue);
+    }
+
+    @Override
+    public VW put(KW key, VW value) {
+      boolean replacing = batcher.isObserved() && map.containsKey(key);
+      VW old = map.put(key, value);
+      record(replacing ? ChangeType.REPLACED : ChangeType.ADDED, key, value, old);
+      return old;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public VW remove(Object key) {
+      if (!batcher.isObserved()) {
+        return map.remove(key);
+      }
+      if (!map.containsKey(key)) {
+        return null;
+      }
+      VW old = map.remove(key);
+      record(ChangeType.REMOVED, (KW) key, old, null);
+      return old;
+    }
+
+    @Override
+    public void putAll(Map<? extends KW, ? extends VW> m) {
+      batcher.begin();
+      try {
+        super.putAll(m);
+      } finally {
+        batcher.end();
+      }
+    }
+
+    @Override
+    public void clear() {
+      if (!batcher.isObserved()) {
+        map.clear();
+        return;
+      }
+      int size = map.size();
+      List<KW> keys = new ArrayList<>(size);
+      List<VW> values = new ArrayList<>(size);
+      for (Map.Entry<KW, VW> entry : map.entrySet()) {
+        keys.add(entry.getKey());
+        values.add(entry.getValue());
+      }
+      batcher.begin();
+      try {
+        map.clear();
+        for (int i = 0; i < size; i++) {
+          record(ChangeType.REMOVED, keys.get(i), values.get(i), null);
+        }
+      } finally {
+        batcher.end();
+      }
+    }
+
+    /**
+     * Records replacements only once made.  When the wrapped map fails partway, only those replacements found in the
+     * map are recorded.
+     */
+    @Override
+    public void replaceAll(BiFunction<? super KW, ? super VW, ? extends VW> function) {
+      if (!batcher.isObserved()) {
+        map.replaceAll(function);
+        return;
+      }
+      List<KW> keys = new ArrayList<>();
+      List<VW> olds = new ArrayList<>();
+      List<VW> replacements = new ArrayList<>();
+      boolean completed = false;
+      batcher.begin();
+      try {
+        map.replaceAll((k, v) -> {
+          VW replacement = function.apply(k, v);
+          keys.add(k);
+          olds.add(v);
+          replacements.add(replacement);
+          return replacement;
+        });
+        completed = true;
+      } finally {
+        for (int i = 0, size = keys.size(); i < size; i++) {
+          KW key = keys.get(i);
+          VW replacement = replacements.get(i);
+          if (completed || (map.get(key) == replacement && map.containsKey(key))) {
+            record(ChangeType.REPLACED, key, replacement, olds.get(i));
+          }
+        }
+        batcher.end();
+      }
+    }
+
+    /**
+     * The change made by a remapping function, recorded only once the wrapped map has returned.
+     */
+    private final class Remapping {
+      private boolean called;
+      private KW key;
+      private VW oldValue;
+      private VW newValue;
+
+      /**
+       * Remembers the latest call, since some maps may call the function again on retry.
+       */
+      private VW remapped(KW key, VW oldValue, VW newValue) {
+        this.called = true;
+        this.key = key;
+        this.oldValue = oldValue;
+        this.newValue = newValue;
+        return newValue;
+      }
+
+      private void record() {
+        if (called) {
+          recordRemapping(key, oldValue, newValue);
+        }
+      }
+    }
+
+    // The remapping methods use those of the wrapped map, recording after they return.
+
+    @Override
+    public VW computeIfAbsent(KW key, Function<? super KW, ? extends VW> mappingFunction) {
+      Remapping remapping = new Remapping();
+      VW result = map.computeIfAbsent(key, k -> remapping.remapped(k, null, mappingFunction.apply(k)));
+      remapping.record();
+      return result;
+    }
+
+    @Override
+    public VW computeIfPresent(KW key, BiFunction<? super KW, ? super VW, ? extends VW> remappingFunction) {
+      Remapping remapping = new Remapping();
+      VW result = map.computeIfPresent(key, (k, v) -> remapping.remapped(k, v, remappingFunction.apply(k, v)));
+      remapping.record();
+      return result;
+    }
+
+    @Override
+    public VW compute(KW key, BiFunction<? super KW, ? super VW, ? extends VW> remappingFunction) {
+      Remapping remapping = new Remapping();
+      VW result = map.compute(key, (k, v) -> remapping.remapped(k, v, remappingFunction.apply(k, v)));
+      remapping.record();
+      return result;
+    }
+
+    @Override
+    public VW merge(KW key, VW value, BiFunction<? super VW, ? super VW, ? extends VW> remappingFunction) {
+      Remapping remapping = new Remapping();
+      VW result = map.merge(key, value, (v1, v2) -> remapping.remapped(key, v1, remappingFunction.apply(v1, v2)));
+      if (remapping.called) {
+        remapping.record();
+      } else {
+        record(ChangeType.ADDED, key, value, null);
+      }
+      return result;
+    }
+
+    /**
+     * Iterates the entries of the wrapped map, recording removals and the values set.
+     */
+    private Iterator<Map.Entry<KW, VW>> entryIterator() {
+      Iterator<Map.Entry<KW, VW>> iter = map.entrySet().iterator();
+      return new Iterator<Map.Entry<KW, VW>>() {
+        private Map.Entry<KW, VW> last;
+
+        @Override
+        public boolean hasNext() {
+          return iter.hasNext();
+        }
+
+        @Override
+        public Map.Entry<KW, VW> next() {
+          Map.Entry<KW, VW> entry = iter.next();
+          last = entry;
+          return new Map.Entry<KW, VW>() {
+            @Override
+            public KW getKey() {
+              return entry.getKey();
+            }
+
+            @Override
+            public VW getValue() {
+              return entry.getValue();
+            }
+
+            @Override
+            public VW setValue(VW value) {
+              VW old = entry.setValue(value);
+              record(ChangeType.REPLACED, entry.getKey(), value, old);
+              return old;
+            }
+
+            @Override
+            public boolean equals(Object o) {
+              return entry.equals(o);
+            }
+
+            @Override
+            public int hashCode() {
+              return entry.hashCode();
+            }
+
+            @Override
+            public String toString() {
+              return entry.toString();
+            }
+          };
+        }
+
+        @Override
+        public void remove() {
+          // Read before removal, since some entries do not survive it
+          KW key = last.getKey();
+          VW value = last.getValue();
+          iter.remove();
+          record(ChangeType.REMOVED, key, value, null);
+        }
+      };
+    }
+
+    /**
+     * Removes the entries matching the filter as one batch.
+     */
+    private boolean removeEntriesIf(Predicate<? super Map.Entry<KW, VW>> filter) {
+      batcher.begin();
+      try {
+        boolean modified = false;
+        for (Iterator<Map.Entry<KW, VW>> iter = entryIterator(); iter.hasNext(); ) {
+          if (filter.test(iter.next())) {
+            iter.remove();
+            modified = true;
+          }
+        }
+        return modified;
+      } finally {
+        batcher.end();
+      }
+    }
+
+    private Set<KW> keySet;
+
+    @Override
+    @SuppressWarnings("ReturnOfCollectionOrArrayField")
+    public Set<KW> keySet() {
+      Set<KW> ks = keySet;
+      if (ks == null) {
+        ks = new AbstractSet<KW>() {
+          @Override
+          public int size() {
+            return map.size();
+          }
+
+          @Override
+          public boolean contains(Object o) {
+            return map.containsKey(o);
+          }
+
+          @Override
+          public Iterator<KW> iterator() {
+            Iterator<Map.Entry<KW, VW>> iter = entryIterator();
+            return new Iterator<KW>() {
+              @Override
+              public boolean hasNext() {
+                return iter.hasNext();
+              }
+
+              @Override
+              public KW next() {
+                return iter.next().getKey();
+              }
+
+              @Override
+              public void remove() {
+                iter.remove();
+              }
+            };
+          }
+
+          @Override
+          public boolean remove(Object o) {
+            if (map.containsKey(o)) {
+              ObservingMap.this.remove(o);
+              return true;
+            }
+            return false;
+          }
+
+          @Override
+          public boolean removeIf(Predicate<? super KW> filter) {
+            return removeEntriesIf(entry -> filter.test(entry.getKey()));
+          }
+
+          @Override
+          public boolean removeAll(Collection<?> c) {
+            return removeIf(c::contains);
+          }
+
+          @Override
+          public boolean retainAll(Collection<?> c) {
+            return removeIf(k -> !c.contains(k));
+          }
+
+          @Override
+          public void clear() {
+            ObservingMap.this.clear();
+          }
+        };
+        keySet = ks;
+      }
+      return ks;
+    }
+
+    private Collection<VW> values;
+
+    @Override
+    @SuppressWarnings("ReturnOfCollectionOrArrayField")
+    public Collection<VW> values() {
+      Collection<VW> vs = values;
+      if (vs == null) {
+        vs = new AbstractCollection<VW>() {
+          @Override
+          public int size() {
+            return map.size();
+          }
+
+          @Override
+          public boolean contains(Object o) {
+            return map.containsValue(o);
+          }
+
+          @Override
+          public Iterator<VW> iterator() {
+            Iterator<Map.Entry<KW, VW>> iter = entryIterator();
+            return new Iterator<VW>() {
+              @Override
+              public boolean hasNext() {
+                return iter.hasNext();
+              }
+
+              @Override
+              public VW next() {
+                return iter.next().getValue();
+              }
+
+              @Override
+              public void remove() {
+                iter.remove();
+              }
+            };
+          }
+
+          @Override
+          public boolean removeIf(Predicate<? super VW> filter) {
+            return removeEntriesIf(entry -> filter.test(entry.getValue()));
+          }
+
+          @Override
+          public boolean removeAll(Collection<?> c) {
+            return removeIf(c::contains);
+          }
+
+          @Override
+          public boolean retainAll(Collection<?> c) {
+            return removeIf(v -> !c.contains(v));
+          }
+
+          @Override
+          public void clear() {
+            ObservingMap.this.clear();
+          }
+        };
+        values = vs;
+      }
+      return vs;
+    }
+
+    private Set<Map.Entry<KW, VW>> entrySet;
+
+    @Override
+    @SuppressWarnings("ReturnOfCollectionOrArrayField")
+    public Set<Map.Entry<KW, VW>> entrySet() {
+      Set<Map.Entry<KW, VW>> es = entrySet;
+      if (es == null) {
+        es = new AbstractSet<Map.Entry<KW, VW>>() {
+          @Override
+          public int size() {
+            return map.size();
+          }
+
+          @Override
+          public boolean contains(Object o) {
+            return map.entrySet().contains(o);
+          }
+
+          @Override
+          public Iterator<Map.Entry<KW, VW>> iterator() {
+            return entryIterator();
+          }
+
+          @Override
+          public boolean remove(Object o) {
+            if (o instanceof Map.Entry) {
+              Map.Entry<?, ?> entry = (Map.Entry<?, ?>) o;
+              return ObservingMap.this.remove(entry.getKey(), entry.getValue());
+            }
+            return false;
+          }
+
+          @Override
+          public boolean removeIf(Predicate<? super Map.Entry<KW, VW>> filter) {
+            return removeEntriesIf(filter);
+          }
+
+          @Override
+          public boolean removeAll(Collection<?> c) {
+            return removeIf(c::contains);
+          }
+
+          @Override
+          public boolean retainAll(Collection<?> c) {
+            return removeIf(entry -> !c.contains(entry));
+          }
+
+          @Override
+          public void clear() {
+            ObservingMap.this.clear();
+          }
+        };
+        entrySet = es;
+      }
+      return es;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return map.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+      return map.hashCode();
+    }
+  }
+
+  private final ChangeBatcher<MapChange<K, V>> batcher;
+
+  protected ObservableTransformMap(Map<KW, VW> wrapped, Transformer<K, KW> keyTransformer, Transformer<V, VW> valueTransformer) {
+    this(new ObservingMap<>(wrapped, keyTransformer, valueTransformer), keyTransformer, valueTransformer);
+  }
+
+  private ObservableTransformMap(
+      ObservingMap<K, V, KW, VW> observing,
+      Transformer<K, KW> keyTransformer,
+      Transformer<V, VW> valueTransformer
+  ) {
+    super(observing, keyTransformer, valueTransformer);
+    this.batcher = observing.batcher;
+  }
+
+  /**
+   * Adds a listener, which may be added more than once.
+   */
+  public void addListener(ChangeListener<MapChange<K, V>> listener) {
+    batcher.addListener(listener);
+  }
+
+  /**
+   * Adds a listener, called before all others.
+   */
+  void addFirstListener(ChangeListener<MapChange<K, V>> listener) {
+    batcher.addFirstListener(listener);
+  }
+
+  /**
+   * Removes one occurrence of a listener, if present.
+   */
+  public void removeListener(ChangeListener<MapChange<K, V>> listener) {
+    batcher.removeListener(listener);
+  }
+}
@@ -0,0 +1,300 @@
+/*
+ * ao-collections-transformers - Bi-directional collection transformations for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections-transformers.
+ *
+ * ao-collections-transformers is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections-transformers is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections-transformers.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections.transformers;
+
+import java.nio.ByteBuffer;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+
+/**
+ * A list storing its elements off-heap as fixed-width records in direct {@link ByteBuffer} segments, encoded by a
+ * {@link RecordCodec}.  Elements only exist on-heap while being accessed, which keeps very large collections of small
+ * values out of the garbage-collected heap.
+ *
+ * <p>Element access decodes from, and encodes to, the record in place.  Equality of elements, as used by
+ * {@link #indexOf(java.lang.Object)}, {@link #contains(java.lang.Object)}, and {@link #remove(java.lang.Object)}, is by
+ * their encoded bytes.  Adding or removing other than at the end moves the following records.</p>
+ *
+ * <p>The first segment starts small and doubles up to 16 MiB, after which full segments are added, so many small
+ * lists do not exhaust direct memory.</p>
+ *
+ * <p>The wrapped list is of views of each record, converted by a {@link RecordTransformer}.</p>
+ *
+ * <p>Not thread-safe.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+public class OffHeapTransformList<E> extends TransformList<E, ByteBuffer> implements RandomAccess {
+
+  /**
+   * Segments of direct buffers.
+   */
+  private static final class DirectSegments extends RecordSegments {
+    private DirectSegments(int recordSize, int maxSegmentBytes) {
+      super(recordSize, maxSegmentBytes);
+    }
+
+    @Override
+    ByteBuffer allocate(int segment, int bytes) {
+      return ByteBuffer.allocateDirect(bytes);
+    }
+  }
+
+  /**
+   * Creates an empty list.
+   */
+  public static <E> OffHeapTransformList<E> of(RecordCodec<E> codec) {
+    return new OffHeapTransformList<>(
+        new RecordList<>(codec, new DirectSegments(codec.getRecordSize(), RecordSegments.DEFAULT_MAX_SEGMENT_BYTES), 0)
+    );
+  }
+
+  private final RecordList<E> records;
+
+  OffHeapTransformList(RecordList<E> records) {
+    super(records, new RecordTransformer<>(records.codec));
+    this.records = records;
+  }
+
+  /**
+   * Gets the codec of records.
+   */
+  public RecordCodec<E> getCodec() {
+    return records.codec;
+  }
+
+  @Override
+  public int size() {
+    return records.size();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return records.size() == 0;
+  }
+
+  @Override
+  public E get(int index) {
+    return records.decode(index);
+  }
+
+  @Override
+  public E set(int index, E element) {
+    E old = records.decode(index);
+    records.encode(index, element);
+    return old;
+  }
+
+  @Override
+  public boolean add(E e) {
+    add(records.size(), e);
+    return true;
+  }
+
+  @Override
+  public void add(int index, E element) {
+    records.insert(index, i -> records.encode(i, element));
+  }
+
+  @Override
+  public E remove(int index) {
+    E old = records.decode(index);
+    records.delete(index);
+    return old;
+  }
+
+  @Override
+  public boolean remove(Object o) {
+    int index = records.indexOf(records.toRecord(o));
+    if (index == -1) {
+      return false;
+    }
+    records.delete(index);
+    return true;
+  }
+
+  @Override
+  public int indexOf(Object o) {
+    return records.indexOf(records.toRecord(o));
+  }
+
+  @Override
+  public int lastIndexOf(Object o) {
+    return records.lastIndexOf(records.toRecord(o));
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    return indexOf(o) != -1;
+  }
+
+  @Override
+  public void clear() {
+    records.clear();
+  }
+
+  @Override
+  public void forEach(Consumer<? super E> action) {
+    TransformStats.iteration(transformer);
+    int modCount = records.getModCount();
+    int size = records.size();
+    for (int i = 0; i < size; i++) {
+      action.accept(records.decode(i));
+      if (records.getModCount() != modCount) {
+        throw new ConcurrentModificationException();
+      }
+    }
+  }
+
+  @Override
+  public Object[] toArray() {
+    TransformStats.iteration(transformer);
+    Object[] array = new Object[records.size()];
+    for (int i = 0; i < array.length; i++) {
+      array[i] = records.decode(i);
+    }
+    return array;
+  }
+
+  /**
+   * Iterates by index, decoding in place.
+   */
+  private final class RecordIterator extends TransformListIterator<E, ByteBuffer> {
+    private int cursor;
+    private int lastRet = -1;
+    private int expectedModCount = records.getModCount();
+
+    private RecordIterator(int index) {
+      super(null, OffHeapTransformList.this.transformer);
+      if (index < 0 || index > records.size()) {
+        throw new IndexOutOfBoundsException("Index: " + index);
+      }
+      this.cursor = index;
+    }
+
+    private void checkForComodification() throws ConcurrentModificationException {
+      if (records.getModCount() != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      return cursor < records.size();
+    }
+
+    @Override
+    public E next() throws NoSuchElementException {
+      checkForComodification();
+      if (cursor >= records.size()) {
+        throw new NoSuchElementException();
+      }
+      E e = records.decode(cursor);
+      lastRet = cursor++;
+      return e;
+    }
+
+    @Override
+    public boolean hasPrevious() {
+      return cursor > 0;
+    }
+
+    @Override
+    public E previous() throws NoSuchElementException {
+      checkForComodification();
+      if (cursor <= 0) {
+        throw new NoSuchElementException();
+      }
+      E e = records.decode(cursor - 1);
+      lastRet = --cursor;
+      return e;
+    }
+
+    @Override
+    public int nextIndex() {
+      return cursor;
+    }
+
+    @Override
+    public int previousIndex() {
+      return cursor - 1;
+    }
+
+    @Override
+    public void remove() throws IllegalStateException {
+      if (lastRet == -1) {
+        throw new IllegalStateException();
+      }
+      checkForComodification();
+      records.delete(lastRet);
+      cursor = lastRet;
+      lastRet = -1;
+      expectedModCount = records.getModCount();
+    }
+
+    @Override
+    public void set(E e) throws IllegalStateException {
+      if (lastRet == -1) {
+        throw new IllegalStateException();
+      }
+      checkForComodification();
+      records.encode(lastRet, e);
+    }
+
+    @Override
+    public void add(E e) {
+      checkForComodification();
+      OffHeapTransformList.this.add(cursor++, e);
+      lastRet = -1;
+      expectedModCount = records.getModCount();
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super E> action) {
+      while (hasNext()) {
+        action.accept(next());
+      }
+    }
+  }
+
+  @Override
+  public TransformListIterator<E, ByteBuffer> iterator() {
+    TransformStats.iteration(transformer);
+    return new RecordIterator(0);
+  }
+
+  @Override
+  public TransformListIterator<E, ByteBuffer> listIterator() {
+    TransformStats.iteration(transformer);
+    return new RecordIterator(0);
+  }
+
+  @Override
+  public TransformListIterator<E, ByteBuffer> listIterator(int index) {
+    TransformStats.iteration(transformer);
+    return new RecordIterator(index);
+  }
+}
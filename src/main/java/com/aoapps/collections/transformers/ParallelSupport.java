@@ -0,0 +1,214 @@
+/*
+ * ao-collections-transformers - Bi-directional collection transformations for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections-transformers.
+ *
+ * ao-collections-transformers is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections-transformers is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections-transformers.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections.transformers;
+
+import java.util.ConcurrentModificationException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * Fork/join support for the parallel bulk operations of views.
+ *
+ * @author  AO Industries, Inc.
+ */
+final class ParallelSupport {
+
+  /** Make no instances. */
+  private ParallelSupport() {
+    throw new AssertionError();
+  }
+
+  /**
+   * The default maximum number of elements processed by a single task.
+   */
+  static final int DEFAULT_THRESHOLD = 4096;
+
+  /**
+   * Checks a threshold argument.
+   *
+   * @throws  IllegalArgumentException  when {@code threshold < 1}
+   */
+  static int checkThreshold(int threshold) throws IllegalArgumentException {
+    if (threshold < 1) {
+      throw new IllegalArgumentException("threshold < 1: " + threshold);
+    }
+    return threshold;
+  }
+
+  /**
+   * Processes a range of indexes.
+   */
+  @FunctionalInterface
+  interface IndexRange {
+    void run(int from, int to);
+  }
+
+  /**
+   * Splits a range of indexes in half until no more than the threshold.
+   */
+  private static final class IndexRangeAction extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final transient IndexRange range;
+    private final int from;
+    private final int to;
+    private final int threshold;
+
+    private IndexRangeAction(IndexRange range, int from, int to, int threshold) {
+      this.range = range;
+      this.from = from;
+      this.to = to;
+      this.threshold = threshold;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= threshold) {
+        range.run(from, to);
+      } else {
+        int mid = (from + to) >>> 1;
+        invokeAll(
+            new IndexRangeAction(range, from, mid, threshold),
+            new IndexRangeAction(range, mid, to, threshold)
+        );
+      }
+    }
+  }
+
+  /**
+   * Runs the given range of indexes {@code [0, size)} in the given pool, waiting for completion.
+   */
+  static void forEachIndex(ForkJoinPool pool, int size, int threshold, IndexRange range) {
+    pool.invoke(new IndexRangeAction(range, 0, size, threshold));
+  }
+
+  /**
+   * Splits a spliterator until its estimated size is no more than the threshold.
+   */
+  private static final class SpliteratorAction<T> extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final transient Spliterator<T> spliterator;
+    private final int threshold;
+    private final transient Consumer<? super T> action;
+
+    private SpliteratorAction(Spliterator<T> spliterator, int threshold, Consumer<? super T> action) {
+      this.spliterator = spliterator;
+      this.threshold = threshold;
+      this.action = action;
+    }
+
+    @Override
+    protected void compute() {
+      Spliterator<T> prefix;
+      if (spliterator.estimateSize() > threshold && (prefix = spliterator.trySplit()) != null) {
+        invokeAll(
+            new SpliteratorAction<>(prefix, threshold, action),
+            new SpliteratorAction<>(spliterator, threshold, action)
+        );
+      } else {
+        spliterator.forEachRemaining(action);
+      }
+    }
+  }
+
+  /**
+   * Performs the action for each element of the given spliterator in the given pool, waiting for completion.
+   */
+  static <T> void forEach(ForkJoinPool pool, Spliterator<T> spliterator, int threshold, Consumer<? super T> action) {
+    pool.invoke(new SpliteratorAction<>(spliterator, threshold, action));
+  }
+
+  /**
+   * Replaces map values, in iteration order, with precomputed results, verifying the keys are unchanged.  Keys are
+   * compared by {@link Objects#equals(java.lang.Object, java.lang.Object)}, since maps may return new key objects on
+   * each iteration, such as boxed primitive keys or keys converted by another view.
+   */
+  static final class ValueReplacements<KW, VW> implements BiFunction<KW, VW, VW> {
+    private final Object[] keys;
+    private final Object[] results;
+    private int next;
+
+    ValueReplacements(Object[] keys, Object[] results) {
+      this.keys = keys;
+      this.results = results;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public VW apply(KW kw, VW vw) throws ConcurrentModificationException {
+      if (next >= keys.length || !Objects.equals(keys[next], kw)) {
+        throw new ConcurrentModificationException();
+      }
+      return (VW) results[next++];
+    }
+  }
+
+  /**
+   * Replaces elements, in order, with precomputed results.
+   */
+  static final class Replacements<W> implements UnaryOperator<W> {
+    private final Object[] results;
+    private int next;
+
+    Replacements(Object[] results) {
+      this.results = results;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public W apply(W w) throws ConcurrentModificationException {
+      if (next >= results.length) {
+        throw new ConcurrentModificationException();
+      }
+      return (W) results[next++];
+    }
+  }
+
+  /**
+   * Removes elements, in order, by precomputed results.
+   */
+  static final class Removals<W> implements Predicate<W> {
+    private final boolean[] results;
+    private int next;
+
+    Removals(boolean[] results) {
+      this.results = results;
+    }
+
+    @Override
+    public boolean test(W w) throws ConcurrentModificationException {
+      if (next >= results.length) {
+        throw new ConcurrentModificationException();
+      }
+      return results[next++];
+    }
+  }
+}
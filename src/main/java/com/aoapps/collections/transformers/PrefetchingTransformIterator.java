@@ -0,0 +1,282 @@
+/*
+ * ao-collections-transformers - Bi-directional collection transformations for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections-transformers.
+ *
+ * ao-collections-transformers is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections-transformers is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections-transformers.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections.transformers;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
+/**
+ * Wraps an {@link Iterator}, converting ahead of the consumer in chunks on an {@link Executor}.
+ * This overlaps expensive {@link Transformer#fromWrapped(java.lang.Object)} conversions with the processing of
+ * already converted elements.
+ *
+ * <p>The wrapped iterator is only accessed by the thread calling this iterator.  Up to {@code chunkSize} elements are
+ * read from it at a time, and up to {@code lookAhead} chunks are converted in the background beyond the chunk
+ * currently being consumed.  Since chunks may convert concurrently, the transformer must be thread-safe.</p>
+ *
+ * <p>{@link #remove()} is supported only when the wrapped iterator is a {@link ListIterator}, by stepping back over
+ * the elements read ahead, since elements are almost always read ahead of the element being removed.  Use
+ * {@link #of(java.util.ListIterator, com.aoapps.collections.transformers.Transformer)} when removal is required.
+ * For other iterators, {@link #remove()} always throws {@link UnsupportedOperationException}.</p>
+ *
+ * <p>Not thread-safe: like any iterator, it must be used by one thread at a time.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+public class PrefetchingTransformIterator<E, W> extends TransformIterator<E, W> {
+
+  /**
+   * The default number of elements per chunk.
+   */
+  public static final int DEFAULT_CHUNK_SIZE = 256;
+
+  /**
+   * The default number of chunks converted ahead of the chunk being consumed.
+   */
+  public static final int DEFAULT_LOOK_AHEAD = 2;
+
+  /**
+   * Wraps an iterator.
+   *
+   * @param  chunkSize  The number of elements per chunk, at least one
+   * @param  lookAhead  The number of chunks converted ahead of the chunk being consumed, at least one
+   * @param  executor  Performs the conversions
+   *
+   * @throws  IllegalArgumentException  when {@code chunkSize < 1} or {@code lookAhead < 1}
+   */
+  public static <E, W> PrefetchingTransformIterator<E, W> of(
+      Iterator<W> iterator,
+      Transformer<E, W> transformer,
+      int chunkSize,
+      int lookAhead,
+      Executor executor
+  ) throws IllegalArgumentException {
+    return (iterator == null) ? null : new PrefetchingTransformIterator<>(iterator, transformer, chunkSize, lookAhead, executor);
+  }
+
+  /**
+   * Wraps an iterator, converting {@link #DEFAULT_LOOK_AHEAD} chunks of {@link #DEFAULT_CHUNK_SIZE} elements ahead
+   * in the {@linkplain ForkJoinPool#commonPool() common pool}.
+   *
+   * @see  #of(java.util.Iterator, com.aoapps.collections.transformers.Transformer, int, int, java.util.concurrent.Executor)
+   */
+  public static <E, W> PrefetchingTransformIterator<E, W> of(Iterator<W> iterator, Transformer<E, W> transformer) {
+    return of(iterator, transformer, DEFAULT_CHUNK_SIZE, DEFAULT_LOOK_AHEAD, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Wraps a list iterator, supporting {@link #remove()}.
+   *
+   * @see  #of(java.util.Iterator, com.aoapps.collections.transformers.Transformer, int, int, java.util.concurrent.Executor)
+   */
+  public static <E, W> PrefetchingTransformIterator<E, W> of(
+      ListIterator<W> iterator,
+      Transformer<E, W> transformer,
+      int chunkSize,
+      int lookAhead,
+      Executor executor
+  ) throws IllegalArgumentException {
+    return of((Iterator<W>) iterator, transformer, chunkSize, lookAhead, executor);
+  }
+
+  /**
+   * Wraps a list iterator, supporting {@link #remove()}, converting {@link #DEFAULT_LOOK_AHEAD} chunks of
+   * {@link #DEFAULT_CHUNK_SIZE} elements ahead in the {@linkplain ForkJoinPool#commonPool() common pool}.
+   *
+   * @see  #of(java.util.ListIterator, com.aoapps.collections.transformers.Transformer, int, int, java.util.concurrent.Executor)
+   */
+  public static <E, W> PrefetchingTransformIterator<E, W> of(ListIterator<W> iterator, Transformer<E, W> transformer) {
+    return of(iterator, transformer, DEFAULT_CHUNK_SIZE, DEFAULT_LOOK_AHEAD, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * A chunk being converted.
+   */
+  private static final class Chunk {
+    private final int size;
+    private final CompletableFuture<Object[]> converted;
+
+    private Chunk(int size, CompletableFuture<Object[]> converted) {
+      this.size = size;
+      this.converted = converted;
+    }
+  }
+
+  private final int chunkSize;
+  private final int lookAhead;
+  private final Executor executor;
+  private final ArrayDeque<Chunk> pending;
+
+  /**
+   * The number of elements in {@link #pending}.
+   */
+  private int pendingSize;
+
+  private Object[] current;
+  private int currentIndex;
+  private boolean canRemove;
+
+  protected PrefetchingTransformIterator(
+      Iterator<W> wrapped,
+      Transformer<E, W> transformer,
+      int chunkSize,
+      int lookAhead,
+      Executor executor
+  ) throws IllegalArgumentException {
+    super(wrapped, transformer);
+    if (chunkSize < 1) {
+      throw new IllegalArgumentException("chunkSize < 1: " + chunkSize);
+    }
+    if (lookAhead < 1) {
+      throw new IllegalArgumentException("lookAhead < 1: " + lookAhead);
+    }
+    this.chunkSize = chunkSize;
+    this.lookAhead = lookAhead;
+    this.executor = executor;
+    this.pending = new ArrayDeque<>(lookAhead + 1);
+  }
+
+  /**
+   * Reads chunks from the wrapped iterator and starts their conversion, until {@code lookAhead} chunks are pending.
+   */
+  private void fill() {
+    Iterator<W> wrapped = getWrapped();
+    while (pending.size() < lookAhead && wrapped.hasNext()) {
+      Object[] chunk = new Object[chunkSize];
+      int size = 0;
+      while (size < chunkSize && wrapped.hasNext()) {
+        chunk[size++] = wrapped.next();
+      }
+      Object[] ws = (size == chunkSize) ? chunk : Arrays.copyOf(chunk, size);
+      pending.add(new Chunk(size, CompletableFuture.supplyAsync(() -> convert(ws), executor)));
+      pendingSize += size;
+    }
+  }
+
+  /**
+   * Converts a chunk in-place.
+   */
+  private Object[] convert(Object[] chunk) {
+    for (int i = 0; i < chunk.length; i++) {
+      @SuppressWarnings("unchecked")
+      W w = (W) chunk[i];
+      chunk[i] = transformer.fromWrapped(w);
+    }
+    return chunk;
+  }
+
+  /**
+   * Makes the next pending chunk current, waiting for its conversion.
+   *
+   * @return  {@code false} when there are no more elements
+   */
+  private boolean advance() {
+    fill();
+    Chunk chunk = pending.poll();
+    if (chunk == null) {
+      return false;
+    }
+    pendingSize -= chunk.size;
+    Object[] converted;
+    try {
+      converted = chunk.converted.join();
+    } catch (CompletionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw e;
+    }
+    current = converted;
+    currentIndex = 0;
+    // Keep converting ahead while the current chunk is consumed
+    fill();
+    return true;
+  }
+
+  @Override
+  public boolean hasNext() {
+    return (current != null && currentIndex < current.length)
+        || !pending.isEmpty()
+        || getWrapped().hasNext();
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public E next() throws NoSuchElementException {
+    if ((current == null || currentIndex == current.length) && !advance()) {
+      throw new NoSuchElementException();
+    }
+    E e = (E) current[currentIndex];
+    current[currentIndex++] = null;
+    canRemove = true;
+    return e;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @throws  UnsupportedOperationException  when the wrapped iterator is not a {@link ListIterator}, or when not
+   *                                         supported by the wrapped iterator
+   */
+  @Override
+  public void remove() throws IllegalStateException, UnsupportedOperationException {
+    Iterator<W> wrapped = getWrapped();
+    if (!(wrapped instanceof ListIterator)) {
+      throw new UnsupportedOperationException("Removal requires a ListIterator to step back over elements read ahead");
+    }
+    if (!canRemove) {
+      throw new IllegalStateException();
+    }
+    ListIterator<W> listIter = (ListIterator<W>) wrapped;
+    int ahead = (current.length - currentIndex) + pendingSize;
+    for (int i = 0; i < ahead; i++) {
+      listIter.previous();
+    }
+    listIter.previous();
+    listIter.remove();
+    for (int i = 0; i < ahead; i++) {
+      listIter.next();
+    }
+    canRemove = false;
+  }
+
+  @Override
+  public void forEachRemaining(Consumer<? super E> action) {
+    while (hasNext()) {
+      action.accept(next());
+    }
+  }
+}
@@ -0,0 +1,329 @@
+/*
+ * ao-collections-transformers - Bi-directional collection transformations for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections-transformers.
+ *
+ * ao-collections-transformers is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections-transformers is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections-transformers.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections.transformers;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The state and entry views shared by the hash maps with primitive keys, {@link LongHashMap} and {@link IntHashMap}.
+ * Each subclass holds its own primitive array of keys and does its own probing, so lookups do not box; this class
+ * holds the parallel array of values, the separately stored zero key, and iterates entries through the slots the
+ * subclass reports as full.
+ *
+ * @param  <K>  The boxed key type
+ * @param  <V>  The value type
+ *
+ * @author  AO Industries, Inc.
+ */
+abstract class PrimitiveKeyHashMap<K, V> extends AbstractMap<K, V> {
+
+  static final int MIN_CAPACITY = 4;
+
+  static final int MAX_CAPACITY = 1 << 30;
+
+  /**
+   * Gets the capacity keeping the given number of entries at most three-quarters full.
+   *
+   * @throws  IllegalArgumentException  when {@code size < 0}
+   */
+  static int capacityFor(int size) throws IllegalArgumentException {
+    if (size < 0) {
+      throw new IllegalArgumentException("expectedSize < 0: " + size);
+    }
+    long needed = (long) size * 4 / 3 + 1;
+    if (needed > MAX_CAPACITY) {
+      throw new IllegalStateException("Too many entries: " + size);
+    }
+    return Math.max(MIN_CAPACITY, Integer.highestOneBit((int) needed - 1) << 1);
+  }
+
+  Object[] values;
+  int mask;
+  boolean hasZeroKey;
+  V zeroValue;
+  /**
+   * The number of entries in the arrays, not counting the zero key.
+   */
+  int used;
+  int modCount;
+
+  PrimitiveKeyHashMap(int capacity) {
+    values = new Object[capacity];
+    mask = capacity - 1;
+  }
+
+  /**
+   * Checks whether a slot holds an entry.
+   */
+  abstract boolean isFull(int pos);
+
+  /**
+   * Gets the boxed key in a full slot.
+   */
+  abstract K keyAt(int pos);
+
+  /**
+   * Gets the boxed zero key.
+   */
+  abstract K zeroKey();
+
+  /**
+   * Finds the slot of a non-zero key.
+   *
+   * @return  The slot or {@code -1} when not found
+   */
+  abstract int slotOf(K key);
+
+  /**
+   * Removes the entry in a slot, shifting back following entries that would otherwise no longer be found.
+   *
+   * @param  iter  When removing through an iterator, is told of each entry shifted across its cursor
+   */
+  abstract void removeAt(int pos, EntryIterator iter);
+
+  /**
+   * Empties all slots of the array of keys.
+   */
+  abstract void clearKeys();
+
+  @Override
+  public int size() {
+    return hasZeroKey ? used + 1 : used;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  @Override
+  public boolean containsValue(Object value) {
+    if (hasZeroKey && Objects.equals(zeroValue, value)) {
+      return true;
+    }
+    Object[] v = values;
+    for (int pos = 0; pos < v.length; pos++) {
+      if (isFull(pos) && Objects.equals(v[pos], value)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public void clear() {
+    if (size() != 0) {
+      clearKeys();
+      Arrays.fill(values, null);
+      used = 0;
+      hasZeroKey = false;
+      zeroValue = null;
+      modCount++;
+    }
+  }
+
+  private Set<Map.Entry<K, V>> entrySet;
+
+  @Override
+  public Set<Map.Entry<K, V>> entrySet() {
+    Set<Map.Entry<K, V>> es = entrySet;
+    if (es == null) {
+      es = new AbstractSet<>() {
+        @Override
+        public int size() {
+          return PrimitiveKeyHashMap.this.size();
+        }
+
+        @Override
+        public void clear() {
+          PrimitiveKeyHashMap.this.clear();
+        }
+
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator() {
+          return new EntryIterator();
+        }
+      };
+      entrySet = es;
+    }
+    return es;
+  }
+
+  /**
+   * An entry that writes its value through to the map while its key remains present.
+   */
+  private final class Entry extends SimpleEntry<K, V> {
+    private static final long serialVersionUID = 1L;
+
+    private Entry(K key, V value) {
+      super(key, value);
+    }
+
+    @Override
+    public V setValue(V value) {
+      K key = getKey();
+      if (containsKey(key)) {
+        put(key, value);
+      }
+      return super.setValue(value);
+    }
+  }
+
+  /**
+   * Iterates the zero key, then the arrays from the end.  Removal through the iterator may shift entries across the
+   * cursor: not yet visited entries shifted around from the start of the arrays to the end are collected and iterated
+   * last, and already visited entries shifted back below the cursor are skipped.
+   */
+  final class EntryIterator implements Iterator<Map.Entry<K, V>> {
+    private boolean zeroPending = hasZeroKey;
+    /**
+     * The slot of the next entry from the arrays; slots above have been visited.
+     */
+    private int pos = values.length;
+    private List<Entry> wrapped;
+    private int wrappedIndex;
+    /**
+     * The keys of visited entries shifted back below the cursor, to not be returned again.
+     */
+    private List<K> skipped;
+    /**
+     * The slot of the last returned entry, or {@code -1} when not from the arrays.
+     */
+    private int lastPos = -1;
+    private Entry last;
+    private int expectedModCount = modCount;
+
+    private EntryIterator() {
+      advance();
+    }
+
+    /**
+     * Moves to the next non-empty slot, or to {@code -1} when done with the arrays.
+     */
+    private void advance() {
+      pos--;
+      settle();
+    }
+
+    /**
+     * Moves down from the cursor past empty slots and skipped entries.
+     */
+    private void settle() {
+      while (pos >= 0 && (!isFull(pos) || (skipped != null && skipped.remove(keyAt(pos))))) {
+        pos--;
+      }
+    }
+
+    /**
+     * Checks whether shifting an entry between slots moves it across the cursor.
+     */
+    boolean crosses(int from, int to) {
+      return (from <= pos) != (to <= pos);
+    }
+
+    /**
+     * Tracks an entry shifted across the cursor.
+     */
+    void shifted(int from, K key, Object value) {
+      if (from <= pos) {
+        // Not yet visited, or skipped, and now above the cursor
+        if (skipped == null || !skipped.remove(key)) {
+          if (wrapped == null) {
+            wrapped = new ArrayList<>();
+          }
+          @SuppressWarnings("unchecked")
+          V v = (V) value;
+          wrapped.add(new Entry(key, v));
+        }
+      } else {
+        // Visited, or collected, and now below the cursor
+        if (skipped == null) {
+          skipped = new ArrayList<>();
+        }
+        skipped.add(key);
+      }
+    }
+
+    private void checkForComodification() throws ConcurrentModificationException {
+      if (modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      return zeroPending || pos >= 0 || (wrapped != null && wrappedIndex < wrapped.size());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map.Entry<K, V> next() throws NoSuchElementException {
+      checkForComodification();
+      if (zeroPending) {
+        zeroPending = false;
+        lastPos = -1;
+        last = new Entry(zeroKey(), zeroValue);
+      } else if (pos >= 0) {
+        lastPos = pos;
+        last = new Entry(keyAt(pos), (V) values[pos]);
+        advance();
+      } else if (wrapped != null && wrappedIndex < wrapped.size()) {
+        lastPos = -1;
+        last = wrapped.get(wrappedIndex++);
+      } else {
+        throw new NoSuchElementException();
+      }
+      return last;
+    }
+
+    @Override
+    public void remove() throws IllegalStateException {
+      if (last == null) {
+        throw new IllegalStateException();
+      }
+      checkForComodification();
+      int slot = (lastPos != -1) ? lastPos : slotOf(last.getKey());
+      if (slot != -1) {
+        removeAt(slot, this);
+        // The shift may have emptied the cursor or moved a skipped entry into it
+        settle();
+      } else {
+        // The zero key
+        PrimitiveKeyHashMap.this.remove(last.getKey());
+      }
+      last = null;
+      expectedModCount = modCount;
+    }
+  }
+}
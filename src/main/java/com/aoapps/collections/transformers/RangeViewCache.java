@@ -0,0 +1,116 @@
+/*
+ * ao-collections-transformers - Bi-directional collection transformations for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections-transformers.
+ *
+ * ao-collections-transformers is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections-transformers is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections-transformers.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections.transformers;
+
+import java.util.Objects;
+
+/**
+ * A small, direct-mapped cache of range views by their bounds, so repeated range queries with identical bounds
+ * reuse the same view instead of creating a new view each call.  Range views of sorted collections are live, thus a
+ * cached view remains valid as the backing collection changes.
+ *
+ * <p>Each slot holds an immutable entry.  Concurrent callers may race to fill a slot, with the last one winning.  The
+ * fields of entries are final, as are the wrapped collection and transformers of the views, so any entry that is seen
+ * is fully constructed and its view usable.  The views also lazily cache other views, such as their key-set,
+ * descending, and range views, in non-final fields; racing on those only creates equivalent views more than once.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+final class RangeViewCache<B, V> {
+
+  static final int SUB = 0;
+  static final int HEAD = 1;
+  static final int TAIL = 2;
+
+  /**
+   * The number of slots, a power of two.
+   */
+  private static final int SIZE = 8;
+
+  private static final class Entry<B, V> {
+    private final int hash;
+    private final int kind;
+    private final B from;
+    private final boolean fromInclusive;
+    private final B to;
+    private final boolean toInclusive;
+    private final V view;
+
+    private Entry(int hash, int kind, B from, boolean fromInclusive, B to, boolean toInclusive, V view) {
+      this.hash = hash;
+      this.kind = kind;
+      this.from = from;
+      this.fromInclusive = fromInclusive;
+      this.to = to;
+      this.toInclusive = toInclusive;
+      this.view = view;
+    }
+  }
+
+  private static int hash(int kind, Object from, boolean fromInclusive, Object to, boolean toInclusive) {
+    int h = kind;
+    h = h * 31 + Objects.hashCode(from);
+    h = h * 31 + (fromInclusive ? 1 : 0);
+    h = h * 31 + Objects.hashCode(to);
+    h = h * 31 + (toInclusive ? 1 : 0);
+    return h ^ (h >>> 16);
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private final Entry<B, V>[] entries = new Entry[SIZE];
+
+  /**
+   * Gets the cached view for the given bounds.
+   * Unused bounds, such as {@code from} of a {@link #HEAD} view, are given as {@code null} and {@code false}.
+   *
+   * @return  The view or {@code null} when not cached
+   */
+  V get(int kind, B from, boolean fromInclusive, B to, boolean toInclusive) {
+    int hash = hash(kind, from, fromInclusive, to, toInclusive);
+    Entry<B, V> entry = entries[hash & (SIZE - 1)];
+    if (
+        entry != null
+            && entry.hash == hash
+            && entry.kind == kind
+            && entry.fromInclusive == fromInclusive
+            && entry.toInclusive == toInclusive
+            && Objects.equals(entry.from, from)
+            && Objects.equals(entry.to, to)
+    ) {
+      return entry.view;
+    }
+    return null;
+  }
+
+  /**
+   * Caches the view for the given bounds, replacing any view in the same slot.
+   *
+   * @return  The view
+   */
+  V put(int kind, B from, boolean fromInclusive, B to, boolean toInclusive, V view) {
+    int hash = hash(kind, from, fromInclusive, to, toInclusive);
+    entries[hash & (SIZE - 1)] = new Entry<>(hash, kind, from, fromInclusive, to, toInclusive, view);
+    return view;
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ * ao-collections-transformers - Bi-directional collection transformations for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections-transformers.
+ *
+ * ao-collections-transformers is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections-transformers is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections-transformers.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections.transformers;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes elements as fixed-width binary records.
+ *
+ * <p>Records are read and written at absolute offsets, without changing the position or limit of the buffer, so a
+ * single buffer may hold many records.  Encoding must be canonical: equal elements must encode to equal bytes, since
+ * record-backed collections compare elements by their bytes.</p>
+ *
+ * @param  <E>  The element type
+ *
+ * @author  AO Industries, Inc.
+ *
+ * @see  OffHeapTransformList
+ * @see  RecordTransformer
+ */
+public interface RecordCodec<E> {
+
+  /**
+   * Gets the class of elements.
+   */
+  Class<E> getElementClass();
+
+  /**
+   * Gets the number of bytes in each record, at least one.
+   */
+  int getRecordSize();
+
+  /**
+   * Writes an element as the record at the given offset.
+   */
+  void encode(E e, ByteBuffer buffer, int offset);
+
+  /**
+   * Reads the element of the record at the given offset.
+   */
+  E decode(ByteBuffer buffer, int offset);
+}
@@ -0,0 +1,273 @@
+/*
+ * ao-collections-transformers - Bi-directional collection transformations for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections-transformers.
+ *
+ * ao-collections-transformers is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections-transformers is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections-transformers.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections.transformers;
+
+import java.nio.ByteBuffer;
+import java.util.AbstractList;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.IntConsumer;
+
+/**
+ * The records of an {@link OffHeapTransformList}, as a list of views of each record.  Also provides the in-place
+ * access to elements used by the list.
+ *
+ * @author  AO Industries, Inc.
+ */
+class RecordList<E> extends AbstractList<ByteBuffer> implements RandomAccess {
+
+  final RecordCodec<E> codec;
+  final RecordSegments segments;
+  private final int recordSize;
+  private int size;
+
+  RecordList(RecordCodec<E> codec, RecordSegments segments, int size) {
+    if (codec.getRecordSize() != segments.recordSize) {
+      throw new IllegalArgumentException("Record size mismatch: " + codec.getRecordSize() + " != " + segments.recordSize);
+    }
+    this.codec = codec;
+    this.segments = segments;
+    this.recordSize = segments.recordSize;
+    segments.ensureCapacity(size);
+    this.size = size;
+  }
+
+  /**
+   * Called after the size changes, once any added record has been written.
+   */
+  void sizeChanged(int newSize) {
+    // Nothing by default
+  }
+
+  private void setSize(int newSize) {
+    size = newSize;
+    modCount++;
+    sizeChanged(newSize);
+  }
+
+  final int getModCount() {
+    return modCount;
+  }
+
+  @Override
+  public final int size() {
+    return size;
+  }
+
+  /**
+   * Decodes the element at the given index.
+   */
+  final E decode(int index) {
+    Objects.checkIndex(index, size);
+    return codec.decode(segments.segment(index), segments.offset(index));
+  }
+
+  /**
+   * Encodes the element at the given index.
+   */
+  final void encode(int index, E e) {
+    Objects.checkIndex(index, size);
+    codec.encode(e, segments.segment(index), segments.offset(index));
+  }
+
+  /**
+   * Inserts a record, written by the given writer before the size change is published by {@link #sizeChanged(int)}.
+   * When the writer fails, the insertion is undone.
+   *
+   * @param  writer  Writes the new record, given its index
+   */
+  final void insert(int index, IntConsumer writer) {
+    if (index < 0 || index > size) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+    if (size == Integer.MAX_VALUE) {
+      throw new OutOfMemoryError("Too many records");
+    }
+    segments.ensureCapacity(size + 1);
+    segments.move(index, index + 1, size - index);
+    size++;
+    try {
+      writer.accept(index);
+    } catch (RuntimeException | Error e) {
+      size--;
+      segments.move(index + 1, index, size - index);
+      throw e;
+    }
+    modCount++;
+    sizeChanged(size);
+  }
+
+  /**
+   * Deletes a record.
+   */
+  final void delete(int index) {
+    Objects.checkIndex(index, size);
+    segments.move(index + 1, index, size - index - 1);
+    setSize(size - 1);
+  }
+
+  /**
+   * Encodes the given object, when an element, into new bytes.
+   *
+   * @return  The bytes or {@code null} when not an element
+   */
+  final byte[] toRecord(Object o) {
+    Class<E> elementClass = codec.getElementClass();
+    if (!elementClass.isInstance(o)) {
+      return null;
+    }
+    byte[] record = new byte[recordSize];
+    codec.encode(elementClass.cast(o), ByteBuffer.wrap(record), 0);
+    return record;
+  }
+
+  /**
+   * Finds the first record equal to the given bytes.
+   *
+   * @return  The index or {@code -1} when not found
+   */
+  final int indexOf(byte[] record) {
+    if (record != null) {
+      for (int i = 0; i < size; i++) {
+        if (segments.equals(i, record)) {
+          return i;
+        }
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Finds the last record equal to the given bytes.
+   *
+   * @return  The index or {@code -1} when not found
+   */
+  final int lastIndexOf(byte[] record) {
+    if (record != null) {
+      for (int i = size - 1; i >= 0; i--) {
+        if (segments.equals(i, record)) {
+          return i;
+        }
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Gets the bytes of a wrapped record, from its position.
+   */
+  private byte[] toRecord(ByteBuffer w) throws IllegalArgumentException {
+    if (w.remaining() < recordSize) {
+      throw new IllegalArgumentException("Record too short: " + w.remaining() + " < " + recordSize);
+    }
+    byte[] record = new byte[recordSize];
+    w.duplicate().get(record);
+    return record;
+  }
+
+  private ByteBuffer copy(int index) {
+    byte[] record = new byte[recordSize];
+    segments.read(index, record);
+    return ByteBuffer.wrap(record);
+  }
+
+  /**
+   * Gets a view of the record.  Writes through the view write to the record.
+   */
+  @Override
+  public final ByteBuffer get(int index) {
+    Objects.checkIndex(index, size);
+    return segments.slice(index);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @return  A copy of the previous record
+   */
+  @Override
+  public final ByteBuffer set(int index, ByteBuffer w) {
+    Objects.checkIndex(index, size);
+    byte[] record = toRecord(w);
+    ByteBuffer old = copy(index);
+    segments.write(index, record);
+    return old;
+  }
+
+  @Override
+  public final void add(int index, ByteBuffer w) {
+    byte[] record = toRecord(w);
+    insert(index, i -> segments.write(i, record));
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @return  A copy of the removed record
+   */
+  @Override
+  public final ByteBuffer remove(int index) {
+    Objects.checkIndex(index, size);
+    ByteBuffer old = copy(index);
+    delete(index);
+    return old;
+  }
+
+  private byte[] toRecordOrNull(Object o) {
+    if (!(o instanceof ByteBuffer)) {
+      return null;
+    }
+    ByteBuffer w = (ByteBuffer) o;
+    return (w.remaining() == recordSize) ? toRecord(w) : null;
+  }
+
+  @Override
+  public final int indexOf(Object o) {
+    return indexOf(toRecordOrNull(o));
+  }
+
+  @Override
+  public final int lastIndexOf(Object o) {
+    return lastIndexOf(toRecordOrNull(o));
+  }
+
+  @Override
+  public final boolean contains(Object o) {
+    return indexOf(o) != -1;
+  }
+
+  @Override
+  protected final void removeRange(int fromIndex, int toIndex) {
+    if (fromIndex < toIndex) {
+      segments.move(toIndex, fromIndex, size - toIndex);
+      setSize(size - (toIndex - fromIndex));
+    }
+  }
+
+  @Override
+  public final void clear() {
+    setSize(0);
+    segments.trim(0);
+  }
+}
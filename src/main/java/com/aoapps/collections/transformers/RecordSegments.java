@@ -0,0 +1,260 @@
+/*
+ * ao-collections-transformers - Bi-directional collection transformations for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections-transformers.
+ *
+ * ao-collections-transformers is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections-transformers is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections-transformers.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections.transformers;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Fixed-width records stored across equally sized buffers, or segments, addressed by record index.  Records never
+ * span segments.  While there is only one segment, it grows by doubling up to the full segment size, so small
+ * collections do not allocate a full segment.
+ *
+ * @author  AO Industries, Inc.
+ */
+abstract class RecordSegments {
+
+  /**
+   * The default maximum size of each segment.
+   */
+  static final int DEFAULT_MAX_SEGMENT_BYTES = 1 << 24;
+
+  /**
+   * The minimum number of records in the first segment.
+   */
+  private static final int MIN_FIRST_RECORDS = 16;
+
+  /**
+   * The size of buffer used to move records.
+   */
+  private static final int MOVE_BUFFER_SIZE = 8192;
+
+  final int recordSize;
+  final int shift;
+  final int mask;
+  final int segmentBytes;
+  private ByteBuffer[] segments = new ByteBuffer[0];
+
+  /**
+   * The number of records in the first segment, or {@code 0} when there are no segments.
+   */
+  private int firstRecords;
+
+  /**
+   * @param  maxSegmentBytes  The maximum bytes per segment, rounded down to a power-of-two number of records, but
+   *                          always at least one record
+   */
+  RecordSegments(int recordSize, int maxSegmentBytes) throws IllegalArgumentException {
+    if (recordSize < 1) {
+      throw new IllegalArgumentException("recordSize < 1: " + recordSize);
+    }
+    this.recordSize = recordSize;
+    int recordsPerSegment = Integer.highestOneBit(Math.max(1, maxSegmentBytes / recordSize));
+    this.shift = Integer.numberOfTrailingZeros(recordsPerSegment);
+    this.mask = recordsPerSegment - 1;
+    this.segmentBytes = recordsPerSegment * recordSize;
+  }
+
+  /**
+   * Creates the buffer for a segment, which is {@link #segmentBytes} bytes except while the first segment grows.
+   */
+  abstract ByteBuffer allocate(int segment, int bytes);
+
+  /**
+   * Copies the records of the first segment into its larger replacement.
+   */
+  void grow(ByteBuffer from, ByteBuffer to) {
+    to.duplicate().put(from.duplicate().clear());
+  }
+
+  /**
+   * Gets the current segments.
+   */
+  final ByteBuffer[] getSegments() {
+    return segments;
+  }
+
+  /**
+   * Gets the number of records that may be stored without allocating.
+   */
+  final long capacity() {
+    return (segments.length <= 1) ? firstRecords : ((long) segments.length << shift);
+  }
+
+  /**
+   * Allocates segments until the given number of records may be stored.
+   */
+  final void ensureCapacity(int records) {
+    if (records <= capacity()) {
+      return;
+    }
+    int recordsPerSegment = mask + 1;
+    if (firstRecords < recordsPerSegment) {
+      // Grow the only segment by doubling
+      long grown = Math.max(MIN_FIRST_RECORDS, (long) firstRecords << 1);
+      while (grown < records) {
+        grown <<= 1;
+      }
+      int first = (int) Math.min(grown, recordsPerSegment);
+      ByteBuffer buffer = allocate(0, first * recordSize);
+      if (segments.length == 0) {
+        segments = new ByteBuffer[] {buffer};
+      } else {
+        grow(segments[0], buffer);
+        segments[0] = buffer;
+      }
+      firstRecords = first;
+      if (records <= first) {
+        return;
+      }
+    }
+    int needed = (int) (((long) records + mask) >>> shift);
+    int count = segments.length;
+    segments = Arrays.copyOf(segments, Math.max(needed, count + (count >> 1)));
+    for (int i = count; i < segments.length; i++) {
+      segments[i] = allocate(i, segmentBytes);
+    }
+  }
+
+  /**
+   * Releases segments beyond those needed for the given number of records.
+   */
+  final void trim(int records) {
+    int needed = (int) (((long) records + mask) >>> shift);
+    if (needed < segments.length) {
+      segments = Arrays.copyOf(segments, needed);
+      if (needed == 0) {
+        firstRecords = 0;
+      }
+    }
+  }
+
+  /**
+   * Gets the segment of a record.
+   */
+  final ByteBuffer segment(int index) {
+    return segments[index >>> shift];
+  }
+
+  /**
+   * Gets the offset of a record within its segment.
+   */
+  final int offset(int index) {
+    return (index & mask) * recordSize;
+  }
+
+  /**
+   * Gets a view of one record, with position zero and limit of the record size.
+   */
+  final ByteBuffer slice(int index) {
+    ByteBuffer record = segment(index).duplicate();
+    int offset = offset(index);
+    record.limit(offset + recordSize).position(offset);
+    return record.slice();
+  }
+
+  /**
+   * Copies bytes, which must be within a single segment.
+   */
+  private void read(long position, byte[] bytes, int length) {
+    ByteBuffer segment = segments[(int) (position / segmentBytes)].duplicate();
+    segment.position((int) (position % segmentBytes));
+    segment.get(bytes, 0, length);
+  }
+
+  /**
+   * Copies bytes, which must be within a single segment.
+   */
+  private void write(long position, byte[] bytes, int length) {
+    ByteBuffer segment = segments[(int) (position / segmentBytes)].duplicate();
+    segment.position((int) (position % segmentBytes));
+    segment.put(bytes, 0, length);
+  }
+
+  /**
+   * Copies a record into the given bytes.
+   */
+  final void read(int index, byte[] record) {
+    read((long) index * recordSize, record, recordSize);
+  }
+
+  /**
+   * Copies the given bytes into a record.
+   */
+  final void write(int index, byte[] record) {
+    write((long) index * recordSize, record, recordSize);
+  }
+
+  /**
+   * Moves a range of records, which may overlap the destination.
+   */
+  final void move(int fromIndex, int toIndex, int count) {
+    if (count == 0 || fromIndex == toIndex) {
+      return;
+    }
+    long bytes = (long) count * recordSize;
+    long src = (long) fromIndex * recordSize;
+    long dst = (long) toIndex * recordSize;
+    byte[] buffer = new byte[(int) Math.min(bytes, MOVE_BUFFER_SIZE)];
+    if (dst < src) {
+      // Forward, from the start
+      long done = 0;
+      while (done < bytes) {
+        int length = (int) Math.min(
+            Math.min(bytes - done, buffer.length),
+            Math.min(segmentBytes - (src + done) % segmentBytes, segmentBytes - (dst + done) % segmentBytes)
+        );
+        read(src + done, buffer, length);
+        write(dst + done, buffer, length);
+        done += length;
+      }
+    } else {
+      // Backward, from the end
+      long remaining = bytes;
+      while (remaining > 0) {
+        int length = (int) Math.min(
+            Math.min(remaining, buffer.length),
+            Math.min((src + remaining - 1) % segmentBytes + 1, (dst + remaining - 1) % segmentBytes + 1)
+        );
+        remaining -= length;
+        read(src + remaining, buffer, length);
+        write(dst + remaining, buffer, length);
+      }
+    }
+  }
+
+  /**
+   * Compares a record to the given bytes.
+   */
+  final boolean equals(int index, byte[] record) {
+    ByteBuffer segment = segment(index);
+    int offset = offset(index);
+    for (int i = 0; i < recordSize; i++) {
+      if (segment.get(offset + i) != record[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * ao-collections-transformers - Bi-directional collection transformations for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections-transformers.
+ *
+ * ao-collections-transformers is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections-transformers is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections-transformers.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections.transformers;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Converts between elements and their records, with each record in its own {@link ByteBuffer} starting at the
+ * buffer position.  {@code null} is converted to {@code null}.
+ *
+ * @param  <E>  The element type
+ *
+ * @author  AO Industries, Inc.
+ */
+public class RecordTransformer<E> extends AbstractTransformer<E, ByteBuffer> {
+
+  private final RecordCodec<E> codec;
+
+  public RecordTransformer(RecordCodec<E> codec) {
+    super(codec.getElementClass(), ByteBuffer.class);
+    this.codec = codec;
+  }
+
+  /**
+   * Gets the codec of records.
+   */
+  public RecordCodec<E> getCodec() {
+    return codec;
+  }
+
+  /**
+   * Encodes into a new, heap buffer.
+   */
+  @Override
+  protected ByteBuffer doToWrapped(E e) {
+    if (e == null) {
+      return null;
+    }
+    ByteBuffer record = ByteBuffer.allocate(codec.getRecordSize());
+    codec.encode(e, record, 0);
+    return record;
+  }
+
+  @Override
+  protected E doFromWrapped(ByteBuffer w) {
+    return (w == null) ? null : codec.decode(w, w.position());
+  }
+}
@@ -0,0 +1,597 @@
+/*
+ * ao-collections-transformers - Bi-directional collection transformations for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections-transformers.
+ *
+ * ao-collections-transformers is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections-transformers is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections-transformers.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections.transformers;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * A {@link TransformMap} holding its values through {@linkplain WeakReference weak} or
+ * {@linkplain SoftReference soft} references, for memory-sensitive caches.  The value transformer dereferences, so the
+ * map appears as a normal map from which entries disappear once their values are reclaimed.
+ *
+ * <p>Entries of reclaimed values are removed as their references are enqueued, during later operations on the map,
+ * so no background thread is needed.  Until removed, they are not found by lookups or iteration, but are still
+ * counted by {@link #size()}.</p>
+ *
+ * <p>{@code null} values are not supported.  Thread-safe when the backing map is a concurrent map, such as
+ * {@link java.util.concurrent.ConcurrentHashMap}, with the atomicity of its operations.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+public class ReferenceValueTransformMap<K, V> extends TransformMap<K, V, K, Reference<V>> {
+
+  /**
+   * The strength of references to values.
+   */
+  public enum Strength {
+    /**
+     * Values are reclaimed once no longer strongly reachable.
+     */
+    WEAK,
+
+    /**
+     * Values are reclaimed at the discretion of the garbage collector, in response to memory demand.
+     */
+    SOFT
+  }
+
+  /**
+   * Creates a new, empty map, backed by a {@link HashMap}.
+   */
+  public static <K, V> ReferenceValueTransformMap<K, V> of(Strength strength) {
+    return new ReferenceValueTransformMap<>(new ReferenceMap<>(new HashMap<>(), strength));
+  }
+
+  /**
+   * Wraps an empty map, which must only be modified through the returned map.
+   *
+   * @throws  IllegalArgumentException  when the map is not empty
+   */
+  public static <K, V> ReferenceValueTransformMap<K, V> of(Map<K, Reference<V>> map, Strength strength)
+      throws IllegalArgumentException {
+    if (map == null) {
+      return null;
+    }
+    if (!map.isEmpty()) {
+      throw new IllegalArgumentException("Map is not empty");
+    }
+    return new ReferenceValueTransformMap<>(new ReferenceMap<>(map, strength));
+  }
+
+  /**
+   * A reference that knows its key, for removal once enqueued.
+   */
+  private interface KeyedReference<K> {
+    K getKey();
+  }
+
+  /**
+   * References compare by the equality of their referents, so maps of references compare as maps of values.  A
+   * cleared reference is only equal to itself.
+   */
+  private static boolean referenceEquals(Reference<?> ref, Object o) {
+    if (o == ref) {
+      return true;
+    }
+    if (!(o instanceof Reference)) {
+      return false;
+    }
+    Object value = ref.get();
+    return value != null && value.equals(((Reference<?>) o).get());
+  }
+
+  private static final class WeakValue<K, V> extends WeakReference<V> implements KeyedReference<K> {
+    private final K key;
+    private final int hash;
+
+    private WeakValue(K key, V value, ReferenceQueue<? super V> queue) {
+      super(value, queue);
+      this.key = key;
+      this.hash = value.hashCode();
+    }
+
+    @Override
+    public K getKey() {
+      return key;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return referenceEquals(this, o);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+
+  private static final class SoftValue<K, V> extends SoftReference<V> implements KeyedReference<K> {
+    private final K key;
+    private final int hash;
+
+    private SoftValue(K key, V value, ReferenceQueue<? super V> queue) {
+      super(value, queue);
+      this.key = key;
+      this.hash = value.hashCode();
+    }
+
+    @Override
+    public K getKey() {
+      return key;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return referenceEquals(this, o);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+
+  private static <V> V deref(Reference<V> ref) {
+    return (ref == null) ? null : ref.get();
+  }
+
+  /**
+   * Converts between values and references.  References created for comparison have no key or queue.
+   */
+  private static final class ValueTransformer<V> extends AbstractTransformer<V, Reference<V>> {
+
+    private final Strength strength;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private ValueTransformer(Strength strength) {
+      super((Class<V>) Object.class, (Class<Reference<V>>) (Class) Reference.class);
+      this.strength = strength;
+    }
+
+    @Override
+    protected Reference<V> doToWrapped(V e) {
+      if (e == null) {
+        return null;
+      }
+      return (strength == Strength.WEAK) ? new WeakValue<>(null, e, null) : new SoftValue<>(null, e, null);
+    }
+
+    @Override
+    protected V doFromWrapped(Reference<V> w) {
+      return deref(w);
+    }
+  }
+
+  /**
+   * The wrapped view of the backing map, hiding the entries of reclaimed values and adding keys to new references.
+   */
+  private static final class ReferenceMap<K, V> extends AbstractMap<K, Reference<V>> {
+
+    private final Map<K, Reference<V>> backing;
+    private final Strength strength;
+    private final ReferenceQueue<V> queue = new ReferenceQueue<>();
+
+    private ReferenceMap(Map<K, Reference<V>> backing, Strength strength) {
+      this.backing = backing;
+      this.strength = Objects.requireNonNull(strength);
+    }
+
+    private Reference<V> newReference(K key, V value) {
+      return (strength == Strength.WEAK) ? new WeakValue<>(key, value, queue) : new SoftValue<>(key, value, queue);
+    }
+
+    /**
+     * Removes the entries of reclaimed values.
+     */
+    @SuppressWarnings("unchecked")
+    private void expunge() {
+      Reference<? extends V> ref;
+      while ((ref = queue.poll()) != null) {
+        backing.remove(((KeyedReference<K>) ref).getKey(), ref);
+      }
+    }
+
+    @Override
+    public int size() {
+      expunge();
+      return backing.size();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+      expunge();
+      return deref(backing.get(key)) != null;
+    }
+
+    @Override
+    public Reference<V> get(Object key) {
+      expunge();
+      Reference<V> ref = backing.get(key);
+      return (deref(ref) == null) ? null : ref;
+    }
+
+    @Override
+    public Reference<V> put(K key, Reference<V> value) {
+      expunge();
+      V v = deref(value);
+      if (v == null) {
+        throw new NullPointerException();
+      }
+      Reference<V> old = backing.put(key, newReference(key, v));
+      return (deref(old) == null) ? null : old;
+    }
+
+    @Override
+    public Reference<V> remove(Object key) {
+      expunge();
+      Reference<V> old = backing.remove(key);
+      return (deref(old) == null) ? null : old;
+    }
+
+    @Override
+    public void clear() {
+      backing.clear();
+      expunge();
+    }
+
+    private Set<Map.Entry<K, Reference<V>>> entrySet;
+
+    @Override
+    public Set<Map.Entry<K, Reference<V>>> entrySet() {
+      Set<Map.Entry<K, Reference<V>>> es = entrySet;
+      if (es == null) {
+        es = new AbstractSet<>() {
+          @Override
+          public int size() {
+            return ReferenceMap.this.size();
+          }
+
+          @Override
+          public void clear() {
+            ReferenceMap.this.clear();
+          }
+
+          @Override
+          public Iterator<Map.Entry<K, Reference<V>>> iterator() {
+            expunge();
+            return new EntryIterator();
+          }
+        };
+        entrySet = es;
+      }
+      return es;
+    }
+
+    /**
+     * Iterates the entries of values not yet reclaimed.  Each entry holds its value strongly, so the value remains
+     * while the entry is in use.
+     *
+     * <p>Looking ahead in {@link #hasNext()} moves the backing iterator past the last returned entry, which is then
+     * removed by key and reference.  So the backing map is not modified while iterated, the rest of its entries are
+     * first copied, and iteration continues from the copy.</p>
+     */
+    private final class EntryIterator implements Iterator<Map.Entry<K, Reference<V>>> {
+      private Iterator<Map.Entry<K, Reference<V>>> iter = backing.entrySet().iterator();
+      private Map.Entry<K, Reference<V>> nextEntry;
+      private V nextValue;
+      private K lastKey;
+      private Reference<V> lastRef;
+      private boolean canRemove;
+      /**
+       * Whether the backing iterator has moved past the last returned entry.
+       */
+      private boolean lookedAhead;
+      /**
+       * Whether iterating a copy of the remaining entries.
+       */
+      private boolean copied;
+
+      @Override
+      public boolean hasNext() {
+        while (nextEntry == null && iter.hasNext()) {
+          Map.Entry<K, Reference<V>> entry = iter.next();
+          lookedAhead = true;
+          V value = deref(entry.getValue());
+          if (value != null) {
+            nextEntry = entry;
+            nextValue = value;
+          }
+        }
+        return nextEntry != null;
+      }
+
+      @Override
+      public Map.Entry<K, Reference<V>> next() throws NoSuchElementException {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        Map.Entry<K, Reference<V>> entry = nextEntry;
+        V value = nextValue;
+        nextEntry = null;
+        nextValue = null;
+        lastKey = entry.getKey();
+        lastRef = entry.getValue();
+        canRemove = true;
+        lookedAhead = false;
+        return new SimpleEntry<>(entry.getKey(), entry.getValue()) {
+          private static final long serialVersionUID = 1L;
+
+          @SuppressWarnings("unused")
+          private final V strong = value;
+
+          @Override
+          public Reference<V> setValue(Reference<V> newValue) {
+            V v = deref(newValue);
+            if (v == null) {
+              throw new NullPointerException();
+            }
+            entry.setValue(newReference(getKey(), v));
+            return super.setValue(newValue);
+          }
+        };
+      }
+
+      @Override
+      public void remove() throws IllegalStateException {
+        if (!canRemove) {
+          throw new IllegalStateException();
+        }
+        if (!lookedAhead && !copied) {
+          iter.remove();
+        } else {
+          if (!copied) {
+            List<Map.Entry<K, Reference<V>>> rest = new ArrayList<>();
+            iter.forEachRemaining(rest::add);
+            iter = rest.iterator();
+            copied = true;
+          }
+          backing.remove(lastKey, lastRef);
+        }
+        lastKey = null;
+        lastRef = null;
+        canRemove = false;
+      }
+    }
+  }
+
+  private final ReferenceMap<K, V> references;
+  private final Map<K, Reference<V>> backing;
+
+  private ReferenceValueTransformMap(ReferenceMap<K, V> references) {
+    super(references, Transformer.identity(), new ValueTransformer<>(references.strength));
+    this.references = references;
+    this.backing = references.backing;
+  }
+
+  /**
+   * Gets the strength of references to values.
+   */
+  public Strength getStrength() {
+    return references.strength;
+  }
+
+  private Reference<V> newReference(K key, V value) {
+    return references.newReference(key, value);
+  }
+
+  private void expunge() {
+    references.expunge();
+  }
+
+  @Override
+  public int size() {
+    expunge();
+    return backing.size();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return get(key) != null;
+  }
+
+  @Override
+  public V get(Object key) {
+    expunge();
+    return deref(backing.get(key));
+  }
+
+  @Override
+  public V getOrDefault(Object key, V defaultValue) {
+    V value = get(key);
+    return (value == null) ? defaultValue : value;
+  }
+
+  @Override
+  public V put(K key, V value) {
+    if (value == null) {
+      throw new NullPointerException();
+    }
+    expunge();
+    return deref(backing.put(key, newReference(key, value)));
+  }
+
+  @Override
+  public void putAll(Map<? extends K, ? extends V> m) {
+    for (Map.Entry<? extends K, ? extends V> entry : m.entrySet()) {
+      put(entry.getKey(), entry.getValue());
+    }
+  }
+
+  @Override
+  public V remove(Object key) {
+    expunge();
+    return deref(backing.remove(key));
+  }
+
+  @Override
+  public void clear() {
+    backing.clear();
+    expunge();
+  }
+
+  @Override
+  public void forEach(BiConsumer<? super K, ? super V> action) {
+    TransformStats.iteration(keyTransformer, valueTransformer);
+    expunge();
+    backing.forEach((k, ref) -> {
+      V value = ref.get();
+      if (value != null) {
+        action.accept(k, value);
+      }
+    });
+  }
+
+  /**
+   * Computes through the backing map, holding the resulting value strongly until returned.  Entries of reclaimed
+   * values are treated as absent.
+   */
+  @SuppressWarnings("unchecked")
+  private V computeStrong(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+    expunge();
+    Object[] result = new Object[1];
+    backing.compute(key, (k, ref) -> {
+      V value = remappingFunction.apply(k, deref(ref));
+      result[0] = value;
+      if (value == null) {
+        return null;
+      }
+      return (value == deref(ref)) ? ref : newReference(k, value);
+    });
+    return (V) result[0];
+  }
+
+  @Override
+  public V putIfAbsent(K key, V value) {
+    if (value == null) {
+      throw new NullPointerException();
+    }
+    V[] old = newHolder();
+    computeStrong(key, (k, v) -> {
+      old[0] = v;
+      return (v != null) ? v : value;
+    });
+    return old[0];
+  }
+
+  @Override
+  public boolean remove(Object key, Object value) {
+    if (value == null) {
+      return false;
+    }
+    expunge();
+    boolean[] removed = {false};
+    backing.computeIfPresent(castKey(key), (k, ref) -> {
+      if (value.equals(ref.get())) {
+        removed[0] = true;
+        return null;
+      }
+      return ref;
+    });
+    return removed[0];
+  }
+
+  @Override
+  public boolean replace(K key, V oldValue, V newValue) {
+    if (newValue == null) {
+      throw new NullPointerException();
+    }
+    boolean[] replaced = {false};
+    computeStrong(key, (k, v) -> {
+      if (v != null && v.equals(oldValue)) {
+        replaced[0] = true;
+        return newValue;
+      }
+      return v;
+    });
+    return replaced[0];
+  }
+
+  @Override
+  public V replace(K key, V value) {
+    if (value == null) {
+      throw new NullPointerException();
+    }
+    V[] old = newHolder();
+    computeStrong(key, (k, v) -> {
+      old[0] = v;
+      return (v != null) ? value : null;
+    });
+    return old[0];
+  }
+
+  @Override
+  public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+    return computeStrong(key, (k, v) -> (v != null) ? v : mappingFunction.apply(k));
+  }
+
+  @Override
+  public V computeIfPresent(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+    return computeStrong(key, (k, v) -> (v != null) ? remappingFunction.apply(k, v) : null);
+  }
+
+  @Override
+  public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+    return computeStrong(key, remappingFunction);
+  }
+
+  @Override
+  public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+    if (value == null) {
+      throw new NullPointerException();
+    }
+    return computeStrong(key, (k, v) -> (v != null) ? remappingFunction.apply(v, value) : value);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <V> V[] newHolder() {
+    return (V[]) new Object[1];
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <K> K castKey(Object key) {
+    return (K) key;
+  }
+}
@@ -0,0 +1,88 @@
+/*
+ * ao-collections-transformers - Bi-directional collection transformations for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections-transformers.
+ *
+ * ao-collections-transformers is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections-transformers is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections-transformers.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections.transformers;
+
+/**
+ * Converts between records and rows of a {@link ColumnarList}, assembling a record from the columns of its row and
+ * disassembling it back into them.
+ *
+ * @param  <R>  The record type
+ *
+ * @author  AO Industries, Inc.
+ *
+ * @see  ColumnarTransformList
+ */
+public abstract class RowTransformer<R> extends AbstractTransformer<R, ColumnarList.RowRef> {
+
+  private final ColumnarList.ColumnType[] columnTypes;
+
+  /**
+   * Creates a new record converter.
+   *
+   * @param rClass The record type
+   * @param columnTypes The type of each column
+   */
+  protected RowTransformer(Class<R> rClass, ColumnarList.ColumnType ... columnTypes) {
+    super(rClass, ColumnarList.RowRef.class);
+    this.columnTypes = columnTypes.clone();
+  }
+
+  /**
+   * Creates a new, empty list with the columns of this transformer.
+   */
+  public ColumnarList newColumnarList() {
+    return new ColumnarList(columnTypes);
+  }
+
+  /**
+   * Assembles a record from the columns of a row.
+   */
+  public abstract R read(ColumnarList.RowRef row);
+
+  /**
+   * Disassembles a record into the columns of a row.
+   *
+   * @param  r  never {@code null}
+   */
+  public abstract void write(R r, ColumnarList.RowRef row);
+
+  /**
+   * Disassembles into a new, single-row list.
+   */
+  @Override
+  protected ColumnarList.RowRef doToWrapped(R r) {
+    if (r == null) {
+      return null;
+    }
+    ColumnarList list = new ColumnarList(1, columnTypes);
+    ColumnarList.RowRef row = list.row(list.addRow());
+    write(r, row);
+    return row;
+  }
+
+  @Override
+  protected R doFromWrapped(ColumnarList.RowRef w) {
+    return (w == null) ? null : read(w);
+  }
+}
@@ -0,0 +1,485 @@
+/*
+ * ao-collections-transformers - Bi-directional collection transformations for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections-transformers.
+ *
+ * ao-collections-transformers is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections-transformers is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections-transformers.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections.transformers;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SortedMap;
+
+/**
+ * An immutable {@link NavigableMap} backed by sorted parallel arrays of keys and values.
+ *
+ * <p>Navigation methods perform a binary search on the keys.  Range views, including {@link #descendingMap()} and
+ * {@link #navigableKeySet()}, share the arrays and are created with only a binary search for their bounds.
+ * Compared with a {@link java.util.TreeMap}, this uses two references per entry instead of a tree node, which suits
+ * reference tables that never change once loaded.  Entries are created on access.</p>
+ *
+ * <p>Range views are lenient: bounds outside the range of this map are clamped instead of throwing
+ * {@link IllegalArgumentException}.</p>
+ *
+ * <p>This may be used as the wrapped map of a {@link TransformNavigableMap}:</p>
+ *
+ * <pre>NavigableMap&lt;Foo, Bar&gt; bars = TransformNavigableMap.of(
+ *   SortedArrayNavigableMap.copyOf(barsByFooCode),
+ *   fooTransformer,
+ *   barTransformer
+ * );</pre>
+ *
+ * @author  AO Industries, Inc.
+ */
+public final class SortedArrayNavigableMap<K, V> extends AbstractMap<K, V> implements NavigableMap<K, V> {
+
+  /**
+   * Copies a sorted map, keeping its comparator.
+   * The entries are copied in a single pass and checked to be in the order of the comparator, and are only sorted
+   * when not.  This allows for sorted views that do not iterate in the order of their comparator, such as a
+   * {@link TransformSortedMap} over a map in natural order, which reports natural order of its own keys.
+   */
+  public static <K, V> SortedArrayNavigableMap<K, V> copyOf(SortedMap<K, ? extends V> map) {
+    if (map instanceof SortedArrayNavigableMap) {
+      @SuppressWarnings("unchecked")
+      SortedArrayNavigableMap<K, V> copy = (SortedArrayNavigableMap<K, V>) map;
+      return copy;
+    }
+    int capacity = map.size();
+    Object[] keys = new Object[capacity];
+    Object[] values = new Object[capacity];
+    int size = 0;
+    for (Map.Entry<K, ? extends V> entry : map.entrySet()) {
+      if (size == keys.length) {
+        keys = Arrays.copyOf(keys, Math.max(16, size << 1));
+        values = Arrays.copyOf(values, keys.length);
+      }
+      keys[size] = entry.getKey();
+      values[size] = entry.getValue();
+      size++;
+    }
+    Comparator<? super K> comparator = map.comparator();
+    if (!SortedArrayNavigableSet.isStrictlyAscending(keys, size, comparator)) {
+      @SuppressWarnings({"unchecked", "rawtypes"})
+      Map.Entry<K, V>[] entries = new Map.Entry[size];
+      for (int i = 0; i < size; i++) {
+        @SuppressWarnings("unchecked")
+        K key = (K) keys[i];
+        @SuppressWarnings("unchecked")
+        V value = (V) values[i];
+        entries[i] = new AbstractMap.SimpleImmutableEntry<>(key, value);
+      }
+      return sort(entries, size, comparator);
+    }
+    return new SortedArrayNavigableMap<>(keys, values, 0, size, false, comparator);
+  }
+
+  /**
+   * Copies a map, sorting by the given comparator.
+   * When multiple keys are equal, the last one is kept, as would be by sequential puts.
+   *
+   * @param  comparator  The comparator or {@code null} for natural ordering
+   */
+  public static <K, V> SortedArrayNavigableMap<K, V> copyOf(
+      Map<? extends K, ? extends V> map,
+      Comparator<? super K> comparator
+  ) {
+    if (map instanceof SortedMap && Objects.equals(comparator, ((SortedMap<?, ?>) map).comparator())) {
+      @SuppressWarnings("unchecked")
+      SortedMap<K, ? extends V> sorted = (SortedMap<K, ? extends V>) map;
+      return copyOf(sorted);
+    }
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    Map.Entry<K, V>[] entries = new Map.Entry[map.size()];
+    int size = 0;
+    for (Map.Entry<? extends K, ? extends V> entry : map.entrySet()) {
+      if (size == entries.length) {
+        entries = Arrays.copyOf(entries, Math.max(16, size << 1));
+      }
+      // Copied since some maps reuse or update their entries
+      entries[size++] = new AbstractMap.SimpleImmutableEntry<>(entry.getKey(), entry.getValue());
+    }
+    return sort(entries, size, comparator);
+  }
+
+  /**
+   * Sorts the given entries by key.
+   * When multiple keys are equal, the last one is kept, as would be by sequential puts.
+   *
+   * @param  comparator  The comparator or {@code null} for natural ordering
+   */
+  static <K, V> SortedArrayNavigableMap<K, V> sort(
+      Map.Entry<K, V>[] entries,
+      int size,
+      Comparator<? super K> comparator
+  ) {
+    // Stable sort keeps equal keys in iteration order
+    Arrays.sort(entries, 0, size, (e1, e2) -> SortedArrayNavigableSet.compare(comparator, e1.getKey(), e2.getKey()));
+    Object[] keys = new Object[size];
+    Object[] values = new Object[size];
+    int unique = 0;
+    for (int i = 0; i < size; i++) {
+      Map.Entry<K, V> entry = entries[i];
+      K key = entry.getKey();
+      if (unique == 0 || SortedArrayNavigableSet.compare(comparator, keys[unique - 1], key) != 0) {
+        keys[unique++] = key;
+      }
+      values[unique - 1] = entry.getValue();
+    }
+    return new SortedArrayNavigableMap<>(keys, values, 0, unique, false, comparator);
+  }
+
+  private final Object[] keys;
+  private final Object[] values;
+  private final int from;
+  private final int to;
+  private final boolean descending;
+  private final Comparator<? super K> comparator;
+
+  /**
+   * Creates a view of the range of sorted parallel arrays.
+   *
+   * @param  comparator  The ascending comparator or {@code null} for natural ordering
+   */
+  SortedArrayNavigableMap(
+      Object[] keys,
+      Object[] values,
+      int from,
+      int to,
+      boolean descending,
+      Comparator<? super K> comparator
+  ) {
+    this.keys = keys;
+    this.values = values;
+    this.from = from;
+    this.to = to;
+    this.descending = descending;
+    this.comparator = comparator;
+  }
+
+  private boolean inRange(int index) {
+    return index >= from && index < to;
+  }
+
+  @SuppressWarnings("unchecked")
+  private Map.Entry<K, V> entryAt(int index) {
+    return inRange(index) ? new AbstractMap.SimpleImmutableEntry<>((K) keys[index], (V) values[index]) : null;
+  }
+
+  @SuppressWarnings("unchecked")
+  private K keyAt(int index) {
+    return inRange(index) ? (K) keys[index] : null;
+  }
+
+  private int ceilingIndex(Object key) {
+    return SortedArrayNavigableSet.search(keys, from, to, comparator, key, true);
+  }
+
+  private int higherIndex(Object key) {
+    return SortedArrayNavigableSet.search(keys, from, to, comparator, key, false);
+  }
+
+  private int lowerIndex(Object key) {
+    return descending ? higherIndex(key) : (ceilingIndex(key) - 1);
+  }
+
+  private int floorIndex(Object key) {
+    return descending ? ceilingIndex(key) : (higherIndex(key) - 1);
+  }
+
+  private int ceilingIndexDirected(Object key) {
+    return descending ? (higherIndex(key) - 1) : ceilingIndex(key);
+  }
+
+  private int higherIndexDirected(Object key) {
+    return descending ? (ceilingIndex(key) - 1) : higherIndex(key);
+  }
+
+  /**
+   * Finds the index of the given key.
+   *
+   * @return  The index or {@code -1} when not found
+   */
+  private int indexOf(Object key) {
+    int i = ceilingIndex(key);
+    return (i < to && SortedArrayNavigableSet.compare(comparator, keys[i], key) == 0) ? i : -1;
+  }
+
+  /**
+   * Creates a view of a sub-range, in the same direction as this map.
+   */
+  private SortedArrayNavigableMap<K, V> range(int subFrom, int subTo) {
+    return new SortedArrayNavigableMap<>(keys, values, subFrom, Math.max(subFrom, subTo), descending, comparator);
+  }
+
+  @Override
+  public int size() {
+    return to - from;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return to == from;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return indexOf(key) != -1;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public V get(Object key) {
+    int i = indexOf(key);
+    return (i == -1) ? null : (V) values[i];
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public V getOrDefault(Object key, V defaultValue) {
+    int i = indexOf(key);
+    return (i == -1) ? defaultValue : (V) values[i];
+  }
+
+  @Override
+  public Set<Map.Entry<K, V>> entrySet() {
+    return new AbstractSet<>() {
+      @Override
+      public int size() {
+        return to - from;
+      }
+
+      @Override
+      public boolean contains(Object o) {
+        if (!(o instanceof Map.Entry)) {
+          return false;
+        }
+        Map.Entry<?, ?> entry = (Map.Entry<?, ?>) o;
+        int i;
+        try {
+          i = indexOf(entry.getKey());
+        } catch (ClassCastException | NullPointerException e) {
+          return false;
+        }
+        return i != -1 && Objects.equals(values[i], entry.getValue());
+      }
+
+      @Override
+      public Iterator<Map.Entry<K, V>> iterator() {
+        return new Iterator<>() {
+          private int next = descending ? (to - 1) : from;
+
+          @Override
+          public boolean hasNext() {
+            return inRange(next);
+          }
+
+          @Override
+          public Map.Entry<K, V> next() throws NoSuchElementException {
+            if (!hasNext()) {
+              throw new NoSuchElementException();
+            }
+            Map.Entry<K, V> entry = entryAt(next);
+            next += descending ? -1 : 1;
+            return entry;
+          }
+        };
+      }
+    };
+  }
+
+  @Override
+  public Collection<V> values() {
+    return new AbstractCollection<>() {
+      @Override
+      public int size() {
+        return to - from;
+      }
+
+      @Override
+      public Iterator<V> iterator() {
+        return new SortedArrayNavigableSet.ArrayIterator<>(values, from, to, descending);
+      }
+    };
+  }
+
+  @Override
+  public Comparator<? super K> comparator() {
+    return descending ? Collections.reverseOrder(comparator) : comparator;
+  }
+
+  @Override
+  public K firstKey() throws NoSuchElementException {
+    if (isEmpty()) {
+      throw new NoSuchElementException();
+    }
+    return keyAt(descending ? (to - 1) : from);
+  }
+
+  @Override
+  public K lastKey() throws NoSuchElementException {
+    if (isEmpty()) {
+      throw new NoSuchElementException();
+    }
+    return keyAt(descending ? from : (to - 1));
+  }
+
+  @Override
+  public Map.Entry<K, V> firstEntry() {
+    return entryAt(descending ? (to - 1) : from);
+  }
+
+  @Override
+  public Map.Entry<K, V> lastEntry() {
+    return entryAt(descending ? from : (to - 1));
+  }
+
+  @Override
+  public Map.Entry<K, V> lowerEntry(K key) {
+    return entryAt(lowerIndex(key));
+  }
+
+  @Override
+  public K lowerKey(K key) {
+    return keyAt(lowerIndex(key));
+  }
+
+  @Override
+  public Map.Entry<K, V> floorEntry(K key) {
+    return entryAt(floorIndex(key));
+  }
+
+  @Override
+  public K floorKey(K key) {
+    return keyAt(floorIndex(key));
+  }
+
+  @Override
+  public Map.Entry<K, V> ceilingEntry(K key) {
+    return entryAt(ceilingIndexDirected(key));
+  }
+
+  @Override
+  public K ceilingKey(K key) {
+    return keyAt(ceilingIndexDirected(key));
+  }
+
+  @Override
+  public Map.Entry<K, V> higherEntry(K key) {
+    return entryAt(higherIndexDirected(key));
+  }
+
+  @Override
+  public K higherKey(K key) {
+    return keyAt(higherIndexDirected(key));
+  }
+
+  /**
+   * Not supported.
+   *
+   * @throws  UnsupportedOperationException  always
+   */
+  @Override
+  public Map.Entry<K, V> pollFirstEntry() throws UnsupportedOperationException {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Not supported.
+   *
+   * @throws  UnsupportedOperationException  always
+   */
+  @Override
+  public Map.Entry<K, V> pollLastEntry() throws UnsupportedOperationException {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public SortedArrayNavigableMap<K, V> descendingMap() {
+    return new SortedArrayNavigableMap<>(keys, values, from, to, !descending, comparator);
+  }
+
+  @Override
+  public SortedArrayNavigableSet<K> keySet() {
+    return navigableKeySet();
+  }
+
+  @Override
+  public SortedArrayNavigableSet<K> navigableKeySet() {
+    return new SortedArrayNavigableSet<>(keys, from, to, descending, comparator);
+  }
+
+  @Override
+  public SortedArrayNavigableSet<K> descendingKeySet() {
+    return new SortedArrayNavigableSet<>(keys, from, to, !descending, comparator);
+  }
+
+  @Override
+  public SortedArrayNavigableMap<K, V> subMap(K fromKey, boolean fromInclusive, K toKey, boolean toInclusive) {
+    if (SortedArrayNavigableSet.compare(comparator(), fromKey, toKey) > 0) {
+      throw new IllegalArgumentException("fromKey > toKey");
+    }
+    return headMap(toKey, toInclusive).tailMap(fromKey, fromInclusive);
+  }
+
+  @Override
+  public SortedArrayNavigableMap<K, V> headMap(K toKey, boolean inclusive) {
+    if (descending) {
+      return range(inclusive ? ceilingIndex(toKey) : higherIndex(toKey), to);
+    } else {
+      return range(from, inclusive ? higherIndex(toKey) : ceilingIndex(toKey));
+    }
+  }
+
+  @Override
+  public SortedArrayNavigableMap<K, V> tailMap(K fromKey, boolean inclusive) {
+    if (descending) {
+      return range(from, inclusive ? higherIndex(fromKey) : ceilingIndex(fromKey));
+    } else {
+      return range(inclusive ? ceilingIndex(fromKey) : higherIndex(fromKey), to);
+    }
+  }
+
+  @Override
+  public SortedArrayNavigableMap<K, V> subMap(K fromKey, K toKey) {
+    return subMap(fromKey, true, toKey, false);
+  }
+
+  @Override
+  public SortedArrayNavigableMap<K, V> headMap(K toKey) {
+    return headMap(toKey, false);
+  }
+
+  @Override
+  public SortedArrayNavigableMap<K, V> tailMap(K fromKey) {
+    return tailMap(fromKey, true);
+  }
+}
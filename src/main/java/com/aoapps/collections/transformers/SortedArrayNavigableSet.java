@@ -0,0 +1,372 @@
+/*
+ * ao-collections-transformers - Bi-directional collection transformations for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections-transformers.
+ *
+ * ao-collections-transformers is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections-transformers is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections-transformers.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections.transformers;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.SortedSet;
+
+/**
+ * An immutable {@link NavigableSet} backed by a sorted array.
+ *
+ * <p>Navigation methods perform a binary search.  Range views, including {@link #descendingSet()}, share the array
+ * and are created with only a binary search for their bounds.  Compared with a {@link java.util.TreeSet}, this uses
+ * a single reference per element instead of a tree node, which suits reference tables that never change once
+ * loaded.</p>
+ *
+ * <p>Range views are lenient: bounds outside the range of this set are clamped instead of throwing
+ * {@link IllegalArgumentException}.</p>
+ *
+ * <p>This may be used as the wrapped set of a {@link TransformNavigableSet}:</p>
+ *
+ * <pre>NavigableSet&lt;Foo&gt; foos = TransformNavigableSet.of(
+ *   SortedArrayNavigableSet.copyOf(fooCodes),
+ *   fooTransformer
+ * );</pre>
+ *
+ * @author  AO Industries, Inc.
+ */
+public final class SortedArrayNavigableSet<E> extends AbstractSet<E> implements NavigableSet<E> {
+
+  /**
+   * Copies a sorted set, keeping its comparator.
+   * The elements are copied in a single pass and checked to be in the order of the comparator, and are only sorted
+   * when not.  This allows for sorted views that do not iterate in the order of their comparator, such as a
+   * {@link TransformSortedSet} over a set in natural order, which reports natural order of its own elements.
+   */
+  public static <E> SortedArrayNavigableSet<E> copyOf(SortedSet<E> set) {
+    if (set instanceof SortedArrayNavigableSet) {
+      return (SortedArrayNavigableSet<E>) set;
+    }
+    Object[] elements = set.toArray();
+    Comparator<? super E> comparator = set.comparator();
+    if (!isStrictlyAscending(elements, elements.length, comparator)) {
+      return sort(elements, elements.length, comparator);
+    }
+    return new SortedArrayNavigableSet<>(elements, 0, elements.length, false, comparator);
+  }
+
+  /**
+   * Copies a collection, sorting by the given comparator.
+   * When multiple elements are equal, the first one is kept.
+   *
+   * @param  comparator  The comparator or {@code null} for natural ordering
+   */
+  public static <E> SortedArrayNavigableSet<E> copyOf(Collection<? extends E> c, Comparator<? super E> comparator) {
+    if (c instanceof SortedSet && Objects.equals(comparator, ((SortedSet<?>) c).comparator())) {
+      @SuppressWarnings("unchecked")
+      SortedSet<E> set = (SortedSet<E>) c;
+      return copyOf(set);
+    }
+    Object[] elements = c.toArray();
+    return sort(elements, elements.length, comparator);
+  }
+
+  /**
+   * Sorts the given elements, which are then owned by the returned set.
+   * When multiple elements are equal, the first one is kept.
+   *
+   * @param  comparator  The comparator or {@code null} for natural ordering
+   */
+  static <E> SortedArrayNavigableSet<E> sort(Object[] elements, int size, Comparator<? super E> comparator) {
+    Comparator<Object> cmp = (o1, o2) -> compare(comparator, o1, o2);
+    // Stable sort keeps equal elements in iteration order
+    Arrays.sort(elements, 0, size, cmp);
+    int unique = 0;
+    for (int i = 0; i < size; i++) {
+      if (unique == 0 || cmp.compare(elements[unique - 1], elements[i]) != 0) {
+        elements[unique++] = elements[i];
+      }
+    }
+    return new SortedArrayNavigableSet<>(elements, 0, unique, false, comparator);
+  }
+
+  /**
+   * Checks that the given keys are in strictly ascending order, as required for binary search.
+   */
+  static boolean isStrictlyAscending(Object[] keys, int size, Comparator<?> comparator) {
+    for (int i = 1; i < size; i++) {
+      if (compare(comparator, keys[i - 1], keys[i]) >= 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Compares two keys by the given comparator or natural ordering.
+   */
+  @SuppressWarnings("unchecked")
+  static int compare(Comparator<?> comparator, Object k1, Object k2) {
+    return (comparator == null)
+        ? ((Comparable<Object>) k1).compareTo(k2)
+        : ((Comparator<Object>) comparator).compare(k1, k2);
+  }
+
+  /**
+   * Finds the first index in the range whose key is greater than or equal to ({@code inclusive}), or greater than
+   * (not {@code inclusive}), the given key.
+   *
+   * @return  The index or {@code to} when none
+   */
+  static int search(Object[] keys, int from, int to, Comparator<?> comparator, Object key, boolean inclusive) {
+    int low = from;
+    int high = to;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      int diff = compare(comparator, keys[mid], key);
+      if (diff < 0 || (diff == 0 && !inclusive)) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  private final Object[] elements;
+  private final int from;
+  private final int to;
+  private final boolean descending;
+  private final Comparator<? super E> comparator;
+
+  /**
+   * Creates a view of the range of a sorted array.
+   *
+   * @param  comparator  The ascending comparator or {@code null} for natural ordering
+   */
+  SortedArrayNavigableSet(Object[] elements, int from, int to, boolean descending, Comparator<? super E> comparator) {
+    this.elements = elements;
+    this.from = from;
+    this.to = to;
+    this.descending = descending;
+    this.comparator = comparator;
+  }
+
+  @SuppressWarnings("unchecked")
+  private E elementAt(int index) {
+    return (index >= from && index < to) ? (E) elements[index] : null;
+  }
+
+  private int ceilingIndex(Object e) {
+    return search(elements, from, to, comparator, e, true);
+  }
+
+  private int higherIndex(Object e) {
+    return search(elements, from, to, comparator, e, false);
+  }
+
+  /**
+   * Creates a view of a sub-range, in the same direction as this set.
+   */
+  private SortedArrayNavigableSet<E> range(int subFrom, int subTo) {
+    return new SortedArrayNavigableSet<>(elements, subFrom, Math.max(subFrom, subTo), descending, comparator);
+  }
+
+  @Override
+  public int size() {
+    return to - from;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return to == from;
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    int i = ceilingIndex(o);
+    return i < to && compare(comparator, elements[i], o) == 0;
+  }
+
+  @Override
+  public Object[] toArray() {
+    Object[] array = Arrays.copyOfRange(elements, from, to);
+    if (descending) {
+      Collections.reverse(Arrays.asList(array));
+    }
+    return array;
+  }
+
+  /**
+   * Iterates a range of an array in either direction.
+   */
+  static final class ArrayIterator<T> implements Iterator<T> {
+    private final Object[] array;
+    private final int from;
+    private final int to;
+    private final boolean descending;
+    private int next;
+
+    ArrayIterator(Object[] array, int from, int to, boolean descending) {
+      this.array = array;
+      this.from = from;
+      this.to = to;
+      this.descending = descending;
+      this.next = descending ? (to - 1) : from;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return descending ? (next >= from) : (next < to);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T next() throws NoSuchElementException {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      T t = (T) array[next];
+      next += descending ? -1 : 1;
+      return t;
+    }
+  }
+
+  @Override
+  public Iterator<E> iterator() {
+    return new ArrayIterator<>(elements, from, to, descending);
+  }
+
+  @Override
+  public Iterator<E> descendingIterator() {
+    return new ArrayIterator<>(elements, from, to, !descending);
+  }
+
+  @Override
+  public Comparator<? super E> comparator() {
+    return descending ? Collections.reverseOrder(comparator) : comparator;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public E first() throws NoSuchElementException {
+    if (isEmpty()) {
+      throw new NoSuchElementException();
+    }
+    return (E) elements[descending ? (to - 1) : from];
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public E last() throws NoSuchElementException {
+    if (isEmpty()) {
+      throw new NoSuchElementException();
+    }
+    return (E) elements[descending ? from : (to - 1)];
+  }
+
+  @Override
+  public E lower(E e) {
+    return elementAt(descending ? higherIndex(e) : (ceilingIndex(e) - 1));
+  }
+
+  @Override
+  public E floor(E e) {
+    return elementAt(descending ? ceilingIndex(e) : (higherIndex(e) - 1));
+  }
+
+  @Override
+  public E ceiling(E e) {
+    return elementAt(descending ? (higherIndex(e) - 1) : ceilingIndex(e));
+  }
+
+  @Override
+  public E higher(E e) {
+    return elementAt(descending ? (ceilingIndex(e) - 1) : higherIndex(e));
+  }
+
+  /**
+   * Not supported.
+   *
+   * @throws  UnsupportedOperationException  always
+   */
+  @Override
+  public E pollFirst() throws UnsupportedOperationException {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Not supported.
+   *
+   * @throws  UnsupportedOperationException  always
+   */
+  @Override
+  public E pollLast() throws UnsupportedOperationException {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public SortedArrayNavigableSet<E> descendingSet() {
+    return new SortedArrayNavigableSet<>(elements, from, to, !descending, comparator);
+  }
+
+  @Override
+  public SortedArrayNavigableSet<E> subSet(E fromElement, boolean fromInclusive, E toElement, boolean toInclusive) {
+    if (compare(comparator(), fromElement, toElement) > 0) {
+      throw new IllegalArgumentException("fromElement > toElement");
+    }
+    return headSet(toElement, toInclusive).tailSet(fromElement, fromInclusive);
+  }
+
+  @Override
+  public SortedArrayNavigableSet<E> headSet(E toElement, boolean inclusive) {
+    if (descending) {
+      return range(inclusive ? ceilingIndex(toElement) : higherIndex(toElement), to);
+    } else {
+      return range(from, inclusive ? higherIndex(toElement) : ceilingIndex(toElement));
+    }
+  }
+
+  @Override
+  public SortedArrayNavigableSet<E> tailSet(E fromElement, boolean inclusive) {
+    if (descending) {
+      return range(from, inclusive ? higherIndex(fromElement) : ceilingIndex(fromElement));
+    } else {
+      return range(inclusive ? ceilingIndex(fromElement) : higherIndex(fromElement), to);
+    }
+  }
+
+  @Override
+  public SortedArrayNavigableSet<E> subSet(E fromElement, E toElement) {
+    return subSet(fromElement, true, toElement, false);
+  }
+
+  @Override
+  public SortedArrayNavigableSet<E> headSet(E toElement) {
+    return headSet(toElement, false);
+  }
+
+  @Override
+  public SortedArrayNavigableSet<E> tailSet(E fromElement) {
+    return tailSet(fromElement, true);
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ * ao-collections-transformers - Bi-directional collection transformations for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections-transformers.
+ *
+ * ao-collections-transformers is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections-transformers is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections-transformers.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections.transformers;
+
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Converts and sorts the argument of a bulk load into a {@link TreeMap} or {@link TreeSet} so that it takes its
+ * linear-time build from sorted input.
+ *
+ * <p>{@link TreeMap#putAll(java.util.Map)} and {@link TreeSet#addAll(java.util.Collection)} only build from sorted
+ * input when empty and given a {@link SortedMap} or {@link SortedSet} with an equal comparator.  A transformed view of
+ * the argument never qualifies, since its order is not that of the wrapped comparator.  Instead, the argument is
+ * converted into an array and sorted by the wrapped comparator, which is itself linear when already in order, then
+ * presented as a {@link SortedArrayNavigableMap} or {@link SortedArrayNavigableSet} sharing that comparator.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+final class SortedLoad {
+
+  /** Make no instances. */
+  private SortedLoad() {
+    throw new AssertionError();
+  }
+
+  /**
+   * Converts the given map into the wrapped types, sorted by the given comparator.
+   * When multiple entries convert to equal keys, the last one is kept, as would be by sequential puts.
+   *
+   * @param  comparator  The comparator of the map being loaded, {@code null} for natural ordering
+   */
+  static <K, V, KW, VW> SortedMap<KW, VW> sortedMap(
+      Map<? extends K, ? extends V> m,
+      Transformer<K, KW> keyTransformer,
+      Transformer<V, VW> valueTransformer,
+      Comparator<? super KW> comparator
+  ) {
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    Map.Entry<KW, VW>[] entries = new Map.Entry[m.size()];
+    int size = 0;
+    for (Map.Entry<? extends K, ? extends V> entry : m.entrySet()) {
+      if (size == entries.length) {
+        entries = Arrays.copyOf(entries, Math.max(16, size << 1));
+      }
+      entries[size++] = new AbstractMap.SimpleImmutableEntry<>(
+          keyTransformer.toWrapped(entry.getKey()),
+          valueTransformer.toWrapped(entry.getValue())
+      );
+    }
+    return SortedArrayNavigableMap.sort(entries, size, comparator);
+  }
+
+  /**
+   * Converts the given collection into the wrapped type, sorted by the given comparator.
+   * When multiple elements convert to equal elements, the first one is kept, as would be by sequential adds.
+   *
+   * @param  comparator  The comparator of the set being loaded, {@code null} for natural ordering
+   */
+  static <E, W> SortedSet<W> sortedSet(
+      Collection<? extends E> c,
+      Transformer<E, W> transformer,
+      Comparator<? super W> comparator
+  ) {
+    Object[] elements = new Object[c.size()];
+    int size = 0;
+    for (E e : c) {
+      if (size == elements.length) {
+        elements = Arrays.copyOf(elements, Math.max(16, size << 1));
+      }
+      elements[size++] = transformer.toWrapped(e);
+    }
+    return SortedArrayNavigableSet.sort(elements, size, comparator);
+  }
+}
@@ -0,0 +1,636 @@
+/*
+ * ao-collections-transformers - Bi-directional collection transformations for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections-transformers.
+ *
+ * ao-collections-transformers is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections-transformers is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections-transformers.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections.transformers;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * A thread-safe {@link Map} partitioned by key hash across a fixed number of {@link HashMap} shards, each guarded by
+ * its own lock.  Unlike {@link java.util.concurrent.ConcurrentHashMap}, {@code null} keys and values are allowed,
+ * with the same meaning as in {@link HashMap}.
+ *
+ * <p>Single-key operations, including {@link #compute(java.lang.Object, java.util.function.BiFunction)} and the other
+ * atomic defaults, lock only the shard of the key.  The functions given to them are called while holding that lock,
+ * and must not access this map.</p>
+ *
+ * <p>Iteration of {@link #entrySet()}, {@link #keySet()}, and {@link #values()}, as well as
+ * {@link #forEach(java.util.function.BiConsumer)}, {@link #equals(java.lang.Object)}, and {@link #hashCode()}, is
+ * over a consistent snapshot taken while holding the locks of all shards.  Iterator removal and
+ * {@link java.util.Map.Entry#setValue(java.lang.Object)} write through to this map by key.
+ * {@link #size()} and {@link #containsValue(java.lang.Object)} lock one shard at a time.</p>
+ *
+ * <p>To expose with type conversion, see
+ * {@link #transformMap(int, com.aoapps.collections.transformers.Transformer, com.aoapps.collections.transformers.Transformer)}.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+public final class StripedHashMap<K, V> extends AbstractMap<K, V> {
+
+  /**
+   * Creates a {@link TransformMap} backed by a new striped map of the converted keys and values.
+   *
+   * @param  stripes  The number of shards, rounded up to a power of two, at least one
+   *
+   * @throws  IllegalArgumentException  when {@code stripes < 1}
+   */
+  public static <K, V, KW, VW> TransformMap<K, V, KW, VW> transformMap(
+      int stripes,
+      Transformer<K, KW> keyTransformer,
+      Transformer<V, VW> valueTransformer
+  ) throws IllegalArgumentException {
+    return TransformMap.of(new StripedHashMap<>(stripes), keyTransformer, valueTransformer);
+  }
+
+  /**
+   * A shard of the map is its own lock.
+   */
+  private static final class Shard<K, V> extends ReentrantLock {
+    private static final long serialVersionUID = 1L;
+
+    private final transient HashMap<K, V> map = new HashMap<>();
+  }
+
+  private final Shard<K, V>[] shards;
+  private final int shift;
+
+  /**
+   * Creates an empty map.
+   *
+   * @param  stripes  The number of shards, rounded up to a power of two, at least one
+   *
+   * @throws  IllegalArgumentException  when {@code stripes < 1}
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public StripedHashMap(int stripes) throws IllegalArgumentException {
+    if (stripes < 1) {
+      throw new IllegalArgumentException("stripes < 1: " + stripes);
+    }
+    int size = Integer.highestOneBit(stripes);
+    if (size < stripes) {
+      size <<= 1;
+    }
+    shards = new Shard[size];
+    for (int i = 0; i < size; i++) {
+      shards[i] = new Shard<>();
+    }
+    shift = 32 - Integer.numberOfTrailingZeros(size);
+  }
+
+  /**
+   * Creates an empty map with one shard per available processor.
+   */
+  public StripedHashMap() {
+    this(Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Selects the shard by the high bits of the mixed hash, so the shard is independent of the low bits used to select
+   * a bucket within the shard.
+   */
+  private Shard<K, V> shard(Object key) {
+    return (shift == 32) ? shards[0] : shards[(Objects.hashCode(key) * 0x9E3779B9) >>> shift];
+  }
+
+  private void lockAll() {
+    for (Shard<K, V> shard : shards) {
+      shard.lock();
+    }
+  }
+
+  private void unlockAll() {
+    for (int i = shards.length - 1; i >= 0; i--) {
+      shards[i].unlock();
+    }
+  }
+
+  @Override
+  public int size() {
+    long size = 0;
+    for (Shard<K, V> shard : shards) {
+      shard.lock();
+      try {
+        size += shard.map.size();
+      } finally {
+        shard.unlock();
+      }
+    }
+    return (int) Math.min(size, Integer.MAX_VALUE);
+  }
+
+  @Override
+  public boolean isEmpty() {
+    for (Shard<K, V> shard : shards) {
+      shard.lock();
+      try {
+        if (!shard.map.isEmpty()) {
+          return false;
+        }
+      } finally {
+        shard.unlock();
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    Shard<K, V> shard = shard(key);
+    shard.lock();
+    try {
+      return shard.map.containsKey(key);
+    } finally {
+      shard.unlock();
+    }
+  }
+
+  @Override
+  public boolean containsValue(Object value) {
+    for (Shard<K, V> shard : shards) {
+      shard.lock();
+      try {
+        if (shard.map.containsValue(value)) {
+          return true;
+        }
+      } finally {
+        shard.unlock();
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public V get(Object key) {
+    Shard<K, V> shard = shard(key);
+    shard.lock();
+    try {
+      return shard.map.get(key);
+    } finally {
+      shard.unlock();
+    }
+  }
+
+  @Override
+  public V getOrDefault(Object key, V defaultValue) {
+    Shard<K, V> shard = shard(key);
+    shard.lock();
+    try {
+      return shard.map.getOrDefault(key, defaultValue);
+    } finally {
+      shard.unlock();
+    }
+  }
+
+  @Override
+  public V put(K key, V value) {
+    Shard<K, V> shard = shard(key);
+    shard.lock();
+    try {
+      return shard.map.put(key, value);
+    } finally {
+      shard.unlock();
+    }
+  }
+
+  @Override
+  public V remove(Object key) {
+    Shard<K, V> shard = shard(key);
+    shard.lock();
+    try {
+      return shard.map.remove(key);
+    } finally {
+      shard.unlock();
+    }
+  }
+
+  /**
+   * Removes the given key, if present.
+   *
+   * @return  {@code true} when removed, even when mapped to {@code null}
+   */
+  private boolean removeKey(Object key) {
+    Shard<K, V> shard = shard(key);
+    shard.lock();
+    try {
+      if (shard.map.containsKey(key)) {
+        shard.map.remove(key);
+        return true;
+      }
+      return false;
+    } finally {
+      shard.unlock();
+    }
+  }
+
+  @Override
+  public void putAll(Map<? extends K, ? extends V> m) {
+    for (Map.Entry<? extends K, ? extends V> entry : m.entrySet()) {
+      put(entry.getKey(), entry.getValue());
+    }
+  }
+
+  @Override
+  public void clear() {
+    lockAll();
+    try {
+      for (Shard<K, V> shard : shards) {
+        shard.map.clear();
+      }
+    } finally {
+      unlockAll();
+    }
+  }
+
+  @Override
+  public V putIfAbsent(K key, V value) {
+    Shard<K, V> shard = shard(key);
+    shard.lock();
+    try {
+      return shard.map.putIfAbsent(key, value);
+    } finally {
+      shard.unlock();
+    }
+  }
+
+  @Override
+  public boolean remove(Object key, Object value) {
+    Shard<K, V> shard = shard(key);
+    shard.lock();
+    try {
+      return shard.map.remove(key, value);
+    } finally {
+      shard.unlock();
+    }
+  }
+
+  @Override
+  public boolean replace(K key, V oldValue, V newValue) {
+    Shard<K, V> shard = shard(key);
+    shard.lock();
+    try {
+      return shard.map.replace(key, oldValue, newValue);
+    } finally {
+      shard.unlock();
+    }
+  }
+
+  @Override
+  public V replace(K key, V value) {
+    Shard<K, V> shard = shard(key);
+    shard.lock();
+    try {
+      return shard.map.replace(key, value);
+    } finally {
+      shard.unlock();
+    }
+  }
+
+  @Override
+  public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+    Shard<K, V> shard = shard(key);
+    shard.lock();
+    try {
+      return shard.map.computeIfAbsent(key, mappingFunction);
+    } finally {
+      shard.unlock();
+    }
+  }
+
+  @Override
+  public V computeIfPresent(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+    Shard<K, V> shard = shard(key);
+    shard.lock();
+    try {
+      return shard.map.computeIfPresent(key, remappingFunction);
+    } finally {
+      shard.unlock();
+    }
+  }
+
+  @Override
+  public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+    Shard<K, V> shard = shard(key);
+    shard.lock();
+    try {
+      return shard.map.compute(key, remappingFunction);
+    } finally {
+      shard.unlock();
+    }
+  }
+
+  @Override
+  public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+    Shard<K, V> shard = shard(key);
+    shard.lock();
+    try {
+      return shard.map.merge(key, value, remappingFunction);
+    } finally {
+      shard.unlock();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Each shard is replaced while holding its lock.</p>
+   */
+  @Override
+  public void replaceAll(BiFunction<? super K, ? super V, ? extends V> function) {
+    for (Shard<K, V> shard : shards) {
+      shard.lock();
+      try {
+        shard.map.replaceAll(function);
+      } finally {
+        shard.unlock();
+      }
+    }
+  }
+
+  /**
+   * A consistent copy of the keys and values of all shards.
+   */
+  private final class Snapshot {
+    private final Object[] keys;
+    private final Object[] values;
+
+    private Snapshot() {
+      lockAll();
+      try {
+        long total = 0;
+        for (Shard<K, V> shard : shards) {
+          total += shard.map.size();
+        }
+        if (total > Integer.MAX_VALUE - 8) {
+          throw new OutOfMemoryError("Too many entries for snapshot: " + total);
+        }
+        keys = new Object[(int) total];
+        values = new Object[(int) total];
+        int i = 0;
+        for (Shard<K, V> shard : shards) {
+          for (Map.Entry<K, V> entry : shard.map.entrySet()) {
+            keys[i] = entry.getKey();
+            values[i] = entry.getValue();
+            i++;
+          }
+        }
+      } finally {
+        unlockAll();
+      }
+    }
+  }
+
+  /**
+   * Iterates a snapshot, removing from this map by key.
+   */
+  private abstract class SnapshotIterator<T> implements Iterator<T> {
+    final Snapshot snapshot = new Snapshot();
+    int next;
+    int last = -1;
+
+    @Override
+    public boolean hasNext() {
+      return next < snapshot.keys.length;
+    }
+
+    abstract T get(int index);
+
+    @Override
+    public T next() throws NoSuchElementException {
+      if (next >= snapshot.keys.length) {
+        throw new NoSuchElementException();
+      }
+      last = next++;
+      return get(last);
+    }
+
+    @Override
+    public void remove() throws IllegalStateException {
+      if (last == -1) {
+        throw new IllegalStateException();
+      }
+      StripedHashMap.this.remove(snapshot.keys[last]);
+      last = -1;
+    }
+  }
+
+  /**
+   * An entry of a snapshot, setting its value through to this map.
+   */
+  private final class SnapshotEntry extends AbstractMap.SimpleEntry<K, V> {
+    private static final long serialVersionUID = 1L;
+
+    private SnapshotEntry(K key, V value) {
+      super(key, value);
+    }
+
+    @Override
+    public V setValue(V value) {
+      put(getKey(), value);
+      return super.setValue(value);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Iterates a consistent snapshot.</p>
+   */
+  @Override
+  public void forEach(BiConsumer<? super K, ? super V> action) {
+    Snapshot snapshot = new Snapshot();
+    for (int i = 0; i < snapshot.keys.length; i++) {
+      @SuppressWarnings("unchecked")
+      K key = (K) snapshot.keys[i];
+      @SuppressWarnings("unchecked")
+      V value = (V) snapshot.values[i];
+      action.accept(key, value);
+    }
+  }
+
+  private Set<Map.Entry<K, V>> entrySet;
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Iterates a consistent snapshot.</p>
+   */
+  @Override
+  public Set<Map.Entry<K, V>> entrySet() {
+    Set<Map.Entry<K, V>> es = entrySet;
+    if (es == null) {
+      es = new AbstractSet<>() {
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator() {
+          return new SnapshotIterator<>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            Map.Entry<K, V> get(int index) {
+              return new SnapshotEntry((K) snapshot.keys[index], (V) snapshot.values[index]);
+            }
+          };
+        }
+
+        @Override
+        public int size() {
+          return StripedHashMap.this.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+          if (!(o instanceof Map.Entry)) {
+            return false;
+          }
+          Map.Entry<?, ?> entry = (Map.Entry<?, ?>) o;
+          Object key = entry.getKey();
+          Shard<K, V> shard = shard(key);
+          shard.lock();
+          try {
+            return shard.map.containsKey(key) && Objects.equals(shard.map.get(key), entry.getValue());
+          } finally {
+            shard.unlock();
+          }
+        }
+
+        @Override
+        public boolean remove(Object o) {
+          if (!(o instanceof Map.Entry)) {
+            return false;
+          }
+          Map.Entry<?, ?> entry = (Map.Entry<?, ?>) o;
+          return StripedHashMap.this.remove(entry.getKey(), entry.getValue());
+        }
+
+        @Override
+        public void clear() {
+          StripedHashMap.this.clear();
+        }
+      };
+      entrySet = es;
+    }
+    return es;
+  }
+
+  private Set<K> keySet;
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Iterates a consistent snapshot.</p>
+   */
+  @Override
+  public Set<K> keySet() {
+    Set<K> ks = keySet;
+    if (ks == null) {
+      ks = new AbstractSet<>() {
+        @Override
+        public Iterator<K> iterator() {
+          return new SnapshotIterator<>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            K get(int index) {
+              return (K) snapshot.keys[index];
+            }
+          };
+        }
+
+        @Override
+        public int size() {
+          return StripedHashMap.this.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+          return containsKey(o);
+        }
+
+        @Override
+        public boolean remove(Object o) {
+          return removeKey(o);
+        }
+
+        @Override
+        public void clear() {
+          StripedHashMap.this.clear();
+        }
+      };
+      keySet = ks;
+    }
+    return ks;
+  }
+
+  private Collection<V> values;
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Iterates a consistent snapshot.</p>
+   */
+  @Override
+  public Collection<V> values() {
+    Collection<V> v = values;
+    if (v == null) {
+      v = new AbstractCollection<>() {
+        @Override
+        public Iterator<V> iterator() {
+          return new SnapshotIterator<>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            V get(int index) {
+              return (V) snapshot.values[index];
+            }
+          };
+        }
+
+        @Override
+        public int size() {
+          return StripedHashMap.this.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+          return containsValue(o);
+        }
+
+        @Override
+        public void clear() {
+          StripedHashMap.this.clear();
+        }
+      };
+      values = v;
+    }
+    return v;
+  }
+}
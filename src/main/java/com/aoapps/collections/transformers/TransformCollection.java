@@ -1,6 +1,6 @@
 /*
  * ao-collections-transformers - Bi-directional collection transformations for Java.
- * Copyright (C) 2020, 2021, 2022, 2025  AO Industries, Inc.
+ * Copyright (C) 2020, 2021, 2022, 2025, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -96,28 +96,55 @@ public class TransformCollection<E, W> extends TransformIterable<E, W> implement
     return getWrapped().contains(transformer.unbounded().toWrapped(o));
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * @return  A new array of the converted elements
+   */
   @Override
   public Object[] toArray() {
-    return getWrapped().toArray();
+    TransformStats.iteration(transformer);
+    ViewMaterializationEvent event = new ViewMaterializationEvent();
+    event.begin();
+    // The wrapped array may be of a narrower component type, such as W[], so is not reused
+    Object[] wrapped = getWrapped().toArray();
+    Object[] array = new Object[wrapped.length];
+    for (int i = 0; i < wrapped.length; i++) {
+      @SuppressWarnings("unchecked")
+      W w = (W) wrapped[i];
+      array[i] = transformer.fromWrapped(w);
+    }
+    event.commit(this, transformer, array.length);
+    return array;
   }
 
   @Override
   @SuppressWarnings("SuspiciousToArrayCall")
   public <T> T[] toArray(T[] a) {
+    TransformStats.iteration(transformer);
+    ViewMaterializationEvent event = new ViewMaterializationEvent();
+    event.begin();
     List<E> list = new ArrayList<>(size());
     for (W w : getWrapped()) {
       list.add(transformer.fromWrapped(w));
     }
-    return list.toArray(a);
+    T[] array = list.toArray(a);
+    event.commit(this, transformer, list.size());
+    return array;
   }
 
   @Override
   public <T> T[] toArray(IntFunction<T[]> generator) {
+    TransformStats.iteration(transformer);
+    ViewMaterializationEvent event = new ViewMaterializationEvent();
+    event.begin();
     List<E> list = new ArrayList<>(size());
     for (W w : getWrapped()) {
       list.add(transformer.fromWrapped(w));
     }
-    return list.toArray(generator);
+    T[] array = list.toArray(generator);
+    event.commit(this, transformer, list.size());
+    return array;
   }
 
   @Override
@@ -133,38 +160,63 @@ public class TransformCollection<E, W> extends TransformIterable<E, W> implement
   @Override
   @SuppressWarnings("unchecked")
   public boolean containsAll(Collection<?> c) {
-    return getWrapped().containsAll(
+    TransformStats.bulkOperation(transformer);
+    BulkViewOperationEvent event = new BulkViewOperationEvent();
+    event.begin();
+    boolean containsAll = getWrapped().containsAll(
         of((Collection<Object>) c, transformer.invert().unbounded())
     );
+    event.commit(this, "containsAll", c);
+    return containsAll;
   }
 
   @Override
   @SuppressWarnings("unchecked")
   public boolean addAll(Collection<? extends E> c) {
-    return getWrapped().addAll(
+    TransformStats.bulkOperation(transformer);
+    BulkViewOperationEvent event = new BulkViewOperationEvent();
+    event.begin();
+    boolean modified = getWrapped().addAll(
         of((Collection<E>) c, transformer.invert())
     );
+    event.commit(this, "addAll", c);
+    return modified;
   }
 
   @Override
   @SuppressWarnings("unchecked")
   public boolean removeAll(Collection<?> c) {
-    return getWrapped().removeAll(
+    TransformStats.bulkOperation(transformer);
+    BulkViewOperationEvent event = new BulkViewOperationEvent();
+    event.begin();
+    boolean modified = getWrapped().removeAll(
         of((Collection<Object>) c, transformer.invert().unbounded())
     );
+    event.commit(this, "removeAll", c);
+    return modified;
   }
 
   @Override
   public boolean removeIf(Predicate<? super E> filter) {
-    return getWrapped().removeIf(w -> filter.test(transformer.fromWrapped(w)));
+    TransformStats.bulkOperation(transformer);
+    BulkViewOperationEvent event = new BulkViewOperationEvent();
+    event.begin();
+    boolean modified = getWrapped().removeIf(w -> filter.test(transformer.fromWrapped(w)));
+    event.commit(this, "removeIf", getWrapped());
+    return modified;
   }
 
   @Override
   @SuppressWarnings("unchecked")
   public boolean retainAll(Collection<?> c) {
-    return getWrapped().retainAll(
+    TransformStats.bulkOperation(transformer);
+    BulkViewOperationEvent event = new BulkViewOperationEvent();
+    event.begin();
+    boolean modified = getWrapped().retainAll(
         of((Collection<Object>) c, transformer.invert().unbounded())
     );
+    event.commit(this, "retainAll", c);
+    return modified;
   }
 
   @Override
@@ -1,6 +1,6 @@
 /*
  * ao-collections-transformers - Bi-directional collection transformations for Java.
- * Copyright (C) 2020, 2021, 2022  AO Industries, Inc.
+ * Copyright (C) 2020, 2021, 2022, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -139,6 +139,7 @@ public class TransformDeque<E, W> extends TransformQueue<E, W> implements Deque<
 
   @Override
   public TransformIterator<E, W> descendingIterator() {
+    TransformStats.iteration(transformer);
     return TransformIterator.of(getWrapped().descendingIterator(), transformer);
   }
 }
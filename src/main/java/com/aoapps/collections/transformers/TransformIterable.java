@@ -1,6 +1,6 @@
 /*
  * ao-collections-transformers - Bi-directional collection transformations for Java.
- * Copyright (C) 2020, 2021, 2022  AO Industries, Inc.
+ * Copyright (C) 2020, 2021, 2022, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -71,12 +71,17 @@ public class TransformIterable<E, W> implements Iterable<E> {
 
   @Override
   public TransformIterator<E, W> iterator() {
+    TransformStats.iteration(transformer);
     return TransformIterator.of(wrapped.iterator(), transformer);
   }
 
   @Override
   public void forEach(Consumer<? super E> action) {
+    TransformStats.iteration(transformer);
+    BulkViewOperationEvent event = new BulkViewOperationEvent();
+    event.begin();
     getWrapped().forEach(w -> action.accept(transformer.fromWrapped(w)));
+    event.commit(this, "forEach", getWrapped());
   }
 
   // TODO: spliterator()?
@@ -1,6 +1,6 @@
 /*
  * ao-collections-transformers - Bi-directional collection transformations for Java.
- * Copyright (C) 2020, 2021, 2022  AO Industries, Inc.
+ * Copyright (C) 2020, 2021, 2022, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -25,8 +25,12 @@ package com.aoapps.collections.transformers;
 
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.ConcurrentModificationException;
 import java.util.List;
 import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.function.UnaryOperator;
 
 /**
@@ -71,24 +75,169 @@ public class TransformList<E, W> extends TransformCollection<E, W> implements Li
   @Override
   @SuppressWarnings("unchecked")
   public boolean addAll(int index, Collection<? extends E> c) {
-    return getWrapped().addAll(
+    TransformStats.bulkOperation(transformer);
+    BulkViewOperationEvent event = new BulkViewOperationEvent();
+    event.begin();
+    boolean modified = getWrapped().addAll(
         index,
         of((Collection<E>) c, transformer.invert())
     );
+    event.commit(this, "addAll", c);
+    return modified;
   }
 
   @Override
   public void replaceAll(UnaryOperator<E> operator) {
+    TransformStats.bulkOperation(transformer);
+    BulkViewOperationEvent event = new BulkViewOperationEvent();
+    event.begin();
     getWrapped().replaceAll(
         w -> transformer.toWrapped(operator.apply(transformer.fromWrapped(w)))
     );
+    event.commit(this, "replaceAll", getWrapped());
+  }
+
+  /**
+   * Calls {@link #parallelReplaceAll(java.util.function.UnaryOperator, java.util.concurrent.ForkJoinPool, int)} in the
+   * {@linkplain ForkJoinPool#commonPool() common pool} with the default threshold.
+   */
+  public void parallelReplaceAll(UnaryOperator<E> operator) {
+    parallelReplaceAll(operator, ForkJoinPool.commonPool(), ParallelSupport.DEFAULT_THRESHOLD);
+  }
+
+  /**
+   * Replaces each element of this list with the result of applying the operator, in parallel.
+   *
+   * <p>When the wrapped list implements {@link RandomAccess} and has more than {@code threshold} elements, elements
+   * are read, converted, and passed to the operator by fork/join tasks over index ranges of no more than
+   * {@code threshold} elements.  The results are then stored by a single, in-order call to
+   * {@link List#replaceAll(java.util.function.UnaryOperator)} of the wrapped list.  Otherwise, this is the same as
+   * {@link #replaceAll(java.util.function.UnaryOperator)}.</p>
+   *
+   * <p>The operator must be safe for concurrent use, and the list must not be modified during this call.</p>
+   *
+   * @throws  IllegalArgumentException  when {@code threshold < 1}
+   * @throws  ConcurrentModificationException  when the size of the wrapped list changes during this call
+   */
+  public void parallelReplaceAll(UnaryOperator<E> operator, ForkJoinPool pool, int threshold)
+      throws IllegalArgumentException, ConcurrentModificationException {
+    ParallelSupport.checkThreshold(threshold);
+    List<W> wrapped = getWrapped();
+    int size = wrapped.size();
+    if (!(wrapped instanceof RandomAccess) || size <= threshold) {
+      replaceAll(operator);
+      return;
+    }
+    TransformStats.bulkOperation(transformer);
+    BulkViewOperationEvent event = new BulkViewOperationEvent();
+    event.begin();
+    Object[] results = new Object[size];
+    ParallelSupport.forEachIndex(pool, size, threshold, (from, to) -> {
+      for (int i = from; i < to; i++) {
+        results[i] = transformer.toWrapped(operator.apply(transformer.fromWrapped(wrapped.get(i))));
+      }
+    });
+    if (wrapped.size() != size) {
+      throw new ConcurrentModificationException();
+    }
+    wrapped.replaceAll(new ParallelSupport.Replacements<>(results));
+    event.commit(this, "parallelReplaceAll", wrapped);
+  }
+
+  /**
+   * Calls {@link #parallelForEach(java.util.function.Consumer, java.util.concurrent.ForkJoinPool, int)} in the
+   * {@linkplain ForkJoinPool#commonPool() common pool} with the default threshold.
+   */
+  public void parallelForEach(Consumer<? super E> action) {
+    parallelForEach(action, ForkJoinPool.commonPool(), ParallelSupport.DEFAULT_THRESHOLD);
+  }
+
+  /**
+   * Performs the action for each element of this list, in parallel and in no particular order.
+   *
+   * <p>When the wrapped list implements {@link RandomAccess} and has more than {@code threshold} elements, elements
+   * are read, converted, and passed to the action by fork/join tasks over index ranges of no more than
+   * {@code threshold} elements.  Otherwise, this is the same as {@link #forEach(java.util.function.Consumer)}.</p>
+   *
+   * <p>The action must be safe for concurrent use, and the list must not be modified during this call.</p>
+   *
+   * @throws  IllegalArgumentException  when {@code threshold < 1}
+   */
+  public void parallelForEach(Consumer<? super E> action, ForkJoinPool pool, int threshold)
+      throws IllegalArgumentException {
+    ParallelSupport.checkThreshold(threshold);
+    List<W> wrapped = getWrapped();
+    int size = wrapped.size();
+    if (!(wrapped instanceof RandomAccess) || size <= threshold) {
+      forEach(action);
+      return;
+    }
+    TransformStats.iteration(transformer);
+    BulkViewOperationEvent event = new BulkViewOperationEvent();
+    event.begin();
+    ParallelSupport.forEachIndex(pool, size, threshold, (from, to) -> {
+      for (int i = from; i < to; i++) {
+        action.accept(transformer.fromWrapped(wrapped.get(i)));
+      }
+    });
+    event.commit(this, "parallelForEach", wrapped);
+  }
+
+  /**
+   * Calls {@link #parallelRemoveIf(java.util.function.Predicate, java.util.concurrent.ForkJoinPool, int)} in the
+   * {@linkplain ForkJoinPool#commonPool() common pool} with the default threshold.
+   */
+  public boolean parallelRemoveIf(Predicate<? super E> filter) {
+    return parallelRemoveIf(filter, ForkJoinPool.commonPool(), ParallelSupport.DEFAULT_THRESHOLD);
+  }
+
+  /**
+   * Removes all elements of this list matching the filter, evaluating the filter in parallel.
+   *
+   * <p>When the wrapped list implements {@link RandomAccess} and has more than {@code threshold} elements, elements
+   * are read, converted, and tested by fork/join tasks over index ranges of no more than {@code threshold} elements.
+   * The matches are then removed by a single, in-order call to {@link List#removeIf(java.util.function.Predicate)}
+   * of the wrapped list.  Otherwise, this is the same as {@link #removeIf(java.util.function.Predicate)}.</p>
+   *
+   * <p>The filter must be safe for concurrent use, and the list must not be modified during this call.</p>
+   *
+   * @throws  IllegalArgumentException  when {@code threshold < 1}
+   * @throws  ConcurrentModificationException  when the size of the wrapped list changes during this call
+   */
+  public boolean parallelRemoveIf(Predicate<? super E> filter, ForkJoinPool pool, int threshold)
+      throws IllegalArgumentException, ConcurrentModificationException {
+    ParallelSupport.checkThreshold(threshold);
+    List<W> wrapped = getWrapped();
+    int size = wrapped.size();
+    if (!(wrapped instanceof RandomAccess) || size <= threshold) {
+      return removeIf(filter);
+    }
+    TransformStats.bulkOperation(transformer);
+    BulkViewOperationEvent event = new BulkViewOperationEvent();
+    event.begin();
+    boolean[] results = new boolean[size];
+    ParallelSupport.forEachIndex(pool, size, threshold, (from, to) -> {
+      for (int i = from; i < to; i++) {
+        results[i] = filter.test(transformer.fromWrapped(wrapped.get(i)));
+      }
+    });
+    if (wrapped.size() != size) {
+      throw new ConcurrentModificationException();
+    }
+    boolean modified = wrapped.removeIf(new ParallelSupport.Removals<>(results));
+    event.commit(this, "parallelRemoveIf", wrapped);
+    return modified;
   }
 
   @Override
   public void sort(Comparator<? super E> c) {
+    TransformStats.bulkOperation(transformer);
+    BulkViewOperationEvent event = new BulkViewOperationEvent();
+    event.begin();
     getWrapped().sort(
         TransformComparator.of(c, transformer.invert())
     );
+    event.commit(this, "sort", getWrapped());
   }
 
   @Override
@@ -133,11 +282,13 @@ public class TransformList<E, W> extends TransformCollection<E, W> implements Li
 
   @Override
   public TransformListIterator<E, W> listIterator() {
+    TransformStats.iteration(transformer);
     return TransformListIterator.of(getWrapped().listIterator(), transformer);
   }
 
   @Override
   public TransformListIterator<E, W> listIterator(int index) {
+    TransformStats.iteration(transformer);
     return TransformListIterator.of(getWrapped().listIterator(index), transformer);
   }
 
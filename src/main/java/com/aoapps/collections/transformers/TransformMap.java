@@ -1,6 +1,6 @@
 /*
  * ao-collections-transformers - Bi-directional collection transformations for Java.
- * Copyright (C) 2020, 2021, 2022  AO Industries, Inc.
+ * Copyright (C) 2020, 2021, 2022, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -23,9 +23,12 @@
 
 package com.aoapps.collections.transformers;
 
+import java.util.ConcurrentModificationException;
 import java.util.Map;
 import java.util.Objects;
 import java.util.SortedMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -123,8 +126,12 @@ public class TransformMap<K, V, KW, VW> implements Map<K, V> {
   @Override
   @SuppressWarnings("unchecked")
   public void putAll(Map<? extends K, ? extends V> m) {
+    TransformStats.bulkOperation(keyTransformer, valueTransformer);
+    BulkViewOperationEvent event = new BulkViewOperationEvent();
+    event.begin();
     getWrapped().putAll(of((Map<K, V>) m, keyTransformer.invert(), valueTransformer.invert())
     );
+    event.commit(this, "putAll", m);
   }
 
   @Override
@@ -263,21 +270,166 @@ public class TransformMap<K, V, KW, VW> implements Map<K, V> {
 
   @Override
   public void forEach(BiConsumer<? super K, ? super V> action) {
+    TransformStats.iteration(keyTransformer, valueTransformer);
+    BulkViewOperationEvent event = new BulkViewOperationEvent();
+    event.begin();
     getWrapped().forEach((kw, vw) ->
         action.accept(keyTransformer.fromWrapped(kw),
             valueTransformer.fromWrapped(vw)
         )
     );
+    event.commit(this, "forEach", getWrapped());
   }
 
   @Override
   public void replaceAll(BiFunction<? super K, ? super V, ? extends V> function) {
+    TransformStats.bulkOperation(keyTransformer, valueTransformer);
+    BulkViewOperationEvent event = new BulkViewOperationEvent();
+    event.begin();
     getWrapped().replaceAll((kw, vw) ->
         valueTransformer.toWrapped(function.apply(keyTransformer.fromWrapped(kw),
             valueTransformer.fromWrapped(vw)
         )
         )
     );
+    event.commit(this, "replaceAll", getWrapped());
+  }
+
+  /**
+   * Calls {@link #parallelForEach(java.util.function.BiConsumer, java.util.concurrent.ForkJoinPool, int)} in the
+   * {@linkplain ForkJoinPool#commonPool() common pool} with the default threshold.
+   */
+  public void parallelForEach(BiConsumer<? super K, ? super V> action) {
+    parallelForEach(action, ForkJoinPool.commonPool(), ParallelSupport.DEFAULT_THRESHOLD);
+  }
+
+  /**
+   * Performs the action for each entry of this map, in parallel and in no particular order.
+   *
+   * <p>When the wrapped map is a {@link ConcurrentHashMap}, its
+   * {@link ConcurrentHashMap#forEach(long, java.util.function.BiConsumer)} is used with {@code threshold} as the
+   * parallelism threshold, which always runs in the common pool.  Otherwise, when the wrapped map has more than
+   * {@code threshold} entries, the spliterator of its entry set is split by fork/join tasks until no more than
+   * {@code threshold} entries each, and the entries are converted and passed to the action by those tasks.
+   * Otherwise, this is the same as {@link #forEach(java.util.function.BiConsumer)}.</p>
+   *
+   * <p>The action must be safe for concurrent use.  Other than a {@link ConcurrentHashMap}, the map must not be
+   * modified during this call.</p>
+   *
+   * @throws  IllegalArgumentException  when {@code threshold < 1}
+   */
+  public void parallelForEach(BiConsumer<? super K, ? super V> action, ForkJoinPool pool, int threshold)
+      throws IllegalArgumentException {
+    ParallelSupport.checkThreshold(threshold);
+    Map<KW, VW> wrapped = getWrapped();
+    if (wrapped instanceof ConcurrentHashMap) {
+      TransformStats.iteration(keyTransformer, valueTransformer);
+      BulkViewOperationEvent event = new BulkViewOperationEvent();
+      event.begin();
+      ((ConcurrentHashMap<KW, VW>) wrapped).forEach(threshold, (kw, vw) ->
+          action.accept(keyTransformer.fromWrapped(kw),
+              valueTransformer.fromWrapped(vw)
+          )
+      );
+      event.commit(this, "parallelForEach", wrapped);
+    } else if (wrapped.size() <= threshold) {
+      forEach(action);
+    } else {
+      TransformStats.iteration(keyTransformer, valueTransformer);
+      BulkViewOperationEvent event = new BulkViewOperationEvent();
+      event.begin();
+      ParallelSupport.forEach(pool, wrapped.entrySet().spliterator(), threshold, entry ->
+          action.accept(keyTransformer.fromWrapped(entry.getKey()),
+              valueTransformer.fromWrapped(entry.getValue())
+          )
+      );
+      event.commit(this, "parallelForEach", wrapped);
+    }
+  }
+
+  /**
+   * Calls {@link #parallelReplaceAll(java.util.function.BiFunction, java.util.concurrent.ForkJoinPool, int)} in the
+   * {@linkplain ForkJoinPool#commonPool() common pool} with the default threshold.
+   */
+  public void parallelReplaceAll(BiFunction<? super K, ? super V, ? extends V> function) {
+    parallelReplaceAll(function, ForkJoinPool.commonPool(), ParallelSupport.DEFAULT_THRESHOLD);
+  }
+
+  /**
+   * Replaces the value of each entry of this map with the result of the function, in parallel.
+   *
+   * <p>When the wrapped map is a {@link ConcurrentHashMap}, its
+   * {@link ConcurrentHashMap#forEach(long, java.util.function.BiConsumer)} is used with {@code threshold} as the
+   * parallelism threshold, which always runs in the common pool.  Each value is replaced atomically, retrying
+   * with the current value when concurrently changed, and skipped when concurrently removed.</p>
+   *
+   * <p>Otherwise, when the wrapped map has more than {@code threshold} entries, its keys and values are copied in a
+   * single pass, then converted and passed to the function by fork/join tasks over index ranges of no more than
+   * {@code threshold} entries.  The results are then stored by a single, in-order call to
+   * {@link Map#replaceAll(java.util.function.BiFunction)} of the wrapped map.  Otherwise, this is the same as
+   * {@link #replaceAll(java.util.function.BiFunction)}.</p>
+   *
+   * <p>The function must be safe for concurrent use.  Other than a {@link ConcurrentHashMap}, the map must not be
+   * modified during this call.</p>
+   *
+   * @throws  IllegalArgumentException  when {@code threshold < 1}
+   * @throws  ConcurrentModificationException  when the entries of the wrapped map change during this call
+   */
+  public void parallelReplaceAll(BiFunction<? super K, ? super V, ? extends V> function, ForkJoinPool pool, int threshold)
+      throws IllegalArgumentException, ConcurrentModificationException {
+    ParallelSupport.checkThreshold(threshold);
+    Map<KW, VW> wrapped = getWrapped();
+    if (wrapped instanceof ConcurrentHashMap) {
+      ConcurrentHashMap<KW, VW> chm = (ConcurrentHashMap<KW, VW>) wrapped;
+      TransformStats.bulkOperation(keyTransformer, valueTransformer);
+      BulkViewOperationEvent event = new BulkViewOperationEvent();
+      event.begin();
+      chm.forEach(threshold, (kw, vw) -> {
+        K key = keyTransformer.fromWrapped(kw);
+        for (VW oldVW = vw; oldVW != null; oldVW = chm.get(kw)) {
+          VW newVW = valueTransformer.toWrapped(function.apply(key, valueTransformer.fromWrapped(oldVW)));
+          if (chm.replace(kw, oldVW, newVW)) {
+            break;
+          }
+        }
+      });
+      event.commit(this, "parallelReplaceAll", wrapped);
+    } else if (wrapped.size() <= threshold) {
+      replaceAll(function);
+    } else {
+      TransformStats.bulkOperation(keyTransformer, valueTransformer);
+      BulkViewOperationEvent event = new BulkViewOperationEvent();
+      event.begin();
+      int size = wrapped.size();
+      Object[] keys = new Object[size];
+      Object[] results = new Object[size];
+      int i = 0;
+      for (Map.Entry<KW, VW> entry : wrapped.entrySet()) {
+        if (i == size) {
+          throw new ConcurrentModificationException();
+        }
+        keys[i] = entry.getKey();
+        results[i] = entry.getValue();
+        i++;
+      }
+      if (i != size) {
+        throw new ConcurrentModificationException();
+      }
+      ParallelSupport.forEachIndex(pool, size, threshold, (from, to) -> {
+        for (int j = from; j < to; j++) {
+          @SuppressWarnings("unchecked")
+          VW vw = (VW) results[j];
+          @SuppressWarnings("unchecked")
+          KW kw = (KW) keys[j];
+          results[j] = valueTransformer.toWrapped(function.apply(keyTransformer.fromWrapped(kw),
+              valueTransformer.fromWrapped(vw)
+          )
+          );
+        }
+      });
+      wrapped.replaceAll(new ParallelSupport.ValueReplacements<>(keys, results));
+      event.commit(this, "parallelReplaceAll", wrapped);
+    }
   }
 
   @Override
@@ -295,17 +447,30 @@ public class TransformMap<K, V, KW, VW> implements Map<K, V> {
     );
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The key and old value are converted {@linkplain Transformer#unbounded() as queries}, since they are only looked
+   * up.</p>
+   */
   @Override
+  @SuppressWarnings("unchecked")
   public boolean replace(K key, V oldValue, V newValue) {
-    return getWrapped().replace(keyTransformer.toWrapped(key),
-        valueTransformer.toWrapped(oldValue),
+    return getWrapped().replace((KW) keyTransformer.unbounded().toWrapped(key),
+        (VW) valueTransformer.unbounded().toWrapped(oldValue),
         valueTransformer.toWrapped(newValue)
     );
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The key is converted {@linkplain Transformer#unbounded() as a query}, since it is only looked up.</p>
+   */
   @Override
+  @SuppressWarnings("unchecked")
   public V replace(K key, V value) {
-    return valueTransformer.fromWrapped(getWrapped().replace(keyTransformer.toWrapped(key),
+    return valueTransformer.fromWrapped(getWrapped().replace((KW) keyTransformer.unbounded().toWrapped(key),
         valueTransformer.toWrapped(value)
     )
     );
@@ -321,9 +486,15 @@ public class TransformMap<K, V, KW, VW> implements Map<K, V> {
     );
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The key is converted {@linkplain Transformer#unbounded() as a query}, since it is only looked up.</p>
+   */
   @Override
+  @SuppressWarnings("unchecked")
   public V computeIfPresent(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
-    return valueTransformer.fromWrapped(getWrapped().computeIfPresent(keyTransformer.toWrapped(key),
+    return valueTransformer.fromWrapped(getWrapped().computeIfPresent((KW) keyTransformer.unbounded().toWrapped(key),
         (kw, vw) -> valueTransformer.toWrapped(remappingFunction.apply(keyTransformer.fromWrapped(kw),
             valueTransformer.fromWrapped(vw)
         )
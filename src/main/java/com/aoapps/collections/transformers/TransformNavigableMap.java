@@ -1,6 +1,6 @@
 /*
  * ao-collections-transformers - Bi-directional collection transformations for Java.
- * Copyright (C) 2020, 2021, 2022  AO Industries, Inc.
+ * Copyright (C) 2020, 2021, 2022, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -23,7 +23,13 @@
 
 package com.aoapps.collections.transformers;
 
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.NavigableMap;
+import java.util.RandomAccess;
+import java.util.function.BiConsumer;
 
 /**
  * Wraps a {@link NavigableMap}, with optional type conversion.
@@ -145,63 +151,232 @@ public class TransformNavigableMap<K, V, KW, VW> extends TransformSortedMap<K, V
     );
   }
 
+  private TransformNavigableMap<K, V, KW, VW> descendingMap;
+
   @Override
   public TransformNavigableMap<K, V, KW, VW> descendingMap() {
-    return of(getWrapped().descendingMap(),
-        keyTransformer,
-        valueTransformer
-    );
+    TransformNavigableMap<K, V, KW, VW> dm = descendingMap;
+    if (dm == null) {
+      dm = of(getWrapped().descendingMap(),
+          keyTransformer,
+          valueTransformer
+      );
+      dm.descendingMap = this;
+      descendingMap = dm;
+    }
+    return dm;
   }
 
+  private TransformNavigableSet<K, KW> navigableKeySet;
+
   @Override
   public TransformNavigableSet<K, KW> navigableKeySet() {
-    return TransformNavigableSet.of(getWrapped().navigableKeySet(),
-        keyTransformer
-    );
+    TransformNavigableSet<K, KW> nks = navigableKeySet;
+    if (nks == null) {
+      nks = TransformNavigableSet.of(getWrapped().navigableKeySet(),
+          keyTransformer
+      );
+      navigableKeySet = nks;
+    }
+    return nks;
   }
 
   @Override
   public TransformNavigableSet<K, KW> descendingKeySet() {
-    return TransformNavigableSet.of(getWrapped().descendingKeySet(),
-        keyTransformer
-    );
+    return navigableKeySet().descendingSet();
   }
 
+  private RangeViewCache<K, TransformNavigableMap<K, V, KW, VW>> rangeViews;
+
+  private RangeViewCache<K, TransformNavigableMap<K, V, KW, VW>> getRangeViews() {
+    RangeViewCache<K, TransformNavigableMap<K, V, KW, VW>> rv = rangeViews;
+    if (rv == null) {
+      rv = new RangeViewCache<>();
+      rangeViews = rv;
+    }
+    return rv;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Recently used views are cached by their bounds, so repeated calls with equal bounds return the same view.</p>
+   */
   @Override
   public TransformNavigableMap<K, V, KW, VW> subMap(K fromKey, boolean fromInclusive, K toKey, boolean toInclusive) {
-    return of(
-        getWrapped().subMap(
-            keyTransformer.toWrapped(fromKey),
-            fromInclusive,
-            keyTransformer.toWrapped(toKey),
-            toInclusive
-        ),
-        keyTransformer,
-        valueTransformer
-    );
+    RangeViewCache<K, TransformNavigableMap<K, V, KW, VW>> rv = getRangeViews();
+    TransformNavigableMap<K, V, KW, VW> view = rv.get(RangeViewCache.SUB, fromKey, fromInclusive, toKey, toInclusive);
+    if (view == null) {
+      view = rv.put(RangeViewCache.SUB, fromKey, fromInclusive, toKey, toInclusive, of(
+          getWrapped().subMap(
+              keyTransformer.toWrapped(fromKey),
+              fromInclusive,
+              keyTransformer.toWrapped(toKey),
+              toInclusive
+          ),
+          keyTransformer,
+          valueTransformer
+      ));
+    }
+    return view;
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Recently used views are cached by their bounds, so repeated calls with equal bounds return the same view.</p>
+   */
   @Override
   public TransformNavigableMap<K, V, KW, VW> headMap(K toKey, boolean inclusive) {
-    return of(
-        getWrapped().headMap(
-            keyTransformer.toWrapped(toKey),
-            inclusive
-        ),
-        keyTransformer,
-        valueTransformer
-    );
+    RangeViewCache<K, TransformNavigableMap<K, V, KW, VW>> rv = getRangeViews();
+    TransformNavigableMap<K, V, KW, VW> view = rv.get(RangeViewCache.HEAD, null, false, toKey, inclusive);
+    if (view == null) {
+      view = rv.put(RangeViewCache.HEAD, null, false, toKey, inclusive, of(
+          getWrapped().headMap(
+              keyTransformer.toWrapped(toKey),
+              inclusive
+          ),
+          keyTransformer,
+          valueTransformer
+      ));
+    }
+    return view;
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Recently used views are cached by their bounds, so repeated calls with equal bounds return the same view.</p>
+   */
   @Override
   public TransformNavigableMap<K, V, KW, VW> tailMap(K fromKey, boolean inclusive) {
-    return of(
-        getWrapped().tailMap(
-            keyTransformer.toWrapped(fromKey),
-            inclusive
-        ),
-        keyTransformer,
-        valueTransformer
+    RangeViewCache<K, TransformNavigableMap<K, V, KW, VW>> rv = getRangeViews();
+    TransformNavigableMap<K, V, KW, VW> view = rv.get(RangeViewCache.TAIL, fromKey, inclusive, null, false);
+    if (view == null) {
+      view = rv.put(RangeViewCache.TAIL, fromKey, inclusive, null, false, of(
+          getWrapped().tailMap(
+              keyTransformer.toWrapped(fromKey),
+              inclusive
+          ),
+          keyTransformer,
+          valueTransformer
+      ));
+    }
+    return view;
+  }
+
+  @Override
+  public TransformNavigableMap<K, V, KW, VW> subMap(K fromKey, K toKey) {
+    return subMap(fromKey, true, toKey, false);
+  }
+
+  @Override
+  public TransformNavigableMap<K, V, KW, VW> headMap(K toKey) {
+    return headMap(toKey, false);
+  }
+
+  @Override
+  public TransformNavigableMap<K, V, KW, VW> tailMap(K fromKey) {
+    return tailMap(fromKey, true);
+  }
+
+  /**
+   * A read-only list over the first {@code size} elements of a reusable array.
+   */
+  private static final class Batch<T> extends AbstractList<T> implements RandomAccess {
+    private Object[] elements;
+    private int size;
+
+    private Batch(int batchSize) {
+      elements = new Object[Math.min(batchSize, 256)];
+    }
+
+    private void append(Object element) {
+      if (size == elements.length) {
+        elements = Arrays.copyOf(elements, size << 1);
+      }
+      elements[size++] = element;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+      if (index < 0 || index >= size) {
+        throw new IndexOutOfBoundsException(Integer.toString(index));
+      }
+      return (T) elements[index];
+    }
+
+    @Override
+    public int size() {
+      return size;
+    }
+
+    private void reset() {
+      Arrays.fill(elements, 0, size, null);
+      size = 0;
+    }
+  }
+
+  /**
+   * Scans a range of this map in batches.  The entries of the range of the wrapped map are iterated directly,
+   * converting their keys and values into parallel lists of up to {@code batchSize} elements, which are passed to
+   * the consumer as each fills, then once more for any final partial batch.  No transformed views or entries are
+   * created.
+   *
+   * <p>The lists are read-only and are reused between batches: they are only valid for the duration of the call to
+   * the consumer, and must be copied to be retained.</p>
+   *
+   * @param  batchSize  The maximum number of entries per batch, at least one
+   * @param  consumer  Receives the keys and values of each batch, in the iteration order of this map
+   *
+   * @return  The number of entries scanned
+   *
+   * @throws  IllegalArgumentException  when {@code batchSize < 1}, or as {@link #subMap(java.lang.Object, boolean, java.lang.Object, boolean)}
+   */
+  public long scan(
+      K fromKey,
+      boolean fromInclusive,
+      K toKey,
+      boolean toInclusive,
+      int batchSize,
+      BiConsumer<? super List<K>, ? super List<V>> consumer
+  ) throws IllegalArgumentException {
+    if (batchSize < 1) {
+      throw new IllegalArgumentException("batchSize < 1: " + batchSize);
+    }
+    NavigableMap<KW, VW> range = getWrapped().subMap(
+        keyTransformer.toWrapped(fromKey),
+        fromInclusive,
+        keyTransformer.toWrapped(toKey),
+        toInclusive
     );
+    TransformStats.iteration(keyTransformer, valueTransformer);
+    BulkViewOperationEvent event = new BulkViewOperationEvent();
+    event.begin();
+    Batch<K> keys = null;
+    Batch<V> values = null;
+    long count = 0;
+    for (Map.Entry<KW, VW> entry : range.entrySet()) {
+      if (keys == null) {
+        keys = new Batch<>(batchSize);
+        values = new Batch<>(batchSize);
+      }
+      keys.append(keyTransformer.fromWrapped(entry.getKey()));
+      values.append(valueTransformer.fromWrapped(entry.getValue()));
+      count++;
+      if (keys.size == batchSize) {
+        consumer.accept(keys, values);
+        keys.reset();
+        values.reset();
+      }
+    }
+    if (keys != null && keys.size > 0) {
+      consumer.accept(keys, values);
+      keys.reset();
+      values.reset();
+    }
+    event.commit(this, "scan", range);
+    return count;
   }
 }
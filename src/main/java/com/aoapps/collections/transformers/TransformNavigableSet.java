@@ -1,6 +1,6 @@
 /*
  * ao-collections-transformers - Bi-directional collection transformations for Java.
- * Copyright (C) 2020, 2021, 2022  AO Industries, Inc.
+ * Copyright (C) 2020, 2021, 2022, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -87,48 +87,113 @@ public class TransformNavigableSet<E, W> extends TransformSortedSet<E, W> implem
     return transformer.fromWrapped(getWrapped().pollLast());
   }
 
+  private TransformNavigableSet<E, W> descendingSet;
+
   @Override
   public TransformNavigableSet<E, W> descendingSet() {
-    return of(getWrapped().descendingSet(), transformer);
+    TransformNavigableSet<E, W> ds = descendingSet;
+    if (ds == null) {
+      ds = of(getWrapped().descendingSet(), transformer);
+      ds.descendingSet = this;
+      descendingSet = ds;
+    }
+    return ds;
   }
 
   @Override
   public TransformIterator<E, W> descendingIterator() {
+    TransformStats.iteration(transformer);
     return TransformIterator.of(getWrapped().descendingIterator(), transformer);
   }
 
+  private RangeViewCache<E, TransformNavigableSet<E, W>> rangeViews;
+
+  private RangeViewCache<E, TransformNavigableSet<E, W>> getRangeViews() {
+    RangeViewCache<E, TransformNavigableSet<E, W>> rv = rangeViews;
+    if (rv == null) {
+      rv = new RangeViewCache<>();
+      rangeViews = rv;
+    }
+    return rv;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Recently used views are cached by their bounds, so repeated calls with equal bounds return the same view.</p>
+   */
   @Override
   public TransformNavigableSet<E, W> subSet(E fromElement, boolean fromInclusive, E toElement, boolean toInclusive) {
-    return of(
-        getWrapped().subSet(
-            transformer.toWrapped(fromElement),
-            fromInclusive,
-            transformer.toWrapped(toElement),
-            toInclusive
-        ),
-        transformer
-    );
+    RangeViewCache<E, TransformNavigableSet<E, W>> rv = getRangeViews();
+    TransformNavigableSet<E, W> view = rv.get(RangeViewCache.SUB, fromElement, fromInclusive, toElement, toInclusive);
+    if (view == null) {
+      view = rv.put(RangeViewCache.SUB, fromElement, fromInclusive, toElement, toInclusive, of(
+          getWrapped().subSet(
+              transformer.toWrapped(fromElement),
+              fromInclusive,
+              transformer.toWrapped(toElement),
+              toInclusive
+          ),
+          transformer
+      ));
+    }
+    return view;
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Recently used views are cached by their bounds, so repeated calls with equal bounds return the same view.</p>
+   */
   @Override
   public TransformNavigableSet<E, W> headSet(E toElement, boolean inclusive) {
-    return of(
-        getWrapped().headSet(
-            transformer.toWrapped(toElement),
-            inclusive
-        ),
-        transformer
-    );
+    RangeViewCache<E, TransformNavigableSet<E, W>> rv = getRangeViews();
+    TransformNavigableSet<E, W> view = rv.get(RangeViewCache.HEAD, null, false, toElement, inclusive);
+    if (view == null) {
+      view = rv.put(RangeViewCache.HEAD, null, false, toElement, inclusive, of(
+          getWrapped().headSet(
+              transformer.toWrapped(toElement),
+              inclusive
+          ),
+          transformer
+      ));
+    }
+    return view;
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Recently used views are cached by their bounds, so repeated calls with equal bounds return the same view.</p>
+   */
   @Override
   public TransformNavigableSet<E, W> tailSet(E fromElement, boolean inclusive) {
-    return of(
-        getWrapped().tailSet(
-            transformer.toWrapped(fromElement),
-            inclusive
-        ),
-        transformer
-    );
+    RangeViewCache<E, TransformNavigableSet<E, W>> rv = getRangeViews();
+    TransformNavigableSet<E, W> view = rv.get(RangeViewCache.TAIL, fromElement, inclusive, null, false);
+    if (view == null) {
+      view = rv.put(RangeViewCache.TAIL, fromElement, inclusive, null, false, of(
+          getWrapped().tailSet(
+              transformer.toWrapped(fromElement),
+              inclusive
+          ),
+          transformer
+      ));
+    }
+    return view;
+  }
+
+  @Override
+  public TransformNavigableSet<E, W> subSet(E fromElement, E toElement) {
+    return subSet(fromElement, true, toElement, false);
+  }
+
+  @Override
+  public TransformNavigableSet<E, W> headSet(E toElement) {
+    return headSet(toElement, false);
+  }
+
+  @Override
+  public TransformNavigableSet<E, W> tailSet(E fromElement) {
+    return tailSet(fromElement, true);
   }
 }
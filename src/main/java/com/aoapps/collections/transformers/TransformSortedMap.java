@@ -1,6 +1,6 @@
 /*
  * ao-collections-transformers - Bi-directional collection transformations for Java.
- * Copyright (C) 2020, 2021, 2022  AO Industries, Inc.
+ * Copyright (C) 2020, 2021, 2022, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -23,8 +23,10 @@
 
 package com.aoapps.collections.transformers;
 
+import java.util.Map;
 import java.util.NavigableMap;
 import java.util.SortedMap;
+import java.util.TreeMap;
 
 /**
  * Wraps a {@link SortedMap}, with optional type conversion.
@@ -70,6 +72,26 @@ public class TransformSortedMap<K, V, KW, VW> extends TransformMap<K, V, KW, VW>
     return (SortedMap<KW, VW>) super.getWrapped();
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>When the wrapped map is an empty {@link TreeMap}, the given map is converted and sorted first, so the
+   * {@link TreeMap} is built in linear time from sorted input instead of by individual inserts.</p>
+   */
+  @Override
+  public void putAll(Map<? extends K, ? extends V> m) {
+    SortedMap<KW, VW> wrapped = getWrapped();
+    if (wrapped instanceof TreeMap && wrapped.isEmpty() && !m.isEmpty()) {
+      TransformStats.bulkOperation(keyTransformer, valueTransformer);
+      BulkViewOperationEvent event = new BulkViewOperationEvent();
+      event.begin();
+      wrapped.putAll(SortedLoad.sortedMap(m, keyTransformer, valueTransformer, wrapped.comparator()));
+      event.commit(this, "putAll", m);
+    } else {
+      super.putAll(m);
+    }
+  }
+
   private TransformComparator<K, KW> comparator;
 
   @Override
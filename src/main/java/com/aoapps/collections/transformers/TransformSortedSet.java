@@ -1,6 +1,6 @@
 /*
  * ao-collections-transformers - Bi-directional collection transformations for Java.
- * Copyright (C) 2020, 2021, 2022  AO Industries, Inc.
+ * Copyright (C) 2020, 2021, 2022, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -23,8 +23,10 @@
 
 package com.aoapps.collections.transformers;
 
+import java.util.Collection;
 import java.util.NavigableSet;
 import java.util.SortedSet;
+import java.util.TreeSet;
 
 /**
  * Wraps a {@link SortedSet}, with optional type conversion.
@@ -66,6 +68,27 @@ public class TransformSortedSet<E, W> extends TransformSet<E, W> implements Sort
     return (SortedSet<W>) super.getWrapped();
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>When the wrapped set is an empty {@link TreeSet}, the given collection is converted and sorted first, so the
+   * {@link TreeSet} is built in linear time from sorted input instead of by individual inserts.</p>
+   */
+  @Override
+  public boolean addAll(Collection<? extends E> c) {
+    SortedSet<W> wrapped = getWrapped();
+    if (wrapped instanceof TreeSet && wrapped.isEmpty() && !c.isEmpty()) {
+      TransformStats.bulkOperation(transformer);
+      BulkViewOperationEvent event = new BulkViewOperationEvent();
+      event.begin();
+      boolean modified = wrapped.addAll(SortedLoad.sortedSet(c, transformer, wrapped.comparator()));
+      event.commit(this, "addAll", c);
+      return modified;
+    } else {
+      return super.addAll(c);
+    }
+  }
+
   private TransformComparator<E, W> comparator;
 
   @Override
@@ -0,0 +1,236 @@
+/*
+ * ao-collections-transformers - Bi-directional collection transformations for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections-transformers.
+ *
+ * ao-collections-transformers is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections-transformers is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections-transformers.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections.transformers;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Optional per-view statistics, grouped by a user-supplied view name.
+ *
+ * <p>Views are instrumented by wrapping their transformers with {@link #instrument(com.aoapps.collections.transformers.Transformer)}.
+ * The views detect instrumented transformers and also count their bulk operations and iterations.  Views derived
+ * from an instrumented view, such as {@link TransformMap#keySet()} or {@link TransformList#subList(int, int)}, share its
+ * statistics.</p>
+ *
+ * <p>Counters are {@link LongAdder}, so concurrent use from many threads does not contend on a single counter.</p>
+ *
+ * <pre>List&lt;Foo&gt; view = TransformList.of(
+ *   list,
+ *   TransformStats.getInstance("foos").instrument(fooTransformer)
+ * );</pre>
+ *
+ * @author  AO Industries, Inc.
+ */
+public final class TransformStats implements TransformStatsMXBean {
+
+  private static final String OBJECT_NAME_PREFIX = TransformStats.class.getPackageName() + ":type=TransformStats,name=";
+
+  private static final ConcurrentMap<String, TransformStats> instances = new ConcurrentHashMap<>();
+
+  /**
+   * Gets the statistics for the given view name, creating and registering them with the platform MBean server when
+   * first used.
+   *
+   * @throws  IllegalStateException  when unable to register the MXBean
+   */
+  public static TransformStats getInstance(String name) throws IllegalStateException {
+    return instances.computeIfAbsent(name, n -> {
+      TransformStats stats = new TransformStats(n);
+      try {
+        ManagementFactory.getPlatformMBeanServer().registerMBean(stats, stats.objectName);
+      } catch (JMException e) {
+        throw new IllegalStateException(e);
+      }
+      return stats;
+    });
+  }
+
+  /**
+   * Removes the statistics for the given view name and unregisters them from the platform MBean server.
+   * Views already instrumented continue to count into the removed instance.
+   *
+   * @return  {@code true} when statistics existed for the name
+   *
+   * @throws  IllegalStateException  when unable to unregister the MXBean
+   */
+  public static boolean remove(String name) throws IllegalStateException {
+    TransformStats stats = instances.remove(name);
+    if (stats == null) {
+      return false;
+    }
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    try {
+      if (server.isRegistered(stats.objectName)) {
+        server.unregisterMBean(stats.objectName);
+      }
+    } catch (JMException e) {
+      throw new IllegalStateException(e);
+    }
+    return true;
+  }
+
+  /**
+   * Gets the statistics a transformer is counting into.
+   *
+   * @return  The statistics or {@code null} when not instrumented
+   */
+  static TransformStats of(Transformer<?, ?> transformer) {
+    if (transformer instanceof CountingTransformer) {
+      return ((CountingTransformer<?, ?>) transformer).stats;
+    }
+    if (transformer instanceof MapEntryTransformer) {
+      MapEntryTransformer<?, ?, ?, ?> entryTransformer = (MapEntryTransformer<?, ?, ?, ?>) transformer;
+      TransformStats stats = of(entryTransformer.keyTransformer);
+      return (stats != null) ? stats : of(entryTransformer.valueTransformer);
+    }
+    return null;
+  }
+
+  /**
+   * Counts a bulk operation when the given transformer is instrumented.
+   */
+  static void bulkOperation(Transformer<?, ?> transformer) {
+    TransformStats stats = of(transformer);
+    if (stats != null) {
+      stats.bulkOperations.increment();
+    }
+  }
+
+  /**
+   * Counts a bulk operation on a map, once per distinct statistics of its key and value transformers.
+   */
+  static void bulkOperation(Transformer<?, ?> keyTransformer, Transformer<?, ?> valueTransformer) {
+    TransformStats keyStats = of(keyTransformer);
+    if (keyStats != null) {
+      keyStats.bulkOperations.increment();
+    }
+    TransformStats valueStats = of(valueTransformer);
+    if (valueStats != null && valueStats != keyStats) {
+      valueStats.bulkOperations.increment();
+    }
+  }
+
+  /**
+   * Counts an iteration when the given transformer is instrumented.
+   */
+  static void iteration(Transformer<?, ?> transformer) {
+    TransformStats stats = of(transformer);
+    if (stats != null) {
+      stats.iterations.increment();
+    }
+  }
+
+  /**
+   * Counts an iteration of a map, once per distinct statistics of its key and value transformers.
+   */
+  static void iteration(Transformer<?, ?> keyTransformer, Transformer<?, ?> valueTransformer) {
+    TransformStats keyStats = of(keyTransformer);
+    if (keyStats != null) {
+      keyStats.iterations.increment();
+    }
+    TransformStats valueStats = of(valueTransformer);
+    if (valueStats != null && valueStats != keyStats) {
+      valueStats.iterations.increment();
+    }
+  }
+
+  private final String name;
+  private final ObjectName objectName;
+
+  final LongAdder toWrapped = new LongAdder();
+  final LongAdder fromWrapped = new LongAdder();
+  final LongAdder unboundedFallbacks = new LongAdder();
+  private final LongAdder bulkOperations = new LongAdder();
+  private final LongAdder iterations = new LongAdder();
+
+  private TransformStats(String name) {
+    this.name = name;
+    try {
+      this.objectName = new ObjectName(OBJECT_NAME_PREFIX + ObjectName.quote(name));
+    } catch (JMException e) {
+      throw new IllegalArgumentException(e);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return TransformStats.class.getSimpleName() + '(' + name + ')';
+  }
+
+  /**
+   * Wraps a transformer to count its conversions into these statistics.
+   * Its inverse counts into the same statistics, with the directions swapped.
+   */
+  public <E, W> Transformer<E, W> instrument(Transformer<E, W> transformer) {
+    if (transformer instanceof CountingTransformer && ((CountingTransformer<E, W>) transformer).stats == this) {
+      return transformer;
+    }
+    return new CountingTransformer<>(transformer, this);
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public long getToWrappedCount() {
+    return toWrapped.sum();
+  }
+
+  @Override
+  public long getFromWrappedCount() {
+    return fromWrapped.sum();
+  }
+
+  @Override
+  public long getUnboundedFallbackCount() {
+    return unboundedFallbacks.sum();
+  }
+
+  @Override
+  public long getBulkOperationCount() {
+    return bulkOperations.sum();
+  }
+
+  @Override
+  public long getIterationCount() {
+    return iterations.sum();
+  }
+
+  @Override
+  public void reset() {
+    toWrapped.reset();
+    fromWrapped.reset();
+    unboundedFallbacks.reset();
+    bulkOperations.reset();
+    iterations.reset();
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * ao-collections-transformers - Bi-directional collection transformations for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections-transformers.
+ *
+ * ao-collections-transformers is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections-transformers is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections-transformers.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections.transformers;
+
+/**
+ * Management interface for {@link TransformStats}, registered with the platform MBean server as
+ * {@code com.aoapps.collections.transformers:type=TransformStats,name="<name>"}.
+ *
+ * @author  AO Industries, Inc.
+ */
+public interface TransformStatsMXBean {
+
+  /**
+   * Gets the user-supplied view name these statistics are grouped by.
+   */
+  String getName();
+
+  /**
+   * Gets the number of conversions from the wrapper to the wrapped type.
+   */
+  long getToWrappedCount();
+
+  /**
+   * Gets the number of conversions from the wrapped to the wrapper type.
+   */
+  long getFromWrappedCount();
+
+  /**
+   * Gets the number of arguments passed through {@link Transformer#unbounded()} unconverted because they were not of the
+   * transformer's type.
+   */
+  long getUnboundedFallbackCount();
+
+  /**
+   * Gets the number of bulk operations, such as {@code addAll}, {@code removeIf}, or {@code putAll}.
+   */
+  long getBulkOperationCount();
+
+  /**
+   * Gets the number of iterations, by either iterator or {@code forEach}.
+   */
+  long getIterationCount();
+
+  /**
+   * Resets all counters to zero.
+   */
+  void reset();
+}
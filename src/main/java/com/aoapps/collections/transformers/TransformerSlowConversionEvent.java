@@ -0,0 +1,88 @@
+/*
+ * ao-collections-transformers - Bi-directional collection transformations for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections-transformers.
+ *
+ * ao-collections-transformers is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections-transformers is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections-transformers.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections.transformers;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight Recorder event for a single conversion that exceeded the configured threshold.
+ *
+ * <p>Disabled by default.  Enable with a setting such as
+ * {@code com.aoapps.collections.transformers.TransformerSlowConversion#enabled=true}
+ * and adjust {@code #threshold} as needed.  When disabled, the overhead is limited to a JIT-eliminated
+ * allocation and an enabled check.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+@Name(TransformerSlowConversionEvent.NAME)
+@Label("Transformer Slow Conversion")
+@Category({"AO Apps", "Collections Transformers"})
+@Description("A single conversion performed by a transformer that took longer than the threshold.")
+@Enabled(false)
+@Threshold("1 ms")
+final class TransformerSlowConversionEvent extends Event {
+
+  static final String NAME = "com.aoapps.collections.transformers.TransformerSlowConversion";
+
+  static final String TO_WRAPPED = "toWrapped";
+  static final String FROM_WRAPPED = "fromWrapped";
+
+  @Label("Transformer Class")
+  Class<?> transformerClass;
+
+  @Label("Direction")
+  @Description("Either \"toWrapped\" or \"fromWrapped\".")
+  String direction;
+
+  @Label("Wrapper Class")
+  Class<?> wrapperClass;
+
+  @Label("Wrapped Class")
+  Class<?> wrappedClass;
+
+  /**
+   * Ends the event and commits it when enabled and over threshold.
+   */
+  void commit(AbstractTransformer<?, ?> transformer, String direction) {
+    end();
+    if (shouldCommit()) {
+      if (transformer instanceof AbstractTransformer.Inverse) {
+        // Report as the original transformer
+        transformer = transformer.inverted;
+        direction = TO_WRAPPED.equals(direction) ? FROM_WRAPPED : TO_WRAPPED;
+      }
+      this.transformerClass = transformer.getClass();
+      this.direction = direction;
+      this.wrapperClass = transformer.eClass;
+      this.wrappedClass = transformer.wClass;
+      commit();
+    }
+  }
+}
@@ -0,0 +1,72 @@
+/*
+ * ao-collections-transformers - Bi-directional collection transformations for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections-transformers.
+ *
+ * ao-collections-transformers is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections-transformers is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections-transformers.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections.transformers;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for a view copying its transformed contents into a new array or collection.
+ *
+ * <p>Disabled by default.  Enable with a setting such as
+ * {@code com.aoapps.collections.transformers.ViewMaterialization#enabled=true}.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+@Name(ViewMaterializationEvent.NAME)
+@Label("View Materialization")
+@Category({"AO Apps", "Collections Transformers"})
+@Description("A transforming view copied all of its transformed contents.")
+@Enabled(false)
+final class ViewMaterializationEvent extends Event {
+
+  static final String NAME = "com.aoapps.collections.transformers.ViewMaterialization";
+
+  @Label("View Class")
+  Class<?> viewClass;
+
+  @Label("Transformer Class")
+  Class<?> transformerClass;
+
+  @Label("Size")
+  @Description("The number of elements materialized.")
+  int size;
+
+  /**
+   * Ends the event and commits it when enabled.
+   */
+  void commit(Object view, Transformer<?, ?> transformer, int size) {
+    end();
+    if (shouldCommit()) {
+      this.viewClass = view.getClass();
+      this.transformerClass = transformer.getClass();
+      this.size = size;
+      commit();
+    }
+  }
+}
@@ -0,0 +1,167 @@
+/*
+ * ao-collections-transformers - Bi-directional collection transformations for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections-transformers.
+ *
+ * ao-collections-transformers is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections-transformers is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections-transformers.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections.transformers;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interns values by equality, holding them only weakly, so an interned value is discarded once no longer otherwise
+ * reachable.  Thread-safe and lock-free for values already interned.
+ *
+ * @author  AO Industries, Inc.
+ */
+final class WeakInterner<T> {
+
+  /**
+   * Compares by the equality of referents, so a lookup key finds the weak key of an equal value.
+   */
+  private abstract static class Key<T> {
+    abstract T value();
+
+    abstract int hash();
+
+    @Override
+    public final int hashCode() {
+      return hash();
+    }
+
+    @Override
+    public final boolean equals(Object o) {
+      if (o == this) {
+        return true;
+      }
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key<?> other = (Key<?>) o;
+      if (hash() != other.hash()) {
+        return false;
+      }
+      T value = value();
+      return value != null && value.equals(other.value());
+    }
+  }
+
+  /**
+   * Finds an interned value.
+   */
+  private static final class Lookup<T> extends Key<T> {
+    private final T value;
+    private final int hash;
+
+    private Lookup(T value) {
+      this.value = value;
+      this.hash = value.hashCode();
+    }
+
+    @Override
+    T value() {
+      return value;
+    }
+
+    @Override
+    int hash() {
+      return hash;
+    }
+  }
+
+  /**
+   * Holds an interned value.  Once cleared, it is only equal to itself, which is how it is removed.
+   */
+  private static final class WeakKey<T> extends WeakReference<T> {
+    private final int hash;
+    private final Key<T> key = new Key<>() {
+      @Override
+      T value() {
+        return WeakKey.this.get();
+      }
+
+      @Override
+      int hash() {
+        return hash;
+      }
+    };
+
+    private WeakKey(T value, ReferenceQueue<? super T> queue) {
+      super(value, queue);
+      this.hash = value.hashCode();
+    }
+  }
+
+  private final ConcurrentHashMap<Key<T>, WeakKey<T>> map = new ConcurrentHashMap<>();
+  private final ReferenceQueue<T> queue = new ReferenceQueue<>();
+
+  /**
+   * Removes the entries of discarded values.
+   */
+  @SuppressWarnings("unchecked")
+  private void expunge() {
+    WeakKey<T> ref;
+    while ((ref = (WeakKey<T>) queue.poll()) != null) {
+      map.remove(ref.key, ref);
+    }
+  }
+
+  /**
+   * Gets the interned value equal to the given value, interning the given value when none.
+   *
+   * @return  The interned value or {@code null} when {@code value} is {@code null}
+   */
+  T intern(T value) {
+    expunge();
+    if (value == null) {
+      return null;
+    }
+    WeakKey<T> existing = map.get(new Lookup<>(value));
+    if (existing != null) {
+      T interned = existing.get();
+      if (interned != null) {
+        return interned;
+      }
+    }
+    WeakKey<T> ref = new WeakKey<>(value, queue);
+    while (true) {
+      existing = map.putIfAbsent(ref.key, ref);
+      if (existing == null) {
+        return value;
+      }
+      T interned = existing.get();
+      if (interned != null) {
+        return interned;
+      }
+      // Discarded after being found, but not yet expunged
+      map.remove(existing.key, existing);
+    }
+  }
+
+  /**
+   * Gets the number of interned values, including those discarded but not yet removed.
+   */
+  int size() {
+    expunge();
+    return map.size();
+  }
+}
@@ -1,6 +1,6 @@
 /*
  * ao-collections-transformers - Bi-directional collection transformations for Java.
- * Copyright (C) 2021, 2022  AO Industries, Inc.
+ * Copyright (C) 2021, 2022, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -22,4 +22,7 @@
  */
 module com.aoapps.collections.transformers {
   exports com.aoapps.collections.transformers;
+  // Java SE
+  requires java.management;
+  requires jdk.jfr;
 }
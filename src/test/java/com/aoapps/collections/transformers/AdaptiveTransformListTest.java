@@ -0,0 +1,73 @@
+/*
+ * ao-collections-transformers - Bi-directional collection transformations for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections-transformers.
+ *
+ * ao-collections-transformers is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections-transformers is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections-transformers.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections.transformers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.Test;
+
+/**
+ * Tests {@link AdaptiveTransformList}.
+ *
+ * @author  AO Industries, Inc.
+ */
+public class AdaptiveTransformListTest {
+
+  private static AdaptiveTransformList<String, String> materialized() {
+    AdaptiveTransformList<String, String> list = AdaptiveTransformList.of(
+        new ArrayList<>(Arrays.asList("a", "b", "c", "d")),
+        Transformer.identity()
+    );
+    for (int i = 0; i < 100 && !list.isMaterialized(); i++) {
+      list.get(i % list.size());
+    }
+    assertTrue(list.isMaterialized());
+    return list;
+  }
+
+  @Test
+  public void testRemovingNothingStaysMaterialized() {
+    AdaptiveTransformList<String, String> list = materialized();
+    assertFalse(list.remove("x"));
+    assertFalse(list.removeAll(List.of("x", "y")));
+    assertFalse(list.removeIf("x"::equals));
+    assertFalse(list.retainAll(List.of("a", "b", "c", "d")));
+    assertFalse(list.parallelRemoveIf("x"::equals, ForkJoinPool.commonPool(), 1));
+    assertTrue(list.isMaterialized());
+  }
+
+  @Test
+  public void testRemovingDropsMaterialized() {
+    AdaptiveTransformList<String, String> list = materialized();
+    assertTrue(list.removeIf("b"::equals));
+    assertFalse(list.isMaterialized());
+    assertEquals(List.of("a", "c", "d"), list);
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * ao-collections-transformers - Bi-directional collection transformations for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections-transformers.
+ *
+ * ao-collections-transformers is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections-transformers is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections-transformers.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections.transformers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.Test;
+
+/**
+ * Tests {@link DictionaryTransformer}.
+ *
+ * @author  AO Industries, Inc.
+ */
+public class DictionaryTransformerTest {
+
+  @Test
+  public void testCollectionLookupsDoNotAssign() {
+    DictionaryTransformer<String> dictionary = new DictionaryTransformer<>(String.class);
+    Set<String> set = TransformSet.of(new HashSet<>(), dictionary);
+    set.add("a");
+    List<String> list = TransformList.of(new ArrayList<>(), dictionary);
+    list.add("a");
+    assertEquals(1, dictionary.size());
+    assertFalse(set.contains("b"));
+    assertFalse(set.remove("c"));
+    assertFalse(set.containsAll(Collections.singleton("d")));
+    assertFalse(set.removeAll(Collections.singleton("e")));
+    assertFalse(set.retainAll(Collections.singleton("a")));
+    assertEquals(-1, list.indexOf("f"));
+    assertEquals(-1, list.lastIndexOf("g"));
+    assertEquals(1, dictionary.size());
+  }
+
+  @Test
+  public void testMapLookupsDoNotAssign() {
+    DictionaryTransformer<String> dictionary = new DictionaryTransformer<>(String.class);
+    Map<String, String> map = TransformMap.of(new HashMap<>(), dictionary, Transformer.identity());
+    map.put("a", "1");
+    assertEquals(1, dictionary.size());
+    assertFalse(map.containsKey("b"));
+    assertNull(map.get("c"));
+    assertNull(map.remove("d"));
+    assertFalse(map.remove("e", "1"));
+    assertFalse(map.replace("f", "1", "2"));
+    assertNull(map.replace("g", "2"));
+    assertNull(map.computeIfPresent("h", (key, value) -> value));
+    assertFalse(map.keySet().contains("i"));
+    assertEquals(1, dictionary.size());
+    assertEquals("1", map.get("a"));
+  }
+}
@@ -0,0 +1,51 @@
+/*
+ * ao-collections-transformers - Bi-directional collection transformations for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections-transformers.
+ *
+ * ao-collections-transformers is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections-transformers is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections-transformers.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections.transformers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+
+/**
+ * Tests {@link ExpiringTransformMap}.
+ *
+ * @author  AO Industries, Inc.
+ */
+public class ExpiringTransformMapTest {
+
+  @Test
+  public void testPutNotEvicted() {
+    for (int run = 0; run < 10000; run++) {
+      Map<Integer, Integer> map = ExpiringTransformMap.of(new HashMap<>(), null, null, 2);
+      for (int i = 0; i < 3; i++) {
+        map.put(i, i);
+        assertTrue(map.containsKey(i));
+      }
+      assertEquals(2, map.size());
+    }
+  }
+}
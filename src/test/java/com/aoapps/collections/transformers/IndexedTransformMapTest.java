@@ -0,0 +1,124 @@
+/*
+ * ao-collections-transformers - Bi-directional collection transformations for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections-transformers.
+ *
+ * ao-collections-transformers is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections-transformers is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections-transformers.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections.transformers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import org.junit.Test;
+
+/**
+ * Tests {@link IndexedTransformMap}.
+ *
+ * @author  AO Industries, Inc.
+ */
+public class IndexedTransformMapTest {
+
+  /**
+   * Checks an index against one newly built from the current entries.
+   */
+  private static void assertConsistent(
+      IndexedTransformMap<String, Integer, String, Integer> map,
+      IndexedTransformMap<String, Integer, String, Integer>.Index<Boolean> index
+  ) {
+    IndexedTransformMap<String, Integer, String, Integer>.Index<Boolean> rebuilt = map.addIndex(value -> value % 2 == 0);
+    try {
+      assertEquals(rebuilt.asMap(), index.asMap());
+    } finally {
+      assertTrue(map.removeIndex(rebuilt));
+    }
+  }
+
+  @Test
+  public void testFailedReplaceAll() {
+    Map<String, Integer> wrapped = new HashMap<>();
+    for (int i = 0; i < 10; i++) {
+      wrapped.put(Integer.toString(i), i);
+    }
+    IndexedTransformMap<String, Integer, String, Integer> map = IndexedTransformMap.of(wrapped);
+    IndexedTransformMap<String, Integer, String, Integer>.Index<Boolean> even = map.addIndex(value -> value % 2 == 0);
+    try {
+      map.replaceAll((key, value) -> {
+        if (value == 5) {
+          throw new IllegalStateException();
+        }
+        return value + 1;
+      });
+      fail("Expected IllegalStateException");
+    } catch (IllegalStateException e) {
+      // Expected
+    }
+    assertConsistent(map, even);
+  }
+
+  @Test
+  public void testFailedClear() {
+    IndexedTransformMap<String, Integer, String, Integer> map = IndexedTransformMap.of(Collections.singletonMap("a", 2));
+    IndexedTransformMap<String, Integer, String, Integer>.Index<Boolean> even = map.addIndex(value -> value % 2 == 0);
+    try {
+      map.clear();
+      fail("Expected UnsupportedOperationException");
+    } catch (UnsupportedOperationException e) {
+      // Expected
+    }
+    assertEquals(Collections.singleton("a"), even.get(true));
+    assertConsistent(map, even);
+  }
+
+  @Test
+  public void testReaddedIndex() {
+    IndexedTransformMap<String, Integer, String, Integer> map = IndexedTransformMap.of();
+    IndexedTransformMap<String, Integer, String, Integer>.Index<Boolean> even = map.addIndex(value -> value % 2 == 0);
+    assertTrue(map.removeIndex(even));
+    map.put("a", 2);
+    even = map.addIndex(value -> value % 2 == 0);
+    map.put("b", 4);
+    map.remove("a");
+    Set<String> keys = even.get(true);
+    assertEquals(Collections.singleton("b"), keys);
+    assertConsistent(map, even);
+  }
+
+  @Test
+  public void testNullValuesNotIndexed() {
+    IndexedTransformMap<String, String, String, String> map = IndexedTransformMap.of();
+    IndexedTransformMap<String, String, String, String>.Index<Integer> length = map.addIndex(String::length);
+    map.put("k", "abc");
+    assertEquals(Collections.singleton("k"), length.get(3));
+    map.put("k", null);
+    assertEquals(Collections.emptyMap(), length.asMap());
+    map.put("k", "de");
+    assertEquals(Collections.singletonMap(2, Collections.singleton("k")), length.asMap());
+    map.remove("k");
+    map.put("n", null);
+    IndexedTransformMap<String, String, String, String>.Index<Integer> rebuilt = map.addIndex(String::length);
+    assertEquals(Collections.emptyMap(), rebuilt.asMap());
+    assertEquals(Collections.emptyMap(), length.asMap());
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * ao-collections-transformers - Bi-directional collection transformations for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections-transformers.
+ *
+ * ao-collections-transformers is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections-transformers is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections-transformers.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections.transformers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * Tests {@link IntHashMap}.
+ *
+ * @author  AO Industries, Inc.
+ */
+public class IntHashMapTest {
+
+  /**
+   * Removing the entry at the end of the arrays shifts the entry wrapped around to the start back to the end.
+   */
+  @Test
+  public void testRemoveWhileWrapping() {
+    IntHashMap<String> map = new IntHashMap<>();
+    map.put(3, "A");
+    map.put(8, "B");
+    List<Map.Entry<Integer, String>> seen = new ArrayList<>();
+    Iterator<Map.Entry<Integer, String>> iter = map.entrySet().iterator();
+    while (iter.hasNext()) {
+      Map.Entry<Integer, String> entry = iter.next();
+      seen.add(new AbstractMap.SimpleEntry<>(entry));
+      if (seen.size() == 1) {
+        iter.remove();
+      }
+    }
+    assertEquals(2, seen.size());
+    assertEquals(1, map.size());
+    assertTrue(map.containsKey(seen.get(1).getKey()));
+    assertEquals(seen.get(1).getValue(), map.get(seen.get(1).getKey()));
+  }
+
+  @Test
+  public void testRandomRemoveThroughIterator() {
+    Random random = new Random(1);
+    for (int round = 0; round < 10000; round++) {
+      IntHashMap<Integer> map = new IntHashMap<>();
+      Map<Integer, Integer> expected = new HashMap<>();
+      int range = 1 + random.nextInt(40);
+      for (int i = random.nextInt(14); i > 0; i--) {
+        int key = random.nextInt(range);
+        map.put(key, (Integer) key);
+        expected.put(key, key);
+      }
+      Map<Integer, Integer> original = new HashMap<>(expected);
+      int percent = random.nextInt(101);
+      Map<Integer, Integer> seen = new HashMap<>();
+      Iterator<Map.Entry<Integer, Integer>> iter = map.entrySet().iterator();
+      while (iter.hasNext()) {
+        Map.Entry<Integer, Integer> entry = iter.next();
+        assertEquals(null, seen.put(entry.getKey(), entry.getValue()));
+        if (random.nextInt(100) < percent) {
+          iter.remove();
+          expected.remove(entry.getKey());
+        }
+      }
+      assertEquals(original, seen);
+      assertEquals(expected, map);
+    }
+  }
+}
@@ -0,0 +1,161 @@
+/*
+ * ao-collections-transformers - Bi-directional collection transformations for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections-transformers.
+ *
+ * ao-collections-transformers is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections-transformers is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections-transformers.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections.transformers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import org.junit.Test;
+
+/**
+ * Tests {@link MappedTransformList}.
+ *
+ * @author  AO Industries, Inc.
+ */
+public class MappedTransformListTest {
+
+  /**
+   * Encodes integers as four bytes.
+   */
+  private static final class IntegerCodec implements RecordCodec<Integer> {
+    @Override
+    public Class<Integer> getElementClass() {
+      return Integer.class;
+    }
+
+    @Override
+    public int getRecordSize() {
+      return Integer.BYTES;
+    }
+
+    @Override
+    public void encode(Integer e, ByteBuffer buffer, int offset) {
+      buffer.putInt(offset, e);
+    }
+
+    @Override
+    public Integer decode(ByteBuffer buffer, int offset) {
+      return buffer.getInt(offset);
+    }
+  }
+
+  private static final IntegerCodec CODEC = new IntegerCodec();
+
+  private static void truncate(Path path, long size) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+      channel.truncate(size);
+    }
+  }
+
+  @Test
+  public void testReopen() throws IOException {
+    Path path = Files.createTempFile("MappedTransformListTest", null);
+    try {
+      Files.delete(path);
+      try (MappedTransformList<Integer> list = MappedTransformList.open(path, CODEC)) {
+        for (int i = 0; i < 1000; i++) {
+          list.add(i);
+        }
+      }
+      try (MappedTransformList<Integer> list = MappedTransformList.open(path, CODEC)) {
+        assertEquals(1000, list.size());
+        for (int i = 0; i < 1000; i++) {
+          assertEquals(i, (int) list.get(i));
+        }
+      }
+    } finally {
+      Files.deleteIfExists(path);
+    }
+  }
+
+  @Test
+  public void testTruncatedRecords() throws IOException {
+    Path path = Files.createTempFile("MappedTransformListTest", null);
+    try {
+      Files.delete(path);
+      try (MappedTransformList<Integer> list = MappedTransformList.open(path, CODEC)) {
+        for (int i = 0; i < 1000; i++) {
+          list.add(i);
+        }
+      }
+      truncate(path, MappedTransformList.HEADER_SIZE + 999 * Integer.BYTES);
+      try {
+        MappedTransformList.open(path, CODEC).close();
+        fail("Expected IOException");
+      } catch (IOException e) {
+        // Expected
+      }
+      // Not grown by the failed open
+      assertEquals(MappedTransformList.HEADER_SIZE + 999 * Integer.BYTES, Files.size(path));
+    } finally {
+      Files.deleteIfExists(path);
+    }
+  }
+
+  @Test
+  public void testTruncatedHeader() throws IOException {
+    Path path = Files.createTempFile("MappedTransformListTest", null);
+    try {
+      Files.write(path, new byte[MappedTransformList.HEADER_SIZE - 1]);
+      try {
+        MappedTransformList.open(path, CODEC).close();
+        fail("Expected IOException");
+      } catch (IOException e) {
+        // Expected
+      }
+    } finally {
+      Files.deleteIfExists(path);
+    }
+  }
+
+  @Test
+  public void testAlreadyOpen() throws IOException {
+    Path path = Files.createTempFile("MappedTransformListTest", null);
+    try {
+      Files.delete(path);
+      try (MappedTransformList<Integer> list = MappedTransformList.open(path, CODEC)) {
+        list.add(1);
+        try {
+          MappedTransformList.open(path, CODEC).close();
+          fail("Expected IOException");
+        } catch (IOException e) {
+          // Expected
+        }
+        assertEquals(List.of(1), list);
+      }
+      try (MappedTransformList<Integer> list = MappedTransformList.open(path, CODEC)) {
+        assertEquals(List.of(1), list);
+      }
+    } finally {
+      Files.deleteIfExists(path);
+    }
+  }
+}
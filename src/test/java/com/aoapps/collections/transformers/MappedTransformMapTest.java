@@ -0,0 +1,213 @@
+/*
+ * ao-collections-transformers - Bi-directional collection transformations for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections-transformers.
+ *
+ * ao-collections-transformers is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections-transformers is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections-transformers.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections.transformers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import org.junit.Test;
+
+/**
+ * Tests {@link MappedTransformMap}.
+ *
+ * @author  AO Industries, Inc.
+ */
+public class MappedTransformMapTest {
+
+  /**
+   * Encodes integers as four bytes.
+   */
+  private static final class IntegerCodec implements RecordCodec<Integer> {
+    @Override
+    public Class<Integer> getElementClass() {
+      return Integer.class;
+    }
+
+    @Override
+    public int getRecordSize() {
+      return Integer.BYTES;
+    }
+
+    @Override
+    public void encode(Integer e, ByteBuffer buffer, int offset) {
+      buffer.putInt(offset, e);
+    }
+
+    @Override
+    public Integer decode(ByteBuffer buffer, int offset) {
+      return buffer.getInt(offset);
+    }
+  }
+
+  private static final IntegerCodec CODEC = new IntegerCodec();
+
+  private static void truncate(Path path, long size) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+      channel.truncate(size);
+    }
+  }
+
+  @Test
+  public void testRehashAndReopen() throws IOException {
+    Path path = Files.createTempFile("MappedTransformMapTest", null);
+    Path rehashPath = path.resolveSibling(path.getFileName() + ".rehash");
+    try {
+      Files.delete(path);
+      try (MappedTransformMap<Integer, Integer> map = MappedTransformMap.open(path, CODEC, CODEC)) {
+        for (int i = 0; i < 1000; i++) {
+          map.put(i, -i);
+        }
+        for (int i = 0; i < 1000; i += 2) {
+          map.remove(i);
+        }
+        for (int i = 1000; i < 1500; i++) {
+          map.put(i, -i);
+        }
+      }
+      assertFalse(Files.exists(rehashPath));
+      try (MappedTransformMap<Integer, Integer> map = MappedTransformMap.open(path, CODEC, CODEC)) {
+        assertEquals(1000, map.size());
+        for (int i = 0; i < 1500; i++) {
+          assertEquals((i < 1000 && i % 2 == 0) ? null : -i, map.get(i));
+        }
+      }
+    } finally {
+      Files.deleteIfExists(path);
+      Files.deleteIfExists(rehashPath);
+    }
+  }
+
+  @Test
+  public void testInterruptedRehash() throws IOException {
+    Path path = Files.createTempFile("MappedTransformMapTest", null);
+    Path rehashPath = path.resolveSibling(path.getFileName() + ".rehash");
+    try {
+      Files.delete(path);
+      try (MappedTransformMap<Integer, Integer> map = MappedTransformMap.open(path, CODEC, CODEC)) {
+        for (int i = 0; i < 10; i++) {
+          map.put(i, -i);
+        }
+      }
+      // Crash after the copy of the full slots is written and the header records the rebuild, while clearing slots
+      int slotSize = 1 + 2 * Integer.BYTES;
+      try (
+          FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+          FileChannel out = FileChannel.open(rehashPath, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)
+      ) {
+        ByteBuffer header = ByteBuffer.allocate(MappedTransformMap.HEADER_SIZE);
+        channel.read(header, 0);
+        int capacity = header.getInt(20);
+        ByteBuffer slots = ByteBuffer.allocate(capacity * slotSize);
+        channel.read(slots, MappedTransformMap.HEADER_SIZE);
+        for (int i = 0; i < capacity; i++) {
+          if (slots.get(i * slotSize) == 1) {
+            out.write(ByteBuffer.wrap(slots.array(), i * slotSize, slotSize));
+          }
+        }
+        header.putInt(32, capacity * 2);
+        channel.write(header.clear(), 0);
+        channel.write(ByteBuffer.allocate(capacity / 2 * slotSize), MappedTransformMap.HEADER_SIZE);
+      }
+      try (MappedTransformMap<Integer, Integer> map = MappedTransformMap.open(path, CODEC, CODEC)) {
+        assertFalse(Files.exists(rehashPath));
+        assertEquals(10, map.size());
+        for (int i = 0; i < 10; i++) {
+          assertEquals(-i, (int) map.get(i));
+        }
+      }
+    } finally {
+      Files.deleteIfExists(path);
+      Files.deleteIfExists(rehashPath);
+    }
+  }
+
+  @Test
+  public void testTruncatedSlots() throws IOException {
+    Path path = Files.createTempFile("MappedTransformMapTest", null);
+    try {
+      Files.delete(path);
+      try (MappedTransformMap<Integer, Integer> map = MappedTransformMap.open(path, CODEC, CODEC)) {
+        map.put(1, 2);
+      }
+      truncate(path, MappedTransformMap.HEADER_SIZE + 1);
+      try {
+        MappedTransformMap.open(path, CODEC, CODEC).close();
+        fail("Expected IOException");
+      } catch (IOException e) {
+        // Expected
+      }
+      // Not grown by the failed open
+      assertEquals(MappedTransformMap.HEADER_SIZE + 1, Files.size(path));
+    } finally {
+      Files.deleteIfExists(path);
+    }
+  }
+
+  @Test
+  public void testTruncatedHeader() throws IOException {
+    Path path = Files.createTempFile("MappedTransformMapTest", null);
+    try {
+      Files.write(path, new byte[MappedTransformMap.HEADER_SIZE - 1]);
+      try {
+        MappedTransformMap.open(path, CODEC, CODEC).close();
+        fail("Expected IOException");
+      } catch (IOException e) {
+        // Expected
+      }
+    } finally {
+      Files.deleteIfExists(path);
+    }
+  }
+
+  @Test
+  public void testAlreadyOpen() throws IOException {
+    Path path = Files.createTempFile("MappedTransformMapTest", null);
+    try {
+      Files.delete(path);
+      try (MappedTransformMap<Integer, Integer> map = MappedTransformMap.open(path, CODEC, CODEC)) {
+        map.put(1, 2);
+        try {
+          MappedTransformMap.open(path, CODEC, CODEC).close();
+          fail("Expected IOException");
+        } catch (IOException e) {
+          // Expected
+        }
+        assertEquals(Map.of(1, 2), map);
+      }
+      try (MappedTransformMap<Integer, Integer> map = MappedTransformMap.open(path, CODEC, CODEC)) {
+        assertEquals(Map.of(1, 2), map);
+      }
+    } finally {
+      Files.deleteIfExists(path);
+    }
+  }
+}
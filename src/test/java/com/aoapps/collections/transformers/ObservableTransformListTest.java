@@ -0,0 +1,137 @@
+/*
+ * ao-collections-transformers - Bi-directional collection transformations for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections-transformers.
+ *
+ * ao-collections-transformers is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections-transformers is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections-transformers.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections.transformers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import org.junit.Test;
+
+/**
+ * Tests {@link ObservableTransformList}.
+ *
+ * @author  AO Industries, Inc.
+ */
+public class ObservableTransformListTest {
+
+  /**
+   * Applies the changes to a copy of the list, as a listener would.
+   */
+  private static ObservableTransformList<String, String> observe(List<String> list, List<String> copy) {
+    ObservableTransformList<String, String> observable = ObservableTransformList.of(list);
+    copy.addAll(list);
+    observable.addListener(changes -> {
+      for (CollectionChange<String> change : changes) {
+        switch (change.getType()) {
+          case ADDED:
+            copy.add(change.getIndex(), change.getElement());
+            break;
+          case REMOVED:
+            assertEquals(change.getElement(), copy.remove(change.getIndex()));
+            break;
+          case REPLACED:
+            assertEquals(change.getOldElement(), copy.set(change.getIndex(), change.getElement()));
+            break;
+          default:
+            throw new AssertionError();
+        }
+      }
+    });
+    return observable;
+  }
+
+  @Test
+  public void testFailedClearDeliversNothing() {
+    List<String> copy = new ArrayList<>();
+    ObservableTransformList<String, String> list = observe(Arrays.asList("p", "q"), copy);
+    try {
+      list.clear();
+      fail("Expected UnsupportedOperationException");
+    } catch (UnsupportedOperationException e) {
+      // Expected
+    }
+    assertEquals(Arrays.asList("p", "q"), copy);
+  }
+
+  @Test
+  public void testFailedRemoveIf() {
+    for (List<String> wrapped : Arrays.<List<String>>asList(new ArrayList<>(), new LinkedList<>())) {
+      wrapped.addAll(Arrays.asList("a", "b", "c", "d", "e"));
+      List<String> copy = new ArrayList<>();
+      ObservableTransformList<String, String> list = observe(wrapped, copy);
+      try {
+        list.removeIf(s -> {
+          if ("d".equals(s)) {
+            throw new IllegalStateException();
+          }
+          return !"c".equals(s);
+        });
+        fail("Expected IllegalStateException");
+      } catch (IllegalStateException e) {
+        // Expected
+      }
+      assertEquals(wrapped, copy);
+    }
+  }
+
+  @Test
+  public void testFailedReplaceAll() {
+    for (List<String> wrapped : Arrays.<List<String>>asList(new ArrayList<>(), new LinkedList<>())) {
+      wrapped.addAll(Arrays.asList("a", "b", "c"));
+      List<String> copy = new ArrayList<>();
+      ObservableTransformList<String, String> list = observe(wrapped, copy);
+      try {
+        list.replaceAll(s -> {
+          if ("c".equals(s)) {
+            throw new IllegalStateException();
+          }
+          return s + s;
+        });
+        fail("Expected IllegalStateException");
+      } catch (IllegalStateException e) {
+        // Expected
+      }
+      assertEquals(wrapped, copy);
+    }
+  }
+
+  @Test
+  public void testBulkOperations() {
+    List<String> copy = new ArrayList<>();
+    ObservableTransformList<String, String> list = observe(new ArrayList<>(), copy);
+    list.addAll(Arrays.asList("e", "d", "c", "b", "a"));
+    list.subList(1, 3).clear();
+    list.sort(null);
+    list.removeIf("b"::equals);
+    list.replaceAll(String::toUpperCase);
+    assertEquals(list, copy);
+    list.clear();
+    assertTrue(copy.isEmpty());
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * ao-collections-transformers - Bi-directional collection transformations for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections-transformers.
+ *
+ * ao-collections-transformers is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections-transformers is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections-transformers.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections.transformers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+
+/**
+ * Tests {@link ObservableTransformMap}.
+ *
+ * @author  AO Industries, Inc.
+ */
+public class ObservableTransformMapTest {
+
+  /**
+   * Applies the changes to a copy of the map, as a listener would.
+   */
+  private static ObservableTransformMap<String, Integer, String, Integer> observe(
+      Map<String, Integer> map,
+      Map<String, Integer> copy
+  ) {
+    ObservableTransformMap<String, Integer, String, Integer> observable = ObservableTransformMap.of(map);
+    copy.putAll(map);
+    observable.addListener(changes -> {
+      for (MapChange<String, Integer> change : changes) {
+        switch (change.getType()) {
+          case ADDED:
+            assertEquals(null, copy.put(change.getKey(), change.getValue()));
+            break;
+          case REMOVED:
+            assertEquals(change.getValue(), copy.remove(change.getKey()));
+            break;
+          case REPLACED:
+            assertEquals(change.getOldValue(), copy.put(change.getKey(), change.getValue()));
+            break;
+          default:
+            throw new AssertionError();
+        }
+      }
+    });
+    return observable;
+  }
+
+  @Test
+  public void testFailedClearDeliversNothing() {
+    Map<String, Integer> copy = new HashMap<>();
+    ObservableTransformMap<String, Integer, String, Integer> map = observe(Collections.singletonMap("a", 1), copy);
+    try {
+      map.clear();
+      fail("Expected UnsupportedOperationException");
+    } catch (UnsupportedOperationException e) {
+      // Expected
+    }
+    assertEquals(Collections.singletonMap("a", 1), copy);
+  }
+
+  @Test
+  public void testFailedReplaceAll() {
+    Map<String, Integer> wrapped = new HashMap<>();
+    for (int i = 0; i < 10; i++) {
+      wrapped.put(Integer.toString(i), i);
+    }
+    Map<String, Integer> copy = new HashMap<>();
+    ObservableTransformMap<String, Integer, String, Integer> map = observe(wrapped, copy);
+    try {
+      map.replaceAll((key, value) -> {
+        if (value == 5) {
+          throw new IllegalStateException();
+        }
+        return value * 10;
+      });
+      fail("Expected IllegalStateException");
+    } catch (IllegalStateException e) {
+      // Expected
+    }
+    assertEquals(wrapped, copy);
+  }
+
+  @Test
+  public void testFailedCompute() {
+    Map<String, Integer> copy = new HashMap<>();
+    ObservableTransformMap<String, Integer, String, Integer> map = observe(new HashMap<>(), copy);
+    try {
+      // Modifying the map from the function fails after the function returns
+      map.compute("a", (key, value) -> {
+        map.put("b", 2);
+        return 1;
+      });
+      fail("Expected ConcurrentModificationException");
+    } catch (ConcurrentModificationException e) {
+      // Expected
+    }
+    assertEquals(map, copy);
+    map.merge("a", 1, Integer::sum);
+    map.merge("a", 1, Integer::sum);
+    map.computeIfPresent("b", (key, value) -> null);
+    assertEquals(map, copy);
+  }
+}
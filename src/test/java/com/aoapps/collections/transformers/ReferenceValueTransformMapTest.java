@@ -0,0 +1,78 @@
+/*
+ * ao-collections-transformers - Bi-directional collection transformations for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections-transformers.
+ *
+ * ao-collections-transformers is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections-transformers is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections-transformers.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections.transformers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import org.junit.Test;
+
+/**
+ * Tests {@link ReferenceValueTransformMap}.
+ *
+ * @author  AO Industries, Inc.
+ */
+public class ReferenceValueTransformMapTest {
+
+  @Test
+  public void testRemoveAfterHasNext() {
+    // Values are held strongly by the literals, so none are reclaimed
+    Map<Integer, String> map = ReferenceValueTransformMap.of(ReferenceValueTransformMap.Strength.WEAK);
+    for (int i = 0; i < 100; i++) {
+      map.put(i, "value" + i);
+    }
+    Set<Integer> seen = new HashSet<>();
+    Iterator<Map.Entry<Integer, String>> iter = map.entrySet().iterator();
+    while (iter.hasNext()) {
+      Map.Entry<Integer, String> entry = iter.next();
+      assertTrue(seen.add(entry.getKey()));
+      if (iter.hasNext() && entry.getKey() % 2 == 0) {
+        iter.remove();
+      }
+    }
+    assertEquals(100, seen.size());
+    assertEquals(50, map.size());
+    for (int i = 0; i < 100; i++) {
+      assertEquals(i % 2 != 0, map.containsKey(i));
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testRemoveTwice() {
+    Map<Integer, String> map = ReferenceValueTransformMap.of(ReferenceValueTransformMap.Strength.WEAK);
+    map.put(1, "one");
+    map.put(2, "two");
+    Iterator<Map.Entry<Integer, String>> iter = map.entrySet().iterator();
+    iter.next();
+    assertTrue(iter.hasNext());
+    iter.remove();
+    assertFalse(map.isEmpty());
+    iter.remove();
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * ao-collections-transformers - Bi-directional collection transformations for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections-transformers.
+ *
+ * ao-collections-transformers is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections-transformers is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections-transformers.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections.transformers;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import org.junit.Test;
+
+/**
+ * Tests {@link TransformCollection}.
+ *
+ * @author  AO Industries, Inc.
+ */
+public class TransformCollectionTest {
+
+  @Test
+  public void testToArrayOfNarrowWrappedArray() {
+    Integer[] elements = {1, 2};
+    // A collection returning its own component type from toArray(), as allowed before Java 9
+    Collection<Integer> wrapped = new AbstractCollection<>() {
+      @Override
+      public Iterator<Integer> iterator() {
+        return Arrays.asList(elements).iterator();
+      }
+
+      @Override
+      public int size() {
+        return elements.length;
+      }
+
+      @Override
+      public Object[] toArray() {
+        return elements.clone();
+      }
+    };
+    Collection<String> collection = TransformCollection.of(
+        wrapped,
+        new FunctionalTransformer<>(String.class, Integer.class, Integer::valueOf, String::valueOf)
+    );
+    Object[] array = collection.toArray();
+    assertEquals(Object[].class, array.getClass());
+    assertArrayEquals(new Object[] {"1", "2"}, array);
+  }
+}
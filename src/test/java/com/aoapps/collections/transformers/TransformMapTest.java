@@ -0,0 +1,118 @@
+/*
+ * ao-collections-transformers - Bi-directional collection transformations for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections-transformers.
+ *
+ * ao-collections-transformers is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections-transformers is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections-transformers.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections.transformers;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.Test;
+
+/**
+ * Tests {@link TransformMap}.
+ *
+ * @author  AO Industries, Inc.
+ */
+public class TransformMapTest {
+
+  private static final LongTransformer<String> LONG_STRING = LongTransformer.of(
+      String.class,
+      Long::parseLong,
+      Long::toString
+  );
+
+  /**
+   * Boxed keys are new objects on each iteration, so must not be compared by identity.
+   */
+  @Test
+  public void testParallelReplaceAllBoxedKeys() {
+    LongKeyTransformMap<String, Integer, Integer> map = LongKeyTransformMap.of(LONG_STRING, Transformer.identity());
+    for (int i = 1000; i < 1100; i++) {
+      map.put(Integer.toString(i), i);
+    }
+    map.parallelReplaceAll((key, value) -> value + 1, ForkJoinPool.commonPool(), 10);
+    assertEquals(100, map.size());
+    for (int i = 1000; i < 1100; i++) {
+      assertEquals(Integer.valueOf(i + 1), map.get(Integer.toString(i)));
+    }
+  }
+
+  /**
+   * Keys of a nested view are converted again on each iteration.
+   */
+  @Test
+  public void testParallelReplaceAllNestedView() {
+    Map<Long, Integer> wrapped = new HashMap<>();
+    for (long i = 1000; i < 1100; i++) {
+      wrapped.put(i, (int) i);
+    }
+    TransformMap<String, Integer, String, Integer> map = TransformMap.of(
+        TransformMap.of(wrapped, LONG_STRING, Transformer.identity()),
+        Transformer.identity(),
+        Transformer.identity()
+    );
+    map.parallelReplaceAll((key, value) -> value * 2, ForkJoinPool.commonPool(), 10);
+    for (long i = 1000; i < 1100; i++) {
+      assertEquals(Integer.valueOf((int) i * 2), wrapped.get(i));
+    }
+  }
+
+  private static void assertParallelForEach(Map<Long, Integer> wrapped) {
+    for (long i = 1000; i < 1100; i++) {
+      wrapped.put(i, (int) i);
+    }
+    Map<String, Integer> seen = new ConcurrentHashMap<>();
+    TransformMap.of(wrapped, LONG_STRING, Transformer.<Integer>identity())
+        .parallelForEach((key, value) -> assertEquals(null, seen.put(key, value)), ForkJoinPool.commonPool(), 10);
+    assertEquals(100, seen.size());
+    for (long i = 1000; i < 1100; i++) {
+      assertEquals(Integer.valueOf((int) i), seen.get(Long.toString(i)));
+    }
+  }
+
+  @Test
+  public void testParallelForEach() {
+    assertParallelForEach(new HashMap<>());
+  }
+
+  @Test
+  public void testParallelForEachConcurrentHashMap() {
+    assertParallelForEach(new ConcurrentHashMap<>());
+  }
+
+  @Test
+  public void testParallelReplaceAllConcurrentHashMap() {
+    Map<Long, Integer> wrapped = new ConcurrentHashMap<>();
+    for (long i = 1000; i < 1100; i++) {
+      wrapped.put(i, (int) i);
+    }
+    TransformMap.of(wrapped, LONG_STRING, Transformer.<Integer>identity())
+        .parallelReplaceAll((key, value) -> Integer.parseInt(key) + value, ForkJoinPool.commonPool(), 10);
+    for (long i = 1000; i < 1100; i++) {
+      assertEquals(Integer.valueOf((int) i * 2), wrapped.get(i));
+    }
+  }
+}